@@ -24,6 +24,7 @@ import static ai.grakn.engine.TaskStatus.STOPPED;
 import static ai.grakn.util.ErrorMessage.READ_ONLY_QUERY;
 import static ai.grakn.util.REST.Request.BATCH_NUMBER;
 import static ai.grakn.util.REST.Request.KEYSPACE_PARAM;
+import static ai.grakn.util.REST.Request.TASK_LOADER_ENCODED_INSERTS;
 import static ai.grakn.util.REST.Request.TASK_LOADER_MUTATIONS;
 import static ai.grakn.util.REST.Request.TASK_STATUS_PARAMETER;
 import static ai.grakn.util.REST.WebPath.Tasks.TASKS;
@@ -32,7 +33,9 @@ import static java.util.stream.Collectors.toList;
 
 import ai.grakn.engine.TaskId;
 import ai.grakn.engine.TaskStatus;
+import ai.grakn.graql.InsertQuery;
 import ai.grakn.graql.Query;
+import ai.grakn.graql.internal.pattern.InsertEncoding;
 import ai.grakn.util.ErrorMessage;
 import ai.grakn.util.REST;
 import com.github.rholder.retry.Retryer;
@@ -240,11 +243,18 @@ public class BatchMutatorClient {
         }
 
 
+        // Inserts are sent pre-parsed when the whole batch can be, so engine does not need to parse them again.
+        // A batch is never split between the two encodings, because engine must execute the queries in order.
         Json configuration = Json.object()
                 .set(KEYSPACE_PARAM, keyspace)
-                .set(BATCH_NUMBER, batchNumber)
-                .set(TASK_LOADER_MUTATIONS,
-                        queries.stream().map(Query::toString).collect(toList()));
+                .set(BATCH_NUMBER, batchNumber);
+
+        if(queries.stream().allMatch(InsertEncoding::isEncodable)) {
+            configuration.set(TASK_LOADER_ENCODED_INSERTS,
+                    InsertEncoding.encode(queries.stream().map(InsertQuery.class::cast).collect(toList())));
+        } else {
+            configuration.set(TASK_LOADER_MUTATIONS, queries.stream().map(Query::toString).collect(toList()));
+        }
 
         Callable<TaskId> callable = () -> taskClient
                 .sendTask("ai.grakn.engine.loader.MutatorTask",
@@ -29,6 +29,9 @@ package ai.grakn;
  *         READ - A read only transaction. If you attempt to mutate the graph with such a transaction an exception will be thrown.
  *         WRITE - A transaction which allows you to mutate the graph.
  *         BATCH - A transaction which allows mutations to be performed more quickly but disables some consitency checks.
+ *         BULK - A batch transaction which also skips validation and the maintenance of materialised inferences. The
+ *                loaded data must be validated once loading is complete, see
+ *                {@link ai.grakn.graph.admin.GraknAdmin#finishBulkLoadOfRelations(ai.grakn.concept.ConceptId, int)}.
  * </p>
  *
   @author fppt
@@ -36,5 +39,6 @@ package ai.grakn;
 public enum GraknTxType {
     READ,  //Read only transaction where mutations to the graph are prohibited
     WRITE, //Write transaction where the graph can be mutated
-    BATCH //Batch transaction which enables faster writes by switching off some consitency checks
+    BATCH, //Batch transaction which enables faster writes by switching off some consitency checks
+    BULK //Batch transaction for initial loads which defers validation until the load is finished
 }
@@ -21,6 +21,7 @@ package ai.grakn.concept;
 import ai.grakn.exception.GraphOperationException;
 
 import java.util.Collection;
+import java.util.stream.Stream;
 
 /**
  * <p>
@@ -159,4 +160,22 @@ public interface EntityType extends Type{
      */
     @Override
     Collection<Entity> instances();
+
+    /**
+     * Get all instances of this EntityType, lazily.
+     *
+     * @return A stream of the instances of this EntityType
+     */
+    @Override
+    Stream<Entity> streamInstances();
+
+    /**
+     * Get a page of the instances of this EntityType.
+     *
+     * @param offset The number of instances to skip
+     * @param limit The maximum number of instances to return
+     * @return At most limit instances of this EntityType
+     */
+    @Override
+    Collection<Entity> instances(long offset, int limit);
 }
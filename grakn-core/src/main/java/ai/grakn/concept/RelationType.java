@@ -22,6 +22,7 @@ import ai.grakn.exception.GraphOperationException;
 
 import javax.annotation.CheckReturnValue;
 import java.util.Collection;
+import java.util.stream.Stream;
 
 /**
  * <p>
@@ -183,4 +184,22 @@ public interface RelationType extends Type {
      */
     @Override
     Collection<Relation> instances();
+
+    /**
+     * Get all instances of this RelationType, lazily.
+     *
+     * @return A stream of the instances of this RelationType
+     */
+    @Override
+    Stream<Relation> streamInstances();
+
+    /**
+     * Get a page of the instances of this RelationType.
+     *
+     * @param offset The number of instances to skip
+     * @param limit The maximum number of instances to return
+     * @return At most limit instances of this RelationType
+     */
+    @Override
+    Collection<Relation> instances(long offset, int limit);
 }
@@ -29,6 +29,7 @@ import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.Collection;
 import java.util.function.Function;
+import java.util.stream.Stream;
 
 /**
  * <p>
@@ -182,6 +183,24 @@ public interface ResourceType<D> extends Type {
     @Override
     Collection<Resource<D>> instances();
 
+    /**
+     * Get all instances of this ResourceType, lazily.
+     *
+     * @return A stream of the instances of this ResourceType
+     */
+    @Override
+    Stream<Resource<D>> streamInstances();
+
+    /**
+     * Get a page of the instances of this ResourceType.
+     *
+     * @param offset The number of instances to skip
+     * @param limit The maximum number of instances to return
+     * @return At most limit instances of this ResourceType
+     */
+    @Override
+    Collection<Resource<D>> instances(long offset, int limit);
+
     /**
      * Get the data type to which instances of the ResourceType must conform.
      *
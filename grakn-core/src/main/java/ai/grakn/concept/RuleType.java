@@ -22,6 +22,7 @@ import ai.grakn.graph.admin.GraknAdmin;
 import ai.grakn.graql.Pattern;
 
 import java.util.Collection;
+import java.util.stream.Stream;
 
 /**
  * <p>
@@ -145,4 +146,22 @@ public interface RuleType extends Type {
      */
     @Override
     Collection<Rule> instances();
+
+    /**
+     * Get all instances of this RuleType, lazily.
+     *
+     * @return A stream of the instances of this RuleType
+     */
+    @Override
+    Stream<Rule> streamInstances();
+
+    /**
+     * Get a page of the instances of this RuleType.
+     *
+     * @param offset The number of instances to skip
+     * @param limit The maximum number of instances to return
+     * @return At most limit instances of this RuleType
+     */
+    @Override
+    Collection<Rule> instances(long offset, int limit);
 }
@@ -22,6 +22,7 @@ import ai.grakn.exception.GraphOperationException;
 
 import javax.annotation.CheckReturnValue;
 import java.util.Collection;
+import java.util.stream.Stream;
 
 /**
  * <p>
@@ -149,6 +150,29 @@ public interface Type extends OntologyConcept {
     @CheckReturnValue
     Collection<? extends Thing> instances();
 
+    /**
+     * Get all indirect instances of this type, lazily.
+     *
+     * Unlike {@link #instances()}, the instances are read from the graph one at a time as the stream is consumed,
+     * so this can be used on types with more instances than fit in memory.
+     * The stream must be consumed within the transaction it was created in.
+     *
+     * @return A stream of all the indirect instances of this type.
+     */
+    @CheckReturnValue
+    Stream<? extends Thing> streamInstances();
+
+    /**
+     * Get a page of the indirect instances of this type, in the same order as {@link #streamInstances()}.
+     * Only the instances on the page are loaded.
+     *
+     * @param offset The number of instances to skip
+     * @param limit The maximum number of instances to return
+     * @return At most limit indirect instances of this type.
+     */
+    @CheckReturnValue
+    Collection<? extends Thing> instances(long offset, int limit);
+
     /**
      * Return if the type is set to abstract.
      *
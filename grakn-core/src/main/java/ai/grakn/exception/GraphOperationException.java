@@ -186,6 +186,13 @@ public class GraphOperationException extends GraknException{
         return new GraphOperationException(ErrorMessage.TRANSACTION_READ_ONLY.getMessage(graph.getKeyspace()));
     }
 
+    /**
+     * Thrown when attempting to finish a bulk load without a write transaction
+     */
+    public static GraphOperationException bulkLoadNotWrite(GraknGraph graph){
+        return new GraphOperationException(ErrorMessage.BULK_LOAD_NOT_WRITE.getMessage(graph.getKeyspace()));
+    }
+
     /**
      * Thrown when attempting to mutate the ontology while the transaction is in batch mode
      */
@@ -0,0 +1,67 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.graph.admin;
+
+import javax.annotation.CheckReturnValue;
+
+/**
+ * <p>
+ *     Cache of concept lookups
+ * </p>
+ *
+ * <p>
+ *     Remembers where the concepts previously looked up by id are stored so that other transactions of the same
+ *     session can find them without an index lookup. The cache is opt-in, bounded by weight and shared by all the
+ *     transactions of a session. Entries are dropped when a commit of the session modifies or deletes the concept,
+ *     and expire after the ontology cache timeout. Commits of other sessions are not seen, so lookups check that the
+ *     cached location still exists before using it.
+ * </p>
+ */
+public interface ConceptCache {
+
+    /**
+     * @return true if the cache has been enabled for the session
+     */
+    @CheckReturnValue
+    boolean isEnabled();
+
+    /**
+     * @return The number of concepts currently cached
+     */
+    @CheckReturnValue
+    long size();
+
+    /**
+     * @return The number of times a concept was found in the cache
+     */
+    @CheckReturnValue
+    long hitCount();
+
+    /**
+     * @return The number of times a concept was not found in the cache
+     */
+    @CheckReturnValue
+    long missCount();
+
+    /**
+     * @return The ratio of lookups which found the concept in the cache, or 1.0 when there have been no lookups
+     */
+    @CheckReturnValue
+    double hitRate();
+}
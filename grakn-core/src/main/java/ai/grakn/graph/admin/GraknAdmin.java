@@ -27,6 +27,8 @@ import ai.grakn.concept.RelationType;
 import ai.grakn.concept.ResourceType;
 import ai.grakn.concept.Role;
 import ai.grakn.concept.RuleType;
+import ai.grakn.concept.Thing;
+import ai.grakn.concept.Type;
 import ai.grakn.concept.LabelId;
 import ai.grakn.concept.Label;
 import ai.grakn.exception.InvalidGraphException;
@@ -35,9 +37,11 @@ import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 
 import javax.annotation.CheckReturnValue;
+import java.util.Collection;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Stream;
 
 /**
  * Admin interface for {@link GraknGraph}.
@@ -71,6 +75,15 @@ public interface GraknAdmin {
     @CheckReturnValue
     boolean isBatchGraph();
 
+    /**
+     * A flag to check if resource values of a data type are indexed in a way which supports looking up a range of values
+     *
+     * @param dataType The data type of the values
+     * @return true if range predicates on resource values of the data type can be answered using an index
+     */
+    @CheckReturnValue
+    boolean isValueRangeIndexed(ResourceType.DataType<?> dataType);
+
     //------------------------------------- Meta Types ----------------------------------
     /**
      * Get the root of all Types.
@@ -178,12 +191,116 @@ public interface GraknAdmin {
      */
     void updateConceptCounts(Map<ConceptId, Long> conceptCounts);
 
+    /**
+     * Overwrites the count of a concept
+     *
+     * @param conceptId The id of the concept
+     * @param count The number of instances the concept has
+     */
+    void setConceptCount(ConceptId conceptId, long count);
+
     /**
      * Creates a new shard for the concept
      * @param conceptId the id of the concept to shard
      */
     void shard(ConceptId conceptId);
 
+    /**
+     * Gets the shards the instances of a {@link Type} are split across. The instances of the subs of the {@link Type}
+     * are in the shards of the subs. The instances of each shard can be read independently with
+     * {@link #streamShard(ConceptId)}, including from transactions on other threads.
+     *
+     * @param type The type whose instances are split
+     * @return The ids of the shards of the type
+     */
+    @CheckReturnValue
+    Set<ConceptId> getShards(Type type);
+
+    /**
+     *
+     * @param shardId The id of a shard, see {@link #getShards(Type)}
+     * @return The instances linked to the shard, read lazily
+     */
+    @CheckReturnValue
+    Stream<Thing> streamShard(ConceptId shardId);
+
+    /**
+     * Prepares a batch of the relations loaded into a shard by {@link ai.grakn.GraknTxType#BULK} transactions for
+     * validation. Relations which duplicate another relation are deleted, after the relations they play roles in are
+     * moved onto the relation they duplicate. The remaining relations and their role players are validated and indexed
+     * when this transaction is committed. Must be called in a {@link ai.grakn.GraknTxType#WRITE} transaction, repeatedly
+     * committing until no relations are left. {@code ai.grakn.util.BulkLoadFinisher} does this for every shard.
+     *
+     * @param shardId The id of a shard, see {@link #getShards(Type)}
+     * @param batchSize The maximum number of relations to prepare
+     * @return The number of relations which were prepared or deleted, 0 when none are left in the shard
+     */
+    long finishBulkLoadOfRelations(ConceptId shardId, int batchSize);
+
+    /**
+     * Prepares a batch of the instances loaded into a shard by {@link ai.grakn.GraknTxType#BULK} transactions for
+     * validation, if their type has roles they must play. The instances are validated when this transaction is
+     * committed. Must be called in a {@link ai.grakn.GraknTxType#WRITE} transaction, repeatedly committing until no
+     * instances are left, after the relations of the keyspace have been finished.
+     *
+     * @param shardId The id of a shard, see {@link #getShards(Type)}
+     * @param batchSize The maximum number of instances to prepare
+     * @return The number of instances which were prepared, 0 when none are left in the shard
+     */
+    long finishBulkLoadOfInstances(ConceptId shardId, int batchSize);
+
+    /**
+     * Marks a {@link Thing} as inferred by a rule from some supporting {@link Thing}s. The {@link Thing} is deleted
+     * when the transaction which deletes any of its supporting {@link Thing}s is committed, and is inferred again the
+     * next time the rule is materialised.
+     *
+     * @param thing The thing which was inferred
+     * @param rule The id of the rule which inferred the thing
+     * @param support The concepts the rule was applied to. Only {@link Thing}s are recorded.
+     */
+    void markAsInferred(Thing thing, ConceptId rule, Collection<Concept> support);
+
+    /**
+     * Get the statistics about the data in this graph. These are shared by all transactions of the session.
+     *
+     * @return Estimates about the data in the graph which are useful when planning queries
+     */
+    @CheckReturnValue
+    GraphStatistics statistics();
+
+    /**
+     * Get the cache of query plans. This is shared by all transactions of the session.
+     *
+     * @return The cache used to avoid re-planning queries with the same shape
+     */
+    @CheckReturnValue
+    QueryPlanCache queryPlanCache();
+
+    /**
+     * Get the cache of concept lookups. This is shared by all transactions of the session.
+     *
+     * @return The cache used to find previously retrieved concepts without an index lookup
+     */
+    @CheckReturnValue
+    ConceptCache conceptCache();
+
+    /**
+     * Get the cache of rules. This is shared by all transactions of the session.
+     *
+     * @return The cache used to find the rules which apply when reasoning without reading the graph
+     */
+    @CheckReturnValue
+    RuleCache ruleCache();
+
+    /**
+     * Get the number of answers the reasoner may cache while resolving a single query. Once exceeded, the answers
+     * of queries which can be looked up in the graph again are evicted.
+     *
+     * @return The maximum number of answers cached by the reasoner for a single query
+     */
+    @CheckReturnValue
+    long reasonerCacheMaxAnswers();
+
     /**
      *
      * @param key The concept property tp search by.
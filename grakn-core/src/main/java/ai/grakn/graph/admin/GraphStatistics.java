@@ -0,0 +1,66 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.graph.admin;
+
+import ai.grakn.concept.Label;
+
+import javax.annotation.CheckReturnValue;
+import java.util.Optional;
+
+/**
+ * <p>
+ *     Statistics about the data in a graph
+ * </p>
+ *
+ * <p>
+ *     Provides estimates about the shape of the data in a keyspace which can be used when planning queries.
+ *     These statistics are shared across all the transactions of a session and are only approximately correct.
+ *     An empty {@link Optional} is returned when nothing is known about the requested statistic.
+ * </p>
+ */
+public interface GraphStatistics {
+
+    /**
+     * Get the number of instances of a type, including the instances of its sub-types.
+     * For a {@link ai.grakn.concept.ResourceType} this is also the number of distinct values of that type.
+     *
+     * @param type The label of the type
+     * @return The estimated number of instances of the type
+     */
+    @CheckReturnValue
+    Optional<Long> instanceCount(Label type);
+
+    /**
+     * Get the average number of role-players which play a role in a single relation.
+     *
+     * @param role The label of the role
+     * @return The estimated fan-out when navigating from a relation to the role-players of the role
+     */
+    @CheckReturnValue
+    Optional<Double> rolePlayersPerRelation(Label role);
+
+    /**
+     * Get the average number of relations a single instance takes part in by playing a role.
+     *
+     * @param role The label of the role
+     * @return The estimated fan-out when navigating from a role-player to the relations it plays the role in
+     */
+    @CheckReturnValue
+    Optional<Double> relationsPerRolePlayer(Label role);
+}
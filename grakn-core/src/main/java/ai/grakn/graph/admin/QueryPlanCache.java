@@ -0,0 +1,63 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.graph.admin;
+
+import javax.annotation.CheckReturnValue;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * <p>
+ *     Cache of query plans
+ * </p>
+ *
+ * <p>
+ *     Stores the plans chosen for previously executed queries so that queries with the same shape do not need to be
+ *     planned again. Both the patterns and the plans are described as strings with variable names and literal ids
+ *     and values abstracted away. The cache is bounded, shared by all the transactions of a session and cleared
+ *     whenever the ontology is changed.
+ * </p>
+ */
+public interface QueryPlanCache {
+
+    /**
+     * @param pattern The normalised description of the pattern
+     * @return The normalised description of the plan chosen for the pattern, if it has been cached
+     */
+    @CheckReturnValue
+    Optional<List<String>> getPlan(String pattern);
+
+    /**
+     * @param pattern The normalised description of the pattern
+     * @param plan The normalised description of the plan chosen for the pattern
+     */
+    void cachePlan(String pattern, List<String> plan);
+
+    /**
+     * @return The number of times a plan was found in the cache
+     */
+    @CheckReturnValue
+    long hitCount();
+
+    /**
+     * @return The number of times a plan was not found in the cache
+     */
+    @CheckReturnValue
+    long missCount();
+}
@@ -0,0 +1,85 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.graph.admin;
+
+import ai.grakn.concept.Label;
+import ai.grakn.concept.Rule;
+
+import javax.annotation.CheckReturnValue;
+import java.util.Set;
+
+/**
+ * <p>
+ *     Cache of rules
+ * </p>
+ *
+ * <p>
+ *     Provides fast access to the {@link Rule}s of a keyspace when reasoning. Which rules exist and which types they
+ *     conclude are shared by all the transactions of a session, so finding the rules which apply to a type does not
+ *     require reading the graph. The cache is cleared whenever the ontology is changed or a rule is added or deleted.
+ *     The parsed bodies and heads of the rules are cached separately, see {@link Rule#getLHS()}.
+ *     The cache also provides the dependency graph of the rules, which tells which rules are recursive and which can
+ *     never be applied.
+ * </p>
+ */
+public interface RuleCache {
+
+    /**
+     * @return All the inference rules in the graph
+     */
+    @CheckReturnValue
+    Set<Rule> getInferenceRules();
+
+    /**
+     * @param type The label of an ontology concept
+     * @return The rules which directly conclude the ontology concept
+     */
+    @CheckReturnValue
+    Set<Rule> getRulesOfConclusion(Label type);
+
+    /**
+     * @param rule An inference rule
+     * @return The stratum of the rule in the rule dependency graph. A rule only depends on rules of the same or lower
+     * strata, rules which do not depend on any other rule are in stratum 0.
+     */
+    @CheckReturnValue
+    int getStratum(Rule rule);
+
+    /**
+     * @param rule An inference rule
+     * @return False if the body of the rule can never match any instances given the ontology
+     */
+    @CheckReturnValue
+    boolean isSatisfiable(Rule rule);
+
+    /**
+     * @param rule An inference rule
+     * @return True if the rule is recursive or depends on a recursive rule. The conclusion of any other rule is fully
+     * answered by a single pass of the resolution.
+     */
+    @CheckReturnValue
+    boolean requiresFixpoint(Rule rule);
+
+    /**
+     * @param type The label of an ontology concept
+     * @return True if the ontology concept or one of its subs is concluded by a recursive rule
+     */
+    @CheckReturnValue
+    boolean isRecursive(Label type);
+}
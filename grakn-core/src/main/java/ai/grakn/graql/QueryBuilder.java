@@ -128,4 +128,11 @@ public interface QueryBuilder {
      */
     @CheckReturnValue
     QueryBuilder materialise(boolean materialise);
+
+    /**
+     * Enable or disable the explanations of inferred answers. Explanations are off by default and are not provided
+     * when materialising.
+     */
+    @CheckReturnValue
+    QueryBuilder explain(boolean explain);
 }
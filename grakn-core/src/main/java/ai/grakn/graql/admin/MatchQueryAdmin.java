@@ -19,6 +19,7 @@
 package ai.grakn.graql.admin;
 
 import ai.grakn.GraknGraph;
+import ai.grakn.concept.ConceptId;
 import ai.grakn.concept.OntologyConcept;
 import ai.grakn.graql.MatchQuery;
 import ai.grakn.graql.Var;
@@ -26,6 +27,7 @@ import ai.grakn.graql.Var;
 import javax.annotation.CheckReturnValue;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Stream;
 
 /**
  * Admin class for inspecting and manipulating a MatchQuery
@@ -64,4 +66,20 @@ public interface MatchQueryAdmin extends MatchQuery {
      */
     @CheckReturnValue
     Set<Var> getSelectedNames();
+
+    /**
+     * @param graph the graph to plan the query against
+     * @return the shards the answers of the query are split across, if the query starts from the instances of a type.
+     * Each shard can be executed separately with {@link #streamShard(GraknGraph, ConceptId)}.
+     */
+    @CheckReturnValue
+    Optional<Set<ConceptId>> getShards(GraknGraph graph);
+
+    /**
+     * @param graph the graph to execute the query against
+     * @param shard one of the shards returned by {@link #getShards(GraknGraph)}
+     * @return the answers of the query starting from the instances in the given shard
+     */
+    @CheckReturnValue
+    Stream<Answer> streamShard(GraknGraph graph, ConceptId shard);
 }
@@ -93,9 +93,25 @@ public interface ReasonerQuery{
     @CheckReturnValue
     Stream<Answer> resolve(boolean materialise);
 
+    /**
+     * resolves the query
+     * @param materialise materialisation flag
+     * @param explanation whether answers should be decorated with their explanations, not supported when materialising
+     * @return stream of answers
+     */
+    @CheckReturnValue
+    Stream<Answer> resolve(boolean materialise, boolean explanation);
+
     /**
      * @return map of variable name - corresponding type pairs
      */
     @CheckReturnValue
     Map<Var, OntologyConcept> getVarOntologyConceptMap();
+
+    /**
+     * @return the selectable atoms of this reasoner query in the order they are resolved in, each mapped to the
+     * estimated cost it was chosen with
+     */
+    @CheckReturnValue
+    Map<Atomic, Double> explainAtomOrder();
 }
@@ -18,6 +18,7 @@
 
 package ai.grakn.graql.admin;
 
+import ai.grakn.concept.ResourceType;
 import ai.grakn.graql.ValuePredicate;
 import org.apache.tinkerpop.gremlin.process.traversal.P;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
@@ -46,6 +47,14 @@ public interface ValuePredicateAdmin extends ValuePredicate {
         return false;
     }
 
+    /**
+     * @return whether this predicate compares against a literal value by ordering (e.g. "gt" is a range, "regex" is not)
+     */
+    @CheckReturnValue
+    default boolean isRange() {
+        return false;
+    }
+
     /**
      * @param predicate to be compared in terms of compatibility
      * @return true if compatible
@@ -61,6 +70,14 @@ public interface ValuePredicateAdmin extends ValuePredicate {
         return Optional.empty();
     }
 
+    /**
+     * @return the data type of the literal value this predicate compares against, if it compares against one
+     */
+    @CheckReturnValue
+    default Optional<ResourceType.DataType<?>> dataType() {
+        return Optional.empty();
+    }
+
     /**
      * @return the gremlin predicate object this ValuePredicate wraps
      */
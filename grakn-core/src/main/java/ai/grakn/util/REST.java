@@ -104,6 +104,7 @@ public class REST {
         public static final String TASK_PRIORITY_PARAMETER = "priority";
         public static final String TASK_RUN_INTERVAL_PARAMETER = "interval";
         public static final String TASK_LOADER_MUTATIONS = "mutations";
+        public static final String TASK_LOADER_ENCODED_INSERTS = "encodedInserts";
         public static final String BATCH_NUMBER = "batchNumber";
         public static final String LIMIT_PARAM = "limit";
         public static final String OFFSET_PARAM = "offset";
@@ -117,6 +118,9 @@ public class REST {
         public static final String COMMIT_LOG_COUNTING = "types-with-new-counts";
         public static final String COMMIT_LOG_CONCEPT_ID = "concept-id";
         public static final String COMMIT_LOG_SHARDING_COUNT = "sharding-count";
+        public static final String POST_PROCESSING_BACKLOG = "post-processing-backlog";
+        public static final String POST_PROCESSING_PROCESSED = "post-processing-processed";
+        public static final String POST_PROCESSING_FIXED = "post-processing-fixed";
 
         /**
          * Concept controller request parameters
@@ -134,6 +138,7 @@ public class REST {
             public static final String INFER = "infer";
             public static final String MATERIALISE = "materialise";
             public static final String LIMIT_EMBEDDED = "limitEmbedded";
+            public static final String STREAM = "stream";
         }
     }
 
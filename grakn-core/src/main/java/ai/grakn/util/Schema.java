@@ -57,7 +57,8 @@ public final class Schema {
         HYPOTHESIS("hypothesis"),
         CONCLUSION("conclusion"),
         SHORTCUT("shortcut"),
-        SHARD("shard");
+        SHARD("shard"),
+        INFERRED_FROM("inferred-from");
 
         private final String label;
 
@@ -156,7 +157,8 @@ public final class Schema {
         //Other Properties
         INSTANCE_TYPE_ID(Integer.class), IS_ABSTRACT(Boolean.class), IS_IMPLICIT(Boolean.class),
         REGEX(String.class), DATA_TYPE(String.class), SHARD_COUNT(Long.class), CURRENT_TYPE_ID(Integer.class),
-        RULE_LHS(String.class), RULE_RHS(String.class), CURRENT_SHARD(String.class),
+        RULE_LHS(String.class), RULE_RHS(String.class), CURRENT_SHARD(String.class), INFERRED_BY(String.class),
+        RELATION_INDEX_FORMAT(Integer.class), BULK_LOADED(String.class),
 
         //Supported Data Types
         VALUE_STRING(String.class), VALUE_LONG(Long.class),
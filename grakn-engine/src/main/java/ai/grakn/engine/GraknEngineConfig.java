@@ -69,6 +69,9 @@ public class GraknEngineConfig {
     // Delay for the post processing task in milliseconds
     public static final String POST_PROCESSING_TASK_DELAY = "tasks.postprocessing.delay";
 
+    // Maximum number of concept indices post processed in a single transaction
+    public static final String POST_PROCESSING_BATCH_SIZE = "tasks.postprocessing.batch-size";
+
     public static final String ZK_SERVERS = "tasks.zookeeper.servers";
     public static final String ZK_NAMESPACE = "tasks.zookeeper.namespace";
     public static final String ZK_SESSION_TIMEOUT = "tasks.zookeeper.session_timeout_ms";
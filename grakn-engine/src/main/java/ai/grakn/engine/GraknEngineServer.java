@@ -152,7 +152,7 @@ public class GraknEngineServer implements AutoCloseable {
         new SystemController(factory, spark);
         new AuthController(spark, passwordProtected, jwtHandler, usersHandler);
         new UserController(spark, usersHandler);
-        new CommitLogController(spark, defaultKeyspace, postProcessingDelay, taskManager);
+        new CommitLogController(spark, defaultKeyspace, postProcessingDelay, taskManager, redis);
         new TasksController(spark, taskManager);
 
         // This method will block until all the controllers are ready to serve requests
@@ -23,22 +23,31 @@ import ai.grakn.engine.postprocessing.UpdatingInstanceCountTask;
 import ai.grakn.engine.tasks.TaskConfiguration;
 import ai.grakn.engine.tasks.TaskManager;
 import ai.grakn.engine.tasks.TaskState;
+import ai.grakn.engine.tasks.TaskSubmission;
+import ai.grakn.engine.tasks.connection.RedisConnection;
 import ai.grakn.util.REST;
+import com.google.common.collect.ImmutableList;
 import io.swagger.annotations.ApiImplicitParam;
 import io.swagger.annotations.ApiImplicitParams;
 import io.swagger.annotations.ApiOperation;
+import mjson.Json;
 import spark.Request;
 import spark.Response;
 import spark.Service;
 
 import javax.ws.rs.DELETE;
 import javax.ws.rs.GET;
+import javax.ws.rs.POST;
 import javax.ws.rs.Path;
+import java.util.Map;
 import java.util.Optional;
 
 import static ai.grakn.util.REST.Request.COMMIT_LOG_COUNTING;
 import static ai.grakn.util.REST.Request.COMMIT_LOG_FIXING;
 import static ai.grakn.util.REST.Request.KEYSPACE_PARAM;
+import static ai.grakn.util.REST.Request.POST_PROCESSING_BACKLOG;
+import static ai.grakn.util.REST.Request.POST_PROCESSING_FIXED;
+import static ai.grakn.util.REST.Request.POST_PROCESSING_PROCESSED;
 
 /**
  * A controller which core submits commit logs to so we can post-process jobs for cleanup.
@@ -50,13 +59,16 @@ public class CommitLogController {
     private final String defaultKeyspace;
     private final TaskManager manager;
     private final int postProcessingDelay;
+    private final RedisConnection redis;
 
-    public CommitLogController(Service spark, String defaultKeyspace, int postProcessingDelay, TaskManager manager){
+    public CommitLogController(Service spark, String defaultKeyspace, int postProcessingDelay, TaskManager manager, RedisConnection redis){
         this.defaultKeyspace = defaultKeyspace;
         this.postProcessingDelay = postProcessingDelay;
         this.manager = manager;
+        this.redis = redis;
 
         spark.post(REST.WebPath.COMMIT_LOG_URI, this::submitConcepts);
+        spark.get(REST.WebPath.COMMIT_LOG_URI, this::postProcessingStatus);
         spark.delete(REST.WebPath.COMMIT_LOG_URI, this::deleteConcepts);
     }
 
@@ -72,6 +84,24 @@ public class CommitLogController {
 
     @GET
     @Path("/commit_log")
+    @ApiOperation(value = "Get the number of post processing jobs waiting and completed for a specific keyspace")
+    @ApiImplicitParam(name = "keyspace", value = "The key space of an opened graph", required = true, dataType = "string", paramType = "path")
+    private Json postProcessingStatus(Request req, Response res){
+        String keyspace = Optional.ofNullable(req.queryParams(KEYSPACE_PARAM)).orElse(defaultKeyspace);
+        String processedKey = RedisConnection.getKeyPostProcessedIndices(keyspace);
+        String fixedKey = RedisConnection.getKeyPostProcessingFixes(keyspace);
+        Map<String, Long> counts = redis.getCounts(ImmutableList.of(processedKey, fixedKey));
+
+        return Json.object(
+                KEYSPACE_PARAM, keyspace,
+                POST_PROCESSING_BACKLOG, redis.getPostProcessingBacklog(keyspace),
+                POST_PROCESSING_PROCESSED, counts.get(processedKey),
+                POST_PROCESSING_FIXED, counts.get(fixedKey)
+        );
+    }
+
+    @POST
+    @Path("/commit_log")
     @ApiOperation(value = "Submits post processing jobs for a specific keyspace")
     @ApiImplicitParams({
         @ApiImplicitParam(name = "keyspace", value = "The key space of an opened graph", required = true, dataType = "string", paramType = "path"),
@@ -89,11 +119,11 @@ public class CommitLogController {
         TaskState countingTaskState = UpdatingInstanceCountTask.createTask(this.getClass());
         TaskConfiguration countingTaskConfiguration = UpdatingInstanceCountTask.createConfig(keyspace, req.body());
 
-        // Send two tasks to the pipeline
-        manager.addTask(postProcessingTaskState, postProcessingTaskConfiguration);
-        manager.addTask(countingTaskState, countingTaskConfiguration);
-
-
+        // Send two tasks to the pipeline together
+        manager.addTasks(ImmutableList.of(
+                TaskSubmission.of(postProcessingTaskState, postProcessingTaskConfiguration),
+                TaskSubmission.of(countingTaskState, countingTaskConfiguration)
+        ));
 
         return "PP Task [ " + postProcessingTaskState.getId().getValue() + " ] and Counting task [" + countingTaskState.getId().getValue() + "] created for graph [" + keyspace + "]";
     }
@@ -172,7 +172,7 @@ public class DashboardController {
         Json body = Json.object();
 
         try (GraknGraph graph = factory.getGraph(keyspace, READ)) {
-            Query<?> query = graph.graql().infer(true).parse(queryString);
+            Query<?> query = graph.graql().infer(true).explain(true).parse(queryString);
             body.set(ORIGINAL_QUERY, query.toString());
 
             if (!(query instanceof MatchQuery)) {
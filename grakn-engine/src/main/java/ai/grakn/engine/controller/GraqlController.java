@@ -53,8 +53,15 @@ import javax.ws.rs.GET;
 import javax.ws.rs.POST;
 import javax.ws.rs.Path;
 import javax.ws.rs.Produces;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.stream.Collectors;
 
 import static ai.grakn.GraknTxType.WRITE;
@@ -67,6 +74,7 @@ import static ai.grakn.util.REST.Request.Graql.INFER;
 import static ai.grakn.util.REST.Request.Graql.LIMIT_EMBEDDED;
 import static ai.grakn.util.REST.Request.Graql.MATERIALISE;
 import static ai.grakn.util.REST.Request.Graql.QUERY;
+import static ai.grakn.util.REST.Request.Graql.STREAM;
 import static ai.grakn.util.REST.Request.KEYSPACE;
 import static ai.grakn.util.REST.Response.ContentType.APPLICATION_HAL;
 import static ai.grakn.util.REST.Response.ContentType.APPLICATION_JSON;
@@ -112,14 +120,15 @@ public class GraqlController {
     @POST
     @Path("/execute")
     @ApiOperation(value = "Execute an arbitrary Gralql queryEndpoints used to query the graph by ID or Graql match query and build HAL objects.")
-    private Json executeGraql(Request request, Response response) {
+    private Object executeGraql(Request request, Response response) throws IOException {
         String keyspace = mandatoryQueryParameter(request, KEYSPACE);
         String queryString = mandatoryQueryParameter(request, QUERY);
         boolean infer = parseBoolean(mandatoryQueryParameter(request, INFER));
         boolean materialise = parseBoolean(mandatoryQueryParameter(request, MATERIALISE));
         String acceptType = getAcceptType(request);
         try(GraknGraph graph = factory.getGraph(keyspace, WRITE)){
-            Query<?> query = graph.graql().materialise(materialise).infer(infer).parse(queryString);
+            Query<?> query = graph.graql().materialise(materialise).infer(infer)
+                    .explain(acceptType.equals(APPLICATION_HAL)).parse(queryString);
             if(!validContentType(acceptType, query)) {
                 throw GraknServerException.contentTypeQueryMismatch(acceptType, query);
             }            
@@ -133,6 +142,9 @@ public class GraqlController {
                 graph.commit();
                 return resp;
             }
+            else if (isStreamed(request, query)) {
+                return streamMatchQuery(response, (MatchQuery) query, acceptType);
+            }
             else {
                 return respond(response, query, acceptType, executeReadQuery(request, query, acceptType));
             }
@@ -148,9 +160,10 @@ public class GraqlController {
             @ApiImplicitParam(name = KEYSPACE,    value = "Name of graph to use", required = true, dataType = "string", paramType = "query"),
             @ApiImplicitParam(name = QUERY,       value = "Match query to execute", required = true, dataType = "string", paramType = "query"),
             @ApiImplicitParam(name = INFER,       value = "Should reasoner with the current query.", required = true, dataType = "boolean", paramType = "query"),
-            @ApiImplicitParam(name = MATERIALISE, value = "Should reasoner materialise results with the current query.", required = true, dataType = "boolean", paramType = "query")
+            @ApiImplicitParam(name = MATERIALISE, value = "Should reasoner materialise results with the current query.", required = true, dataType = "boolean", paramType = "query"),
+            @ApiImplicitParam(name = STREAM,      value = "Should the answers of a match query be streamed, one per line.", dataType = "boolean", paramType = "query")
     })
-    private Json executeGraqlGET(Request request, Response response) {
+    private Object executeGraqlGET(Request request, Response response) throws IOException {
         String keyspace = mandatoryQueryParameter(request, KEYSPACE);
         String queryString = mandatoryQueryParameter(request, QUERY);
         boolean infer = parseBoolean(mandatoryQueryParameter(request, INFER));
@@ -158,12 +171,15 @@ public class GraqlController {
         String acceptType = getAcceptType(request);
 
         try(GraknGraph graph = factory.getGraph(keyspace, WRITE)){
-            Query<?> query = graph.graql().materialise(materialise).infer(infer).parse(queryString);
+            Query<?> query = graph.graql().materialise(materialise).infer(infer)
+                    .explain(acceptType.equals(APPLICATION_HAL)).parse(queryString);
 
             if(!query.isReadOnly()) throw GraknServerException.invalidQuery("\"read-only\"");
 
             if(!validContentType(acceptType, query)) throw GraknServerException.contentTypeQueryMismatch(acceptType, query);
 
+            if(isStreamed(request, query)) return streamMatchQuery(response, (MatchQuery) query, acceptType);
+
             Json responseBody = executeReadQuery(request, query, acceptType);
             return respond(response, query, acceptType, responseBody);
         }
@@ -314,6 +330,66 @@ public class GraqlController {
 
     }
 
+    /**
+     * Check if the answers of the query should be streamed. Only match queries can be streamed, as the other read
+     * queries return a single result.
+     *
+     * @param request information about the HTTP request
+     * @param query read query to be executed
+     * @return if the answers of the query should be written to the client as they are found
+     */
+    private boolean isStreamed(Request request, Query<?> query){
+        boolean stream = queryParameter(request, STREAM).map(Boolean::parseBoolean).orElse(false);
+        return stream && query instanceof MatchQuery;
+    }
+
+    /**
+     * Execute a match query and write each answer to the client on its own line as soon as it is found. This means
+     * the answers are never all held in memory, so large results do not need to fit in memory before the first answer
+     * is sent. The original query is not included in the response.
+     *
+     * @param response response to the client
+     * @param query match query to be executed
+     * @param acceptType response format that the client will accept, either Graql or Json lines
+     * @return an empty body, as the response has already been written
+     */
+    private Object streamMatchQuery(Response response, MatchQuery query, String acceptType) throws IOException {
+        Printer<?> printer;
+        switch (acceptType){
+            case APPLICATION_TEXT:
+                printer = Printers.graql(false);
+                break;
+            case APPLICATION_JSON_GRAQL:
+                printer = Printers.json();
+                break;
+            default:
+                throw GraknServerException.unsupportedContentType(acceptType);
+        }
+
+        response.type(acceptType);
+        response.status(200);
+
+        OutputStream outputStream = response.raw().getOutputStream();
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8))) {
+            Iterator<String> answers = query.resultsString(printer).iterator();
+            boolean first = true;
+
+            while (answers.hasNext()) {
+                writer.write(answers.next());
+                writer.write('\n');
+
+                // Send the first answer straight away, after that the buffer decides when to send more
+                if (first) {
+                    writer.flush();
+                    first = false;
+                }
+            }
+        }
+
+        // Spark will not write this body because the response has already been committed
+        return "";
+    }
+
     /**
      * Format a match query as HAL
      *
@@ -28,15 +28,18 @@ import ai.grakn.engine.tasks.TaskConfiguration;
 import ai.grakn.graql.Graql;
 import ai.grakn.graql.Query;
 import ai.grakn.graql.QueryBuilder;
+import ai.grakn.graql.internal.pattern.InsertEncoding;
 import ai.grakn.util.REST;
 import mjson.Json;
 
 import java.util.Collection;
 import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static ai.grakn.util.ErrorMessage.ILLEGAL_ARGUMENT_EXCEPTION;
 import static ai.grakn.util.ErrorMessage.READ_ONLY_QUERY;
+import static ai.grakn.util.REST.Request.TASK_LOADER_ENCODED_INSERTS;
 import static ai.grakn.util.REST.Request.TASK_LOADER_MUTATIONS;
 
 /**
@@ -90,24 +93,34 @@ public class MutatorTask extends BackgroundTask {
 
 
     /**
-     * Extract mutate queries from a configuration object
+     * Extract mutate queries from a configuration object.
+     * Queries may be given as Graql strings, or as pre-parsed insert queries which can be read without the parser,
+     * but not both, so that they are executed in the order they were submitted.
+     *
      * @param configuration JSONObject containing configuration
      * @return graql queries from the configuration
      */
     private Collection<Query> getInserts(TaskConfiguration configuration){
-        if(configuration.json().has(TASK_LOADER_MUTATIONS)){
-            return configuration.json().at(TASK_LOADER_MUTATIONS).asJsonList().stream()
-                    .map(Json::asString)
-                    .map(builder::<Query<?>>parse)
-                    .map(query -> {
-                        if (query.isReadOnly()) {
-                            throw new IllegalArgumentException(READ_ONLY_QUERY.getMessage(query.toString()));
-                        }
-                        return query;
-                    })
-                    .collect(Collectors.toList());
+        Json json = configuration.json();
+        if(!json.has(TASK_LOADER_MUTATIONS) && !json.has(TASK_LOADER_ENCODED_INSERTS)){
+            throw new IllegalArgumentException(ILLEGAL_ARGUMENT_EXCEPTION.getMessage("No inserts", configuration));
         }
 
-        throw new IllegalArgumentException(ILLEGAL_ARGUMENT_EXCEPTION.getMessage("No inserts", configuration));
+        if(json.has(TASK_LOADER_MUTATIONS) && json.has(TASK_LOADER_ENCODED_INSERTS)){
+            throw new IllegalArgumentException(ILLEGAL_ARGUMENT_EXCEPTION.getMessage("Both parsed and encoded inserts", configuration));
+        }
+
+        Stream<Query<?>> queries = json.has(TASK_LOADER_ENCODED_INSERTS) ?
+                InsertEncoding.decode(json.at(TASK_LOADER_ENCODED_INSERTS).asString()).stream().<Query<?>>map(builder::insert) :
+                json.at(TASK_LOADER_MUTATIONS).asJsonList().stream().map(Json::asString).map(builder::<Query<?>>parse);
+
+        return queries
+                .map(query -> {
+                    if (query.isReadOnly()) {
+                        throw new IllegalArgumentException(READ_ONLY_QUERY.getMessage(query.toString()));
+                    }
+                    return query;
+                })
+                .collect(Collectors.toList());
     }
 }
@@ -26,16 +26,23 @@ import ai.grakn.engine.tasks.BackgroundTask;
 import ai.grakn.engine.tasks.TaskConfiguration;
 import ai.grakn.engine.tasks.TaskSchedule;
 import ai.grakn.engine.tasks.TaskState;
+import ai.grakn.engine.tasks.connection.RedisConnection;
 import ai.grakn.util.REST;
 import ai.grakn.util.Schema;
+import com.google.common.collect.ImmutableMap;
 import mjson.Json;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.Lock;
 import java.util.stream.Collectors;
 
@@ -48,12 +55,20 @@ import java.util.stream.Collectors;
  *     This task begins only if enough time has passed (configurable) since the last time a job was added.
  * </p>
  *
+ * <p>
+ *     Jobs are not run by the task which received them. Instead they are merged into a buffer of pending jobs for the
+ *     keyspace held in redis, which is then drained in batches. Each batch is fixed in a single transaction.
+ *     This means the first task to run after a burst of commits does the work of all of them, and the tasks after it
+ *     find nothing left to do.
+ * </p>
+ *
  * @author alexandraorth, fppt
  */
 public class PostProcessingTask extends BackgroundTask {
     private static final Logger LOG = LoggerFactory.getLogger(PostProcessingTask.class);
-    private static final String JOB_FINISHED = "Post processing Job [{}] completed for indeces and ids: [{}]";
+    private static final String JOB_FINISHED = "Post processing Job [{}] completed for [{}] indices, [{}] fixed, [{}] indices still waiting";
     private static final String LOCK_KEY = "/post-processing-lock";
+    private static final int DEFAULT_BATCH_SIZE = 100;
 
     /**
      * Apply CASTING and RESOURCE post processing jobs the concept ids in the provided configuration
@@ -62,24 +77,69 @@ public class PostProcessingTask extends BackgroundTask {
      */
     @Override
     public boolean start() {
-        Map<String, Set<ConceptId>> allToPostProcess = getPostProcessingJobs(Schema.BaseType.RESOURCE, configuration());
+        Map<String, Set<ConceptId>> newJobs = getPostProcessingJobs(Schema.BaseType.RESOURCE, configuration());
+        String keyspace = configuration().json().at(REST.Request.KEYSPACE).asString();
 
-        allToPostProcess.entrySet().forEach(e -> {
-            String conceptIndex = e.getKey();
-            Set<ConceptId> conceptIds = e.getValue();
+        int maxRetry = engineConfiguration().getPropertyAsInt(GraknEngineConfig.LOADER_REPEAT_COMMITS);
+        int batchSize = engineConfiguration().tryProperty(GraknEngineConfig.POST_PROCESSING_BATCH_SIZE)
+                .map(Integer::parseInt).orElse(DEFAULT_BATCH_SIZE);
 
-            String keyspace = configuration().json().at(REST.Request.KEYSPACE).asString();
-            int maxRetry = engineConfiguration().getPropertyAsInt(GraknEngineConfig.LOADER_REPEAT_COMMITS);
+        redis().addPostProcessingJobs(keyspace, newJobs);
 
-            GraphMutators.runGraphMutationWithRetry(factory(), keyspace, maxRetry,
-                    (graph) -> runPostProcessingMethod(graph, conceptIndex, conceptIds));
-        });
+        // Only drain what is waiting now. Jobs added later are drained by the tasks that come with them.
+        long maxBatches = (redis().getPostProcessingBacklog(keyspace) + batchSize - 1) / batchSize;
+
+        long processed = 0;
+        long fixed = 0;
+        for(long i = 0; i < maxBatches; i++){
+            Map<String, Set<ConceptId>> jobs = redis().takePostProcessingJobs(keyspace, batchSize);
+            if(jobs.isEmpty()) continue;
+
+            try {
+                fixed += fixJobs(keyspace, maxRetry, jobs);
+                processed += jobs.size();
+            } catch (RuntimeException e){
+                // Fall back to one transaction per index so a failing index does not hold back the rest of the batch
+                LOG.warn("Post processing batch of [{}] indices failed, retrying each index alone", jobs.size(), e);
+                for (Map.Entry<String, Set<ConceptId>> job : jobs.entrySet()) {
+                    Map<String, Set<ConceptId>> singleJob = ImmutableMap.of(job.getKey(), job.getValue());
+                    try {
+                        fixed += fixJobs(keyspace, maxRetry, singleJob);
+                        processed++;
+                    } catch (RuntimeException indexException){
+                        // Put only the failing job back so it is picked up by a later task
+                        LOG.error("Post processing failed on index [{}]", job.getKey(), indexException);
+                        redis().addPostProcessingJobs(keyspace, singleJob);
+                    }
+                }
+            }
+        }
 
-        LOG.debug(JOB_FINISHED, Schema.BaseType.RESOURCE.name(), allToPostProcess);
+        LOG.debug(JOB_FINISHED, Schema.BaseType.RESOURCE.name(), processed, fixed, redis().getPostProcessingBacklog(keyspace));
 
         return true;
     }
 
+    /**
+     * Fixes the jobs in a single transaction and records them in the post processing counters once it has committed.
+     *
+     * @param keyspace The keyspace the jobs belong to
+     * @param maxRetry The number of times to retry the transaction
+     * @param jobs The concept indices mapped to the ids of the concepts which may be duplicates on that index
+     * @return The number of indices which had duplicates
+     */
+    private int fixJobs(String keyspace, int maxRetry, Map<String, Set<ConceptId>> jobs){
+        AtomicInteger fixed = new AtomicInteger();
+        GraphMutators.runGraphMutationWithRetry(factory(), keyspace, maxRetry,
+                (graph) -> fixed.set(runPostProcessingMethod(graph, jobs)));
+
+        redis().adjustCounts(ImmutableMap.of(
+                RedisConnection.getKeyPostProcessedIndices(keyspace), (long) jobs.size(),
+                RedisConnection.getKeyPostProcessingFixes(keyspace), (long) fixed.get()
+        ));
+        return fixed.get();
+    }
+
     /**
      * Extract a map of concept indices to concept ids from the provided configuration
      *
@@ -95,22 +155,32 @@ public class PostProcessingTask extends BackgroundTask {
     }
 
     /**
-     * Apply the given post processing method to the provided concept index and set of ids.
+     * Fix any duplicates on the provided concept indices in a single transaction.
      *
-     * @param graph
-     * @param conceptIndex
-     * @param conceptIds
+     * @param graph The graph to fix the duplicates in
+     * @param jobs The concept indices mapped to the ids of the concepts which may be duplicates on that index
+     * @return The number of indices which had duplicates
      */
-    private void runPostProcessingMethod(GraknGraph graph, String conceptIndex, Set<ConceptId> conceptIds){
+    private int runPostProcessingMethod(GraknGraph graph, Map<String, Set<ConceptId>> jobs){
+        // Sorted so that locks are always acquired in the same order
+        SortedMap<String, Set<ConceptId>> duplicates = new TreeMap<>();
+        jobs.forEach((conceptIndex, conceptIds) -> {
+            if(graph.admin().duplicateResourcesExist(conceptIndex, conceptIds)) duplicates.put(conceptIndex, conceptIds);
+        });
 
-        if(graph.admin().duplicateResourcesExist(conceptIndex, conceptIds)){
+        if(duplicates.isEmpty()) return 0;
 
-            // Acquire a lock when you post process on an index to prevent race conditions
-            // Lock is acquired after checking for duplicates to reduce runtime
-            Lock indexLock = LockProvider.getLock(PostProcessingTask.LOCK_KEY + "/" + conceptIndex);
-            indexLock.lock();
+        // Acquire a lock when you post process on an index to prevent race conditions
+        // Locks are acquired after checking for duplicates to reduce runtime
+        List<Lock> indexLocks = new ArrayList<>();
+        try {
+            for (String conceptIndex : duplicates.keySet()) {
+                Lock indexLock = LockProvider.getLock(PostProcessingTask.LOCK_KEY + "/" + conceptIndex);
+                indexLock.lock();
+                indexLocks.add(indexLock);
+            }
 
-            try {
+            duplicates.forEach((conceptIndex, conceptIds) -> {
                 // execute the provided post processing method
                 graph.admin().fixDuplicateResources(conceptIndex, conceptIds);
 
@@ -119,13 +189,15 @@ public class PostProcessingTask extends BackgroundTask {
                         ifPresent(message -> {
                             throw new RuntimeException(message);
                         });
+            });
 
-                // persist merged concepts
-                graph.admin().commitNoLogs();
-            } finally {
-                indexLock.unlock();
-            }
+            // persist merged concepts
+            graph.admin().commitNoLogs();
+        } finally {
+            indexLocks.forEach(Lock::unlock);
         }
+
+        return duplicates.size();
     }
 
     /**
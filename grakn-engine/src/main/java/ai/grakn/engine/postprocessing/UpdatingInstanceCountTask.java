@@ -29,9 +29,9 @@ import ai.grakn.engine.tasks.TaskState;
 import ai.grakn.engine.tasks.connection.RedisConnection;
 import ai.grakn.graph.internal.AbstractGraknGraph;
 import ai.grakn.util.REST;
+import com.google.common.collect.ImmutableMap;
 import mjson.Json;
 
-import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.locks.Lock;
@@ -61,12 +61,8 @@ public class UpdatingInstanceCountTask extends BackgroundTask {
         //We Use redis to keep track of counts in order to ensure sharding happens in a centralised manner.
         //The graph cannot be used because each engine can have it's own snapshot of the graph with caching which makes
         //values only approximately correct
-        Set<ConceptId> conceptToShard = new HashSet<>();
-
-        //Update counts
-        jobs.forEach((key, value) -> {
-            if(updateShardCounts(redis(), keyspace, key, value, shardingThreshold)) conceptToShard.add(key);
-        });
+        //Update counts in a single round trip
+        Set<ConceptId> conceptToShard = redis().adjustCountsAndCheckThreshold(keyspace, jobs, shardingThreshold);
 
         //Shard anything which requires sharding
         conceptToShard.forEach(type -> shardConcept(redis(), factory(), keyspace, type, maxRetry, shardingThreshold));
@@ -86,27 +82,12 @@ public class UpdatingInstanceCountTask extends BackgroundTask {
                         e -> e.at(REST.Request.COMMIT_LOG_SHARDING_COUNT).asLong()));
     }
 
-    /**
-     * Updates the type counts in redis and checks if sharding is needed.
-     *
-     * @param keyspace The keyspace of the graph which the type comes from
-     * @param conceptId The id of the concept with counts to update
-     * @param value The number of instances which the type has gained/lost
-     * @return true if sharding is needed.
-     */
-    private static boolean updateShardCounts(
-            RedisConnection redis, String keyspace, ConceptId conceptId, long value, long shardingThreshold){
-        long numShards = redis.getCount(RedisConnection.getKeyNumShards(keyspace, conceptId));
-        if(numShards == 0) numShards = 1;
-        long numInstances = redis.adjustCount(RedisConnection.getKeyNumInstances(keyspace, conceptId), value);
-        return numInstances > shardingThreshold * numShards;
-    }
-
     /**
      * Performs the high level sharding operation. This includes:
      * - Acquiring a lock to ensure only one thing can shard
      * - Checking if sharding is still needed after having the lock
      * - Actually sharding
+     * - Persisting the current count on the concept so it can be used as a statistic when planning queries
      * - Incrementing the number of shards on each type
      *
      * @param keyspace The graph containing the type to shard
@@ -120,11 +101,13 @@ public class UpdatingInstanceCountTask extends BackgroundTask {
 
         try {
             //Check if sharding is still needed. Another engine could have sharded whilst waiting for lock
-            if (updateShardCounts(redis, keyspace, conceptId, 0, shardingThreshold)) {
+            if (!redis.adjustCountsAndCheckThreshold(keyspace, ImmutableMap.of(conceptId, 0L), shardingThreshold).isEmpty()) {
 
                 //Shard
+                long count = redis.getCount(RedisConnection.getKeyNumInstances(keyspace, conceptId));
                 GraphMutators.runGraphMutationWithRetry(factory, keyspace, maxRetry, graph -> {
                     graph.admin().shard(conceptId);
+                    graph.admin().setConceptCount(conceptId, count);
                     graph.admin().commitNoLogs();
                 });
 
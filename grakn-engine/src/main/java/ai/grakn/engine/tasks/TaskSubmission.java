@@ -0,0 +1,51 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.engine.tasks;
+
+/**
+ * <p>
+ *     A task waiting to be submitted
+ * </p>
+ *
+ * <p>
+ *     Pairs a {@link TaskState} with the {@link TaskConfiguration} it should run with so that several tasks can be
+ *     handed to a {@link TaskSubmitter} at once.
+ * </p>
+ */
+public class TaskSubmission {
+    private final TaskState taskState;
+    private final TaskConfiguration configuration;
+
+    private TaskSubmission(TaskState taskState, TaskConfiguration configuration){
+        this.taskState = taskState;
+        this.configuration = configuration;
+    }
+
+    public static TaskSubmission of(TaskState taskState, TaskConfiguration configuration){
+        return new TaskSubmission(taskState, configuration);
+    }
+
+    public TaskState taskState(){
+        return taskState;
+    }
+
+    public TaskConfiguration configuration(){
+        return configuration;
+    }
+}
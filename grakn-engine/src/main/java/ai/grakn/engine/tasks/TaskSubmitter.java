@@ -20,6 +20,8 @@ package ai.grakn.engine.tasks;
 
 import ai.grakn.engine.tasks.manager.singlequeue.SingleQueueTaskRunner;
 
+import java.util.Collection;
+
 /**
  * <p>
  *     Submits Background Tasks for processing
@@ -35,7 +37,20 @@ import ai.grakn.engine.tasks.manager.singlequeue.SingleQueueTaskRunner;
 public interface TaskSubmitter {
     /**
      * Schedule a {@link BackgroundTask} for execution.
+     * The task is durably stored by the time this method returns.
+     *
      * @param taskState Task to execute
      */
     void addTask(TaskState taskState, TaskConfiguration configuration);
+
+    /**
+     * Schedule several {@link BackgroundTask}s for execution.
+     * Implementations may send the tasks together, but all of them are durably stored by the time this method returns.
+     * If an exception is thrown, any subset of the tasks may have been stored.
+     *
+     * @param tasks Tasks to execute along with their configurations
+     */
+    default void addTasks(Collection<TaskSubmission> tasks){
+        tasks.forEach(task -> addTask(task.taskState(), task.configuration()));
+    }
 }
@@ -42,6 +42,9 @@ import java.util.Properties;
  */
 public class ConfigHelper {
 
+    // How long the producer waits for more tasks before sending a batch, unless configured otherwise
+    private static final String DEFAULT_PRODUCER_LINGER_MS = "5";
+
     public static Consumer<TaskState, TaskConfiguration> kafkaConsumer(String groupId, Properties properties) {
         Properties newProperties = new Properties();
         newProperties.putAll(properties);
@@ -66,6 +69,9 @@ public class ConfigHelper {
         Properties newProperties = new Properties();
         newProperties.putAll(properties);
 
+        // Tasks submitted at the same time should be sent to kafka in one request
+        newProperties.putIfAbsent("linger.ms", DEFAULT_PRODUCER_LINGER_MS);
+
         return new KafkaProducer<>(newProperties, new TaskStateSerializer(), new TaskConfigurationSerializer());
     }
 }
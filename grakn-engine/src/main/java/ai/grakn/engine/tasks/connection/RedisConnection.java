@@ -22,9 +22,21 @@ import ai.grakn.concept.ConceptId;
 import redis.clients.jedis.Jedis;
 import redis.clients.jedis.JedisPool;
 import redis.clients.jedis.JedisPoolConfig;
+import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.Response;
+import redis.clients.jedis.Transaction;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
 
+import static java.util.stream.Collectors.toSet;
+
 /**
  * <p>
  *     Connection To Redis Server
@@ -39,6 +51,20 @@ import java.util.function.Function;
  */
 public class RedisConnection {
 
+    // Increments instance counts and reports which concepts now have more instances than their shards allow.
+    // KEYS alternate between the instance count and the shard count of each concept.
+    // ARGV holds the change in instances of each concept followed by the sharding threshold.
+    private static final String ADJUST_COUNTS_AND_CHECK_THRESHOLD =
+            "local threshold = tonumber(ARGV[#ARGV])\n" +
+            "local result = {}\n" +
+            "for i = 1, #ARGV - 1 do\n" +
+            "    local instances = redis.call('INCRBY', KEYS[2 * i - 1], ARGV[i])\n" +
+            "    local shards = tonumber(redis.call('GET', KEYS[2 * i])) or 0\n" +
+            "    if shards == 0 then shards = 1 end\n" +
+            "    if instances > threshold * shards then result[i] = 1 else result[i] = 0 end\n" +
+            "end\n" +
+            "return result";
+
     private JedisPool jedisPool;
 
     private RedisConnection(String url, int port){
@@ -82,6 +108,154 @@ public class RedisConnection {
         });
     }
 
+    /**
+     * Gets the counts for several keys in a single round trip. A count of 0 is returned for keys not in redis.
+     *
+     * @param keys the keys stored in redis
+     * @return the current count of each key
+     */
+    public Map<String, Long> getCounts(Collection<String> keys){
+        if(keys.isEmpty()) return new HashMap<>();
+
+        List<String> keyList = new ArrayList<>(keys);
+        List<String> values = contactRedis(jedis -> jedis.mget(keyList.toArray(new String[keyList.size()])));
+
+        Map<String, Long> counts = new HashMap<>();
+        for (int i = 0; i < keyList.size(); i++) {
+            String value = values.get(i);
+            counts.put(keyList.get(i), value == null ? 0L : Long.parseLong(value));
+        }
+        return counts;
+    }
+
+    /**
+     * Adjusts the counts of several keys in a single round trip.
+     *
+     * @param counts the keys mapped to the number to adjust each key by
+     * @return the new count of each key
+     */
+    public Map<String, Long> adjustCounts(Map<String, Long> counts){
+        if(counts.isEmpty()) return new HashMap<>();
+
+        Map<String, Response<Long>> responses = new HashMap<>();
+        contactRedis(jedis -> {
+            Pipeline pipeline = jedis.pipelined();
+            counts.forEach((key, count) -> responses.put(key, pipeline.incrBy(key, count)));
+            pipeline.sync();
+            return null;
+        });
+
+        Map<String, Long> newCounts = new HashMap<>();
+        responses.forEach((key, response) -> newCounts.put(key, response.get()));
+        return newCounts;
+    }
+
+    /**
+     * Adjusts the instance counts of several concepts and checks which of them need sharding, in a single round trip.
+     * A concept needs sharding when it has more instances than the threshold multiplied by its number of shards.
+     * The check for each concept is atomic with its update.
+     *
+     * @param keyspace the keyspace the concepts belong to
+     * @param counts the concepts mapped to the number of instances they have gained or lost
+     * @param shardingThreshold the number of instances a single shard can hold
+     * @return the concepts which need sharding
+     */
+    public Set<ConceptId> adjustCountsAndCheckThreshold(String keyspace, Map<ConceptId, Long> counts, long shardingThreshold){
+        if(counts.isEmpty()) return new HashSet<>();
+
+        List<ConceptId> conceptIds = new ArrayList<>(counts.keySet());
+        List<String> keys = new ArrayList<>();
+        List<String> args = new ArrayList<>();
+        for (ConceptId conceptId : conceptIds) {
+            keys.add(getKeyNumInstances(keyspace, conceptId));
+            keys.add(getKeyNumShards(keyspace, conceptId));
+            args.add(Long.toString(counts.get(conceptId)));
+        }
+        args.add(Long.toString(shardingThreshold));
+
+        @SuppressWarnings("unchecked")
+        List<Long> needsSharding = (List<Long>) contactRedis(jedis -> jedis.eval(ADJUST_COUNTS_AND_CHECK_THRESHOLD, keys, args));
+
+        Set<ConceptId> toShard = new HashSet<>();
+        for (int i = 0; i < conceptIds.size(); i++) {
+            if(needsSharding.get(i) == 1L) toShard.add(conceptIds.get(i));
+        }
+        return toShard;
+    }
+
+    /**
+     * Adds post processing jobs to the buffer of a keyspace. Concept ids are merged with those of any jobs on the same
+     * index which are already waiting, so the index is only post processed once.
+     *
+     * @param keyspace the keyspace the jobs belong to
+     * @param jobs the concept indices mapped to the ids of the concepts which may be duplicates on that index
+     */
+    public void addPostProcessingJobs(String keyspace, Map<String, Set<ConceptId>> jobs){
+        if(jobs.values().stream().allMatch(Set::isEmpty)) return;
+
+        contactRedis(jedis -> {
+            Pipeline pipeline = jedis.pipelined();
+            jobs.forEach((index, conceptIds) -> {
+                if(conceptIds.isEmpty()) return;
+                String[] ids = conceptIds.stream().map(ConceptId::getValue).toArray(String[]::new);
+                pipeline.sadd(getKeyPostProcessingIds(keyspace, index), ids);
+                pipeline.sadd(getKeyPostProcessingIndices(keyspace), index);
+            });
+            pipeline.sync();
+            return null;
+        });
+    }
+
+    /**
+     * Removes up to the given number of post processing jobs from the buffer of a keyspace.
+     * Jobs which are taken will not be returned to any other caller unless they are added again.
+     *
+     * @param keyspace the keyspace to take jobs from
+     * @param maxJobs the maximum number of indices to take
+     * @return the concept indices mapped to the ids of the concepts which may be duplicates on that index
+     */
+    public Map<String, Set<ConceptId>> takePostProcessingJobs(String keyspace, int maxJobs){
+        String indicesKey = getKeyPostProcessingIndices(keyspace);
+        return contactRedis(jedis -> {
+            // SPOP with a count needs redis 3.2, so the indices are picked first and then removed in a transaction
+            // which is discarded and retried if another caller changes the buffer in between
+            while(true) {
+                jedis.watch(indicesKey);
+                List<String> indices = jedis.srandmember(indicesKey, maxJobs);
+                if (indices.isEmpty()) {
+                    jedis.unwatch();
+                    return new HashMap<>();
+                }
+
+                // Read and clear the ids of every index atomically, so ids added concurrently are never lost
+                Map<String, Response<Set<String>>> responses = new HashMap<>();
+                Transaction transaction = jedis.multi();
+                transaction.srem(indicesKey, indices.toArray(new String[indices.size()]));
+                for (String index : indices) {
+                    String key = getKeyPostProcessingIds(keyspace, index);
+                    responses.put(index, transaction.smembers(key));
+                    transaction.del(key);
+                }
+                if (transaction.exec() == null) continue;
+
+                Map<String, Set<ConceptId>> jobs = new HashMap<>();
+                responses.forEach((index, response) -> {
+                    Set<String> ids = response.get();
+                    if (!ids.isEmpty()) jobs.put(index, ids.stream().map(ConceptId::of).collect(toSet()));
+                });
+                return jobs;
+            }
+        });
+    }
+
+    /**
+     * @param keyspace the keyspace to check
+     * @return the number of indices waiting to be post processed in the keyspace
+     */
+    public long getPostProcessingBacklog(String keyspace){
+        return contactRedis(jedis -> jedis.scard(getKeyPostProcessingIndices(keyspace)));
+    }
+
     /**
      * A helper function which acquires a connection to redis from the pool and then uses it for some operations.
      * This function ensures the connection is closed properly.
@@ -105,4 +279,16 @@ public class RedisConnection {
     public static String getKeyNumShards(String keyspace, ConceptId conceptId){
         return "NS_" + keyspace + "_" + conceptId.getValue();
     }
+    public static String getKeyPostProcessedIndices(String keyspace){
+        return "PPD_" + keyspace;
+    }
+    public static String getKeyPostProcessingFixes(String keyspace){
+        return "PPF_" + keyspace;
+    }
+    private static String getKeyPostProcessingIndices(String keyspace){
+        return "PPI_" + keyspace;
+    }
+    private static String getKeyPostProcessingIds(String keyspace, String index){
+        return "PP_" + keyspace + "_" + index;
+    }
 }
@@ -29,6 +29,7 @@ import ai.grakn.engine.tasks.TaskConfiguration;
 import ai.grakn.engine.tasks.TaskManager;
 import ai.grakn.engine.tasks.TaskState;
 import ai.grakn.engine.tasks.TaskStateStorage;
+import ai.grakn.engine.tasks.TaskSubmission;
 import ai.grakn.engine.tasks.connection.RedisConnection;
 import ai.grakn.engine.tasks.connection.ZookeeperConnection;
 import ai.grakn.engine.tasks.storage.TaskStateZookeeperStore;
@@ -40,13 +41,18 @@ import org.apache.curator.framework.recipes.cache.PathChildrenCache;
 import org.apache.kafka.clients.consumer.Consumer;
 import org.apache.kafka.clients.producer.Producer;
 import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.nio.charset.Charset;
+import java.util.Collection;
+import java.util.List;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Stream;
@@ -56,6 +62,7 @@ import static ai.grakn.engine.tasks.config.ConfigHelper.kafkaProducer;
 import static ai.grakn.engine.tasks.manager.ExternalStorageRebalancer.rebalanceListener;
 import static ai.grakn.engine.util.ExceptionWrapper.noThrow;
 import static java.util.concurrent.Executors.newFixedThreadPool;
+import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toSet;
 import static java.util.stream.Stream.generate;
 import static org.apache.curator.framework.recipes.cache.PathChildrenCacheEvent.Type.CHILD_ADDED;
@@ -225,14 +232,42 @@ public class SingleQueueTaskManager implements TaskManager {
     }
 
     /**
-     * Serialize and send the given task to the given kafka queue
+     * Serialize and send the given task to the given kafka queue.
+     * Blocks until kafka has acknowledged the task.
+     *
      * @param taskState Task to send to kafka
      * @param configuration Configuration of the given task
      */
     @Override
     public void addTask(TaskState taskState, TaskConfiguration configuration){
-        producer.send(new ProducerRecord<>(taskState.priority().queue(), taskState, configuration));
-        producer.flush();
+        addTasks(ImmutableList.of(TaskSubmission.of(taskState, configuration)));
+    }
+
+    /**
+     * Serialize and send the given tasks to their kafka queues.
+     * Blocks until kafka has acknowledged every task.
+     *
+     * The producer is not flushed. Instead we wait on each record, so records sent within the producer's
+     * linger time (by this call or by other threads) share a single produce request.
+     *
+     * @param tasks Tasks to send to kafka along with their configurations
+     */
+    @Override
+    public void addTasks(Collection<TaskSubmission> tasks){
+        List<Future<RecordMetadata>> acknowledgements = tasks.stream()
+                .map(task -> producer.send(new ProducerRecord<>(task.taskState().priority().queue(), task.taskState(), task.configuration())))
+                .collect(toList());
+
+        for(Future<RecordMetadata> acknowledgement:acknowledgements) {
+            try {
+                acknowledgement.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(e);
+            } catch (ExecutionException e) {
+                throw new RuntimeException(e.getCause());
+            }
+        }
     }
 
     /**
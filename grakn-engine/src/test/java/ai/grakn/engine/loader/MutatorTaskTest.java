@@ -11,6 +11,7 @@ import org.junit.rules.ExpectedException;
 import static ai.grakn.util.REST.Request.KEYSPACE;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
+import static ai.grakn.util.REST.Request.TASK_LOADER_ENCODED_INSERTS;
 import static ai.grakn.util.REST.Request.TASK_LOADER_MUTATIONS;
 import static ai.grakn.util.ErrorMessage.READ_ONLY_QUERY;
 
@@ -46,4 +47,17 @@ public class MutatorTaskTest {
         exception.expectMessage(READ_ONLY_QUERY.getMessage(readOnlyQuery));
         mutatorTask.start();
     }
-}
\ No newline at end of file
+
+    @Test
+    public void whenATaskMixesParsedAndEncodedInserts_Reject() {
+        Json mixedTaskJson = taskConfiguration.json();
+        mixedTaskJson.set(TASK_LOADER_ENCODED_INSERTS, "");
+        when(taskConfiguration.json()).thenReturn(mixedTaskJson);
+
+        MutatorTask mutatorTask = new MutatorTask();
+        mutatorTask.initialize((x) -> System.out.println(x.toString()), taskConfiguration, (x, y) -> {}, null, null, null);
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("Both parsed and encoded inserts");
+        mutatorTask.start();
+    }
+}
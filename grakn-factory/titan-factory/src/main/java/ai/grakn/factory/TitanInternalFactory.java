@@ -28,6 +28,7 @@ import com.thinkaurelius.titan.core.RelationType;
 import com.thinkaurelius.titan.core.TitanFactory;
 import com.thinkaurelius.titan.core.TitanGraph;
 import com.thinkaurelius.titan.core.VertexLabel;
+import com.thinkaurelius.titan.core.schema.Mapping;
 import com.thinkaurelius.titan.core.schema.TitanIndex;
 import com.thinkaurelius.titan.core.schema.TitanManagement;
 import com.thinkaurelius.titan.graphdb.database.StandardTitanGraph;
@@ -92,7 +93,7 @@ final public class TitanInternalFactory extends AbstractInternalFactory<GraknTit
 
     private synchronized TitanGraph newTitanGraph(String name, String address, Properties properties, boolean batchLoading){
         TitanGraph titanGraph = configureGraph(name, address, properties, batchLoading);
-        buildTitanIndexes(titanGraph);
+        buildTitanIndexes(titanGraph, properties);
         titanGraph.tx().onClose(Transaction.CLOSE_BEHAVIOR.ROLLBACK);
 
         if (!strategiesApplied.getAndSet(true)) {
@@ -128,7 +129,7 @@ final public class TitanInternalFactory extends AbstractInternalFactory<GraknTit
     }
 
 
-    private static void buildTitanIndexes(TitanGraph graph) {
+    private static void buildTitanIndexes(TitanGraph graph, Properties properties) {
         TitanManagement management = graph.openManagement();
 
         makeVertexLabels(management);
@@ -138,6 +139,11 @@ final public class TitanInternalFactory extends AbstractInternalFactory<GraknTit
         makeIndicesVertexCentric(management);
         makeIndicesComposite(management);
 
+        //Mixed indices need an index backend so are only built when one has been configured
+        if(properties != null && properties.containsKey(GraknTitanGraph.MIXED_INDEX_BACKEND_PROPERTY)) {
+            makeIndicesMixed(management);
+        }
+
         management.commit();
     }
 
@@ -226,5 +232,21 @@ final public class TitanInternalFactory extends AbstractInternalFactory<GraknTit
             }
         }
     }
-}
 
+    private static void makeIndicesMixed(TitanManagement management){
+        ResourceBundle keys = ResourceBundle.getBundle(GraknTitanGraph.MIXED_INDEX_KEYS);
+        Set<String> keyString = keys.keySet();
+        for(String propertyKeyLabel : keyString){
+            String indexLabel = GraknTitanGraph.MIXED_INDEX_PREFIX + propertyKeyLabel;
+            TitanIndex index = management.getGraphIndex(indexLabel);
+
+            if(index == null) {
+                Mapping mapping = Mapping.valueOf(keys.getString(propertyKeyLabel));
+                PropertyKey key = management.getPropertyKey(propertyKeyLabel);
+                management.buildIndex(indexLabel, Vertex.class).
+                        addKey(key, mapping.asParameter()).
+                        buildMixedIndex(GraknTitanGraph.MIXED_INDEX_BACKEND);
+            }
+        }
+    }
+}
@@ -19,19 +19,29 @@
 package ai.grakn.graph.internal;
 
 import ai.grakn.GraknTxType;
+import ai.grakn.concept.ResourceType;
 import ai.grakn.exception.GraknBackendException;
 import ai.grakn.exception.TemporaryWriteException;
 import ai.grakn.util.Schema;
+import com.thinkaurelius.titan.core.PropertyKey;
 import com.thinkaurelius.titan.core.TitanException;
 import com.thinkaurelius.titan.core.TitanGraph;
 import com.thinkaurelius.titan.core.TitanVertex;
+import com.thinkaurelius.titan.core.schema.Mapping;
+import com.thinkaurelius.titan.core.schema.SchemaStatus;
+import com.thinkaurelius.titan.core.schema.TitanGraphIndex;
+import com.thinkaurelius.titan.core.schema.TitanManagement;
 import com.thinkaurelius.titan.core.util.TitanCleanup;
 import com.thinkaurelius.titan.diskstorage.locking.PermanentLockingException;
 import com.thinkaurelius.titan.diskstorage.locking.TemporaryLockingException;
 import com.thinkaurelius.titan.graphdb.database.StandardTitanGraph;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.Properties;
+import java.util.ResourceBundle;
+import java.util.Set;
 import java.util.function.Supplier;
 
 /**
@@ -49,8 +59,59 @@ import java.util.function.Supplier;
  * @author fppt
  */
 public class GraknTitanGraph extends AbstractGraknGraph<TitanGraph> {
+    //The name of the optional index backend used to look up resources by a range of values
+    public static final String MIXED_INDEX_BACKEND = "search";
+    public static final String MIXED_INDEX_BACKEND_PROPERTY = "index." + MIXED_INDEX_BACKEND + ".backend";
+    public static final String MIXED_INDEX_KEYS = "indices-mixed";
+    public static final String MIXED_INDEX_PREFIX = "mixedBy";
+
+    private final Set<String> rangeIndexedProperties;
+
     public GraknTitanGraph(TitanGraph graph, String name, String engineUrl, Properties properties){
         super(graph, name, engineUrl, properties);
+        rangeIndexedProperties = properties.containsKey(MIXED_INDEX_BACKEND_PROPERTY) ?
+                enabledRangeIndices(graph) : Collections.emptySet();
+    }
+
+    /**
+     * Mixed indices built over property keys which already existed must be reindexed before Titan enables them.
+     * Until then range lookups would scan every vertex. Strings are mapped with {@link Mapping#STRING}, which only
+     * supports equality and text predicates, so they are never looked up by range.
+     *
+     * @param graph The graph to check
+     * @return the resource value properties whose mixed index is enabled and supports range predicates
+     */
+    private Set<String> enabledRangeIndices(TitanGraph graph){
+        ResourceBundle keys = ResourceBundle.getBundle(MIXED_INDEX_KEYS);
+        Set<String> enabled = new HashSet<>();
+        TitanManagement management = graph.openManagement();
+        try {
+            for (String propertyKeyLabel : keys.keySet()) {
+                if (Mapping.STRING.name().equals(keys.getString(propertyKeyLabel))) continue;
+                TitanGraphIndex index = management.getGraphIndex(MIXED_INDEX_PREFIX + propertyKeyLabel);
+                PropertyKey key = management.getPropertyKey(propertyKeyLabel);
+                if (index == null || key == null || !SchemaStatus.ENABLED.equals(index.getIndexStatus(key))) {
+                    LOG.warn("The mixed index on [" + propertyKeyLabel + "] is not enabled so values will not be looked up by range");
+                } else {
+                    enabled.add(propertyKeyLabel);
+                }
+            }
+            return enabled;
+        } finally {
+            management.rollback();
+        }
+    }
+
+    /**
+     * Resource values are indexed by range when an index backend has been configured and the mixed index on the
+     * property holding values of the data type is enabled and supports range predicates.
+     *
+     * @param dataType The data type of the values
+     * @return true if the mixed index on resource values of the data type is available
+     */
+    @Override
+    public boolean isValueRangeIndexed(ResourceType.DataType<?> dataType){
+        return rangeIndexedProperties.contains(dataType.getVertexProperty().name());
     }
 
     /**
@@ -26,22 +26,29 @@ import ai.grakn.concept.Resource;
 import ai.grakn.concept.ResourceType;
 import ai.grakn.exception.GraphOperationException;
 import ai.grakn.graph.internal.GraknTitanGraph;
+import ai.grakn.util.Schema;
+import com.google.common.io.Files;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
 import java.time.LocalDateTime;
 import java.util.HashSet;
+import java.util.Properties;
 import java.util.Set;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.stream.Collectors;
 
 import static ai.grakn.util.ErrorMessage.GRAPH_CLOSED_ON_ACTION;
 import static junit.framework.TestCase.assertNotNull;
+import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 
 public class GraknTitanGraphTest extends TitanTestBase{
@@ -137,4 +144,32 @@ public class GraknTitanGraphTest extends TitanTestBase{
         Resource<LocalDateTime> date = dateType.putResource(now);
         assertEquals(now, date.getValue());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void whenAnIndexBackendIsConfigured_ResourcesCanBeLookedUpByARangeOfValues(){
+        Properties properties = new Properties();
+        properties.putAll(TEST_PROPERTIES);
+        properties.setProperty(GraknTitanGraph.MIXED_INDEX_BACKEND_PROPERTY, "elasticsearch");
+        properties.setProperty("index.search.directory", Files.createTempDir().getAbsolutePath());
+        properties.setProperty("index.search.elasticsearch.local-mode", "true");
+        properties.setProperty("index.search.elasticsearch.client-only", "false");
+        TitanInternalFactory factory = new TitanInternalFactory("rangeindexed", Grakn.IN_MEMORY, properties);
+
+        GraknTitanGraph graph = factory.open(GraknTxType.WRITE);
+        assertTrue(graph.isValueRangeIndexed(ResourceType.DataType.LONG));
+        assertFalse(graph.isValueRangeIndexed(ResourceType.DataType.STRING));
+        ResourceType<Long> age = graph.putResourceType("age", ResourceType.DataType.LONG);
+        for(long i = 0; i < 10; i ++) age.putResource(i);
+        graph.commit();
+
+        //Query the index backend directly so the lookup cannot fall back to a scan
+        graph = factory.open(GraknTxType.READ);
+        String key = Schema.VertexProperty.VALUE_LONG.name();
+        Set<Long> values = graph.getTinkerPopGraph().
+                indexQuery(GraknTitanGraph.MIXED_INDEX_PREFIX + key, "v.\"" + key + "\":[6 TO *]").vertices().
+                map(result -> result.getElement().<Long>value(key)).collect(Collectors.toSet());
+        graph.close();
+
+        assertThat(values, containsInAnyOrder(6L, 7L, 8L, 9L));
+    }
+}
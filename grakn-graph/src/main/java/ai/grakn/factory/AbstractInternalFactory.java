@@ -72,7 +72,7 @@ abstract class AbstractInternalFactory<M extends AbstractGraknGraph<G>, G extend
 
     @Override
     public synchronized M open(GraknTxType txType){
-        if(GraknTxType.BATCH.equals(txType)){
+        if(isBatchLoading(txType)){
             checkOtherGraphOpen(graknGraph);
             batchLoadingGraknGraph = getGraph(batchLoadingGraknGraph, txType);
             return batchLoadingGraknGraph;
@@ -83,12 +83,16 @@ abstract class AbstractInternalFactory<M extends AbstractGraknGraph<G>, G extend
         }
     }
 
+    private static boolean isBatchLoading(GraknTxType txType){
+        return GraknTxType.BATCH.equals(txType) || GraknTxType.BULK.equals(txType);
+    }
+
     private void checkOtherGraphOpen(GraknGraph otherGraph){
         if(otherGraph != null && !otherGraph.isClosed()) throw GraphOperationException.transactionOpen(otherGraph);
     }
 
     protected M getGraph(M graknGraph, GraknTxType txType){
-        boolean batchLoading = GraknTxType.BATCH.equals(txType);
+        boolean batchLoading = isBatchLoading(txType);
 
         if(graknGraph == null){
             graknGraph = buildGraknGraphFromTinker(getTinkerPopGraph(batchLoading));
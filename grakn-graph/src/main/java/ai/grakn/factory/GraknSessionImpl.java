@@ -79,6 +79,7 @@ public class GraknSessionImpl implements GraknSession {
                 graph = factory.open(transactionType);
                 return graph;
             case BATCH:
+            case BULK:
                 graphBatch = factory.open(transactionType);
                 return graphBatch;
             default:
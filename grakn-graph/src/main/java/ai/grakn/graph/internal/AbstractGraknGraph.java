@@ -33,13 +33,19 @@ import ai.grakn.concept.Resource;
 import ai.grakn.concept.ResourceType;
 import ai.grakn.concept.Role;
 import ai.grakn.concept.RuleType;
+import ai.grakn.concept.Thing;
 import ai.grakn.concept.Type;
 import ai.grakn.exception.GraphOperationException;
 import ai.grakn.exception.InvalidGraphException;
 import ai.grakn.exception.PropertyNotUniqueException;
+import ai.grakn.graph.admin.ConceptCache;
 import ai.grakn.graph.admin.GraknAdmin;
+import ai.grakn.graph.admin.GraphStatistics;
+import ai.grakn.graph.admin.QueryPlanCache;
+import ai.grakn.graph.admin.RuleCache;
 import ai.grakn.graph.internal.computer.GraknSparkComputer;
 import ai.grakn.graql.QueryBuilder;
+import ai.grakn.util.CommonUtil;
 import ai.grakn.util.EngineCommunicator;
 import ai.grakn.util.ErrorMessage;
 import ai.grakn.util.REST;
@@ -54,8 +60,10 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.lang.reflect.Constructor;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
@@ -64,8 +72,14 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import static java.util.stream.Collectors.toSet;
 
@@ -86,11 +100,14 @@ import static java.util.stream.Collectors.toSet;
 public abstract class AbstractGraknGraph<G extends Graph> implements GraknGraph, GraknAdmin {
     protected final Logger LOG = LoggerFactory.getLogger(AbstractGraknGraph.class);
     private static final String QUERY_BUILDER_CLASS_NAME = "ai.grakn.graql.internal.query.QueryBuilderImpl";
+    private static final int RELATION_REINDEX_BATCH_SIZE = 1000;
 
     //TODO: Is this the correct place for these config paths
     //----------------------------- Config Paths
     public static final String SHARDING_THRESHOLD = "graph.sharding-threshold";
     public static final String NORMAL_CACHE_TIMEOUT_MS = "graph.ontology-cache-timeout-ms";
+    public static final String CONCEPT_CACHE_MAX_WEIGHT = "graph.concept-cache-max-weight";
+    public static final String REASONER_CACHE_MAX_ANSWERS = "graph.reasoner-cache-max-answers";
 
     //----------------------------- Graph Shared Variable
     private final String keyspace;
@@ -99,6 +116,12 @@ public abstract class AbstractGraknGraph<G extends Graph> implements GraknGraph,
     private final G graph;
     private final ElementFactory elementFactory;
     private final GraphCache graphCache;
+    private final GraphStatisticsImpl graphStatistics;
+    private final RuleCacheImpl ruleCache;
+    private final CompletableFuture<Void> relationIndexMigration;
+
+    //The keyspaces whose relation index is being migrated by this JVM
+    private static final Set<String> MIGRATING_KEYSPACES = ConcurrentHashMap.newKeySet();
     
     private static Constructor<?> queryConstructor = null;
     static {
@@ -121,6 +144,8 @@ public abstract class AbstractGraknGraph<G extends Graph> implements GraknGraph,
 
         //Initialise Graph Caches
         graphCache = new GraphCache(properties);
+        graphStatistics = new GraphStatisticsImpl(this);
+        ruleCache = new RuleCacheImpl(this);
 
         //Initialise Graph
         txCache().openTx(GraknTxType.WRITE);
@@ -129,6 +154,8 @@ public abstract class AbstractGraknGraph<G extends Graph> implements GraknGraph,
         if(initialiseMetaConcepts()) close(true, false);
         txCache().showImplicitTypes(false);
 
+        relationIndexMigration = !isClosed() && isRelationIndexOutdated() ?
+                migrateRelationIndex() : CompletableFuture.completedFuture(null);
     }
 
     @Override
@@ -165,6 +192,41 @@ public abstract class AbstractGraknGraph<G extends Graph> implements GraknGraph,
         return graphCache;
     }
 
+    /**
+     * By default resource values are only indexed by equality. Vendors with a range index should override this.
+     *
+     * @return true if range predicates on resource values can be answered using an index
+     */
+    @Override
+    public boolean isValueRangeIndexed(ResourceType.DataType<?> dataType){
+        return false;
+    }
+
+    @Override
+    public GraphStatistics statistics(){
+        return graphStatistics;
+    }
+
+    @Override
+    public QueryPlanCache queryPlanCache(){
+        return getGraphCache().getQueryPlanCache();
+    }
+
+    @Override
+    public ConceptCache conceptCache(){
+        return getGraphCache().getConceptCache();
+    }
+
+    @Override
+    public RuleCache ruleCache(){
+        return ruleCache;
+    }
+
+    @Override
+    public long reasonerCacheMaxAnswers(){
+        return getGraphCache().getReasonerCacheMaxAnswers();
+    }
+
     /**
      * @param concept A concept in the graph
      * @return True if the concept has been modified in the transaction
@@ -243,7 +305,14 @@ public abstract class AbstractGraknGraph<G extends Graph> implements GraknGraph,
 
     @Override
     public boolean isBatchGraph(){
-        return GraknTxType.BATCH.equals(txCache().txType());
+        return GraknTxType.BATCH.equals(txCache().txType()) || isBulkGraph();
+    }
+
+    /**
+     * @return true if validation is deferred until bulk loading is finished
+     */
+    boolean isBulkGraph(){
+        return GraknTxType.BULK.equals(txCache().txType());
     }
 
     @SuppressWarnings("unchecked")
@@ -277,6 +346,8 @@ public abstract class AbstractGraknGraph<G extends Graph> implements GraknGraph,
             createMetaShard(inferenceRuleType);
             createMetaShard(constraintRuleType);
 
+            type.property(Schema.VertexProperty.RELATION_INDEX_FORMAT, RelationImpl.INDEX_FORMAT);
+
             ontologyInitialised = true;
         }
 
@@ -298,6 +369,91 @@ public abstract class AbstractGraknGraph<G extends Graph> implements GraknGraph,
         return getMetaConcept() == null;
     }
 
+    private boolean isRelationIndexOutdated(){
+        Integer format = ((TypeImpl<?, ?>) getMetaConcept()).vertex().property(Schema.VertexProperty.RELATION_INDEX_FORMAT);
+        return format == null || format < RelationImpl.INDEX_FORMAT;
+    }
+
+    /**
+     * Reindexes the relations of a keyspace created with an older relation index in the background, so opening the
+     * keyspace does not wait for it. Duplicate relations cannot be detected until this is done. A keyspace is only
+     * migrated by one graph of this JVM at a time.
+     *
+     * The relations are read in a single pass of a {@link GraknTxType#READ} transaction and reindexed in batches,
+     * each committed in its own {@link GraknTxType#WRITE} transaction on a second thread because transactions are
+     * bound to the thread which opened them. The keyspace is then marked as using the current format.
+     *
+     * @return The running migration
+     */
+    private CompletableFuture<Void> migrateRelationIndex(){
+        if(!MIGRATING_KEYSPACES.add(keyspace)) return CompletableFuture.completedFuture(null);
+
+        ExecutorService reader = Executors.newSingleThreadExecutor();
+        ExecutorService writer = Executors.newSingleThreadExecutor();
+        return CompletableFuture.runAsync(() -> {
+            LOG.info("Migrating the relation index of keyspace [" + keyspace + "]");
+            long reindexed = reindexAllRelations(writer);
+            inWriteTransaction(writer, () -> {
+                //Vertex is used directly here to bypass meta type mutation check
+                ((TypeImpl<?, ?>) getMetaConcept()).property(Schema.VertexProperty.RELATION_INDEX_FORMAT, RelationImpl.INDEX_FORMAT);
+                return 0L;
+            });
+            LOG.info("Migrated the relation index of [" + reindexed + "] relations in keyspace [" + keyspace + "]");
+        }, reader).whenComplete((result, error) -> {
+            MIGRATING_KEYSPACES.remove(keyspace);
+            reader.shutdown();
+            writer.shutdown();
+            if(error != null) LOG.error("Failed to migrate the relation index of keyspace [" + keyspace + "]", error);
+        });
+    }
+
+    private long reindexAllRelations(ExecutorService writer){
+        long reindexed = 0;
+        openTransaction(GraknTxType.READ);
+        try {
+            Iterator<Object> relationIds = getTinkerTraversal().hasLabel(Schema.BaseType.RELATION.name()).id();
+            while (relationIds.hasNext()) {
+                List<Object> batch = new ArrayList<>(RELATION_REINDEX_BATCH_SIZE);
+                while (relationIds.hasNext() && batch.size() < RELATION_REINDEX_BATCH_SIZE) {
+                    batch.add(relationIds.next());
+                }
+                reindexed += inWriteTransaction(writer, () -> reindexRelations(batch));
+            }
+        } finally {
+            close(false, false);
+        }
+        return reindexed;
+    }
+
+    private long inWriteTransaction(ExecutorService writer, Supplier<Long> batch){
+        try {
+            return writer.submit(() -> {
+                openTransaction(GraknTxType.WRITE);
+                try {
+                    long result = batch.get();
+                    close(true, false);
+                    return result;
+                } finally {
+                    close(false, false);
+                }
+            }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) throw (RuntimeException) e.getCause();
+            throw new RuntimeException(e.getCause());
+        }
+    }
+
+    /**
+     * @return The migration of the relation index of an outdated keyspace, which is already complete for keyspaces
+     * using the current format
+     */
+    CompletableFuture<Void> relationIndexMigration(){
+        return relationIndexMigration;
+    }
+
     public G getTinkerPopGraph(){
         return graph;
     }
@@ -352,6 +508,7 @@ public abstract class AbstractGraknGraph<G extends Graph> implements GraknGraph,
     void checkOntologyMutationAllowed(){
         checkMutationAllowed();
         if(isBatchGraph()) throw GraphOperationException.ontologyMutation();
+        txCache().trackOntologyModification();
     }
 
     void checkMutationAllowed(){
@@ -532,9 +689,21 @@ public abstract class AbstractGraknGraph<G extends Graph> implements GraknGraph,
     public <T extends Concept> T getConcept(ConceptId id) {
         if(txCache().isConceptCached(id)){
             return txCache().getCachedConcept(id);
-        } else {
-            return getConcept(Schema.VertexProperty.ID, id.getValue());
         }
+
+        ConceptCacheImpl conceptCache = getGraphCache().getConceptCache();
+        if(!conceptCache.isEnabled()) return getConcept(Schema.VertexProperty.ID, id.getValue());
+
+        Object vertexId = conceptCache.getVertexId(id);
+        if(vertexId != null){
+            Iterator<Vertex> vertices = operateOnOpenGraph(() -> getTinkerPopGraph().vertices(vertexId));
+            if(vertices.hasNext()) return factory().buildConcept(vertices.next());
+            conceptCache.invalidate(Collections.singleton(id));
+        }
+
+        T concept = getConcept(Schema.VertexProperty.ID, id.getValue());
+        if(concept != null) conceptCache.cacheVertexId(id, ((ConceptImpl) concept).vertex().element().id());
+        return concept;
     }
     private <T extends OntologyConcept> T getOntologyConcept(Label label, Schema.BaseType baseType){
         operateOnOpenGraph(() -> null); //Makes sure the graph is open
@@ -750,7 +919,10 @@ public abstract class AbstractGraknGraph<G extends Graph> implements GraknGraph,
     }
 
     private Optional<String> commitWithLogs() throws InvalidGraphException {
-        validateGraph();
+        if(!isBulkGraph()) {
+            deleteInvalidatedInferences();
+            validateGraph();
+        }
 
         boolean submissionNeeded = !txCache().getShardingCount().isEmpty() ||
                 !txCache().getModifiedResources().isEmpty();
@@ -764,6 +936,9 @@ public abstract class AbstractGraknGraph<G extends Graph> implements GraknGraph,
 
         LOG.trace("Graph committed.");
 
+        //Resources in the log may be merged by post processing so other transactions should not rely on them
+        getGraphCache().getConceptCache().readCommitLog(conceptLog);
+
         if(submissionNeeded) {
             return Optional.of(conceptLog.toString());
         }
@@ -871,6 +1046,7 @@ public abstract class AbstractGraknGraph<G extends Graph> implements GraknGraph,
                 }
 
                 //Delete the node
+                transferInferenceSupport(otherResource, mainResource);
                 otherResource.deleteNode();
             }
 
@@ -893,13 +1069,18 @@ public abstract class AbstractGraknGraph<G extends Graph> implements GraknGraph,
      * @param otherRelation The other relation to potentially be absorbed
      */
     private void copyRelation(ResourceImpl main, ResourceImpl<?> other, RelationImpl otherRelation){
-        //Gets the other resource index and replaces all occurrences of the other resource id with the main resource id
-        //This allows us to find relations far more quickly.
-        String newIndex = otherRelation.getIndex().replaceAll(other.getId().getValue(), main.getId().getValue());
+        //Replaces the other resource with the main resource in the role players of the other relation
+        //This allows us to find the relation the other relation would be merged into by its hash.
+        Map<Role, Set<Thing>> rolePlayers = otherRelation.allRolePlayers();
+        rolePlayers.values().forEach(instances -> {
+            if(instances.remove(other)) instances.add(main);
+        });
+        String newIndex = RelationImpl.generateNewHash(otherRelation.type(), rolePlayers);
         RelationImpl foundRelation = txCache().getCachedRelation(newIndex);
-        if(foundRelation == null) foundRelation = getConcept(Schema.VertexProperty.INDEX, newIndex);
+        if(foundRelation == null) foundRelation = RelationImpl.findRelation(this, otherRelation.type(), rolePlayers);
 
         if (foundRelation != null) {//If it exists delete the other one
+            transferInferenceSupport(otherRelation, foundRelation);
             otherRelation.deleteNode(); //Raw deletion because the castings should remain
         } else { //If it doesn't exist transfer the edge to the relevant casting node
             foundRelation = otherRelation;
@@ -923,6 +1104,51 @@ public abstract class AbstractGraknGraph<G extends Graph> implements GraknGraph,
        });
     }
 
+    @Override
+    public void setConceptCount(ConceptId conceptId, long count){
+        ConceptImpl concept = getConcept(conceptId);
+        if(concept == null) {
+            LOG.warn("Cannot set the count of concept [" + conceptId + "] due to it not existing in the graph");
+        } else {
+            concept.setShardCount(count);
+        }
+    }
+
+    @Override
+    public void markAsInferred(Thing thing, ConceptId rule, Collection<Concept> support){
+        ThingImpl<?, ?> inferred = (ThingImpl<?, ?>) thing;
+        inferred.vertex().property(Schema.VertexProperty.INFERRED_BY, rule.getValue());
+        support.stream().
+                filter(concept -> concept.isThing() && !concept.equals(thing)).
+                forEach(concept -> inferred.putEdge(concept, Schema.EdgeLabel.INFERRED_FROM));
+    }
+
+    /**
+     * Deletes the {@link Thing}s which were inferred from {@link Thing}s deleted in this transaction. Deleting an
+     * inferred thing may invalidate the things inferred from it, so this is repeated until nothing else is invalidated.
+     * The deleted things are inferred again the next time their rules are materialised.
+     */
+    private void deleteInvalidatedInferences(){
+        Set<ConceptId> invalidated = txCache().getInvalidatedInferences();
+        while(!invalidated.isEmpty()){
+            ConceptId id = invalidated.iterator().next();
+            invalidated.remove(id);
+            Concept inferred = getConcept(id);
+            if(inferred != null) inferred.delete();
+        }
+    }
+
+    /**
+     * Moves the record of the {@link Thing}s inferred from a concept onto the concept which replaces it
+     *
+     * @param from The concept about to be removed
+     * @param to The concept which replaces it
+     */
+    private void transferInferenceSupport(ConceptImpl from, ConceptImpl to){
+        from.neighbours(Direction.IN, Schema.EdgeLabel.INFERRED_FROM).
+                forEach(inferred -> ((ConceptImpl) inferred).putEdge(to, Schema.EdgeLabel.INFERRED_FROM));
+    }
+
     @Override
     public void shard(ConceptId conceptId){
         ConceptImpl type = getConcept(conceptId);
@@ -932,4 +1158,127 @@ public abstract class AbstractGraknGraph<G extends Graph> implements GraknGraph,
             type.createShard();
         }
     }
+
+    @Override
+    public Set<ConceptId> getShards(Type type){
+        return ((TypeImpl<?, ?>) type).shards().stream().
+                map(shard -> ConceptId.of(shard.id())).
+                collect(toSet());
+    }
+
+    @Override
+    public Stream<Thing> streamShard(ConceptId shardId){
+        return getShard(shardId).map(shard -> shard.links().map(concept -> (Thing) concept)).orElse(Stream.empty());
+    }
+
+    private Optional<Shard> getShard(ConceptId shardId){
+        GraphTraversal<Vertex, Vertex> traversal = getTinkerTraversal().has(Schema.VertexProperty.ID.name(), shardId.getValue());
+        if(!traversal.hasNext()) return Optional.empty();
+        return Optional.of(factory().buildShard(traversal.next()));
+    }
+
+    @Override
+    public long finishBulkLoadOfRelations(ConceptId shardId, int batchSize){
+        if(isReadOnly() || isBatchGraph()) throw GraphOperationException.bulkLoadNotWrite(this);
+
+        //Bulk loaded concepts are marked with their shard until they are prepared, so no batch walks the prepared ones
+        List<Vertex> unindexed = getTinkerTraversal().has(Schema.VertexProperty.BULK_LOADED.name(), shardId.getValue()).
+                hasLabel(Schema.BaseType.RELATION.name()).limit(batchSize).toList();
+
+        Map<String, List<RelationImpl>> loaded = new HashMap<>();
+        for(Vertex vertex : unindexed){
+            RelationImpl relation = buildConcept(vertex);
+            relation.vertex().property(Schema.VertexProperty.BULK_LOADED, null);
+            Map<Role, Set<Thing>> rolePlayers = relation.allRolePlayers();
+            List<RelationImpl> sameHash = loaded.computeIfAbsent(
+                    RelationImpl.generateNewHash(relation.type(), rolePlayers), (k) -> new ArrayList<>());
+
+            RelationImpl original = sameHash.stream().
+                    filter(other -> other.hasRolePlayers(relation.type(), rolePlayers)).findAny().
+                    orElseGet(() -> RelationImpl.findRelation(this, relation.type(), rolePlayers));
+
+            if(original != null){
+                mergeDuplicateRelation(relation, original);
+            } else {
+                sameHash.add(relation);
+                txCache().trackForValidation(relation);
+                relation.castingsRelation().forEach(txCache()::trackForValidation);
+            }
+        }
+
+        return unindexed.size();
+    }
+
+    @Override
+    public long finishBulkLoadOfInstances(ConceptId shardId, int batchSize){
+        if(isReadOnly() || isBatchGraph()) throw GraphOperationException.bulkLoadNotWrite(this);
+
+        Optional<Shard> shard = getShard(shardId);
+        if(!shard.isPresent()) return 0;
+
+        List<Vertex> loaded = getTinkerTraversal().has(Schema.VertexProperty.BULK_LOADED.name(), shardId.getValue()).
+                limit(batchSize).toList();
+
+        //Only instances which must play a role need validating, they may not be in any relation
+        boolean mustPlay = CommonUtil.withImplicitConceptsVisible(this, () ->
+                ValidateGlobalRules.allPlays(shard.get().owner()).containsValue(true));
+        for(Vertex vertex : loaded){
+            ConceptImpl instance = buildConcept(vertex);
+            instance.vertex().property(Schema.VertexProperty.BULK_LOADED, null);
+            if(mustPlay) txCache().trackForValidation(instance);
+        }
+        return loaded.size();
+    }
+
+    /**
+     * Moves the role players attached to a duplicate relation onto the relation it duplicates and then deletes it
+     *
+     * @param duplicate The relation to delete
+     * @param original The relation which the duplicate has the same role players as
+     */
+    private void mergeDuplicateRelation(RelationImpl duplicate, RelationImpl original){
+        CommonUtil.withImplicitConceptsVisible(this, () -> duplicate.relations().forEach(relation -> {
+            Map<Role, Set<Thing>> rolePlayers = ((RelationImpl) relation).allRolePlayers();
+            if(relation.type().isImplicit()) {
+                //Implicit relations die with their role players so they are recreated on the original
+                rolePlayers.values().forEach(players -> {
+                    if(players.remove(duplicate)) players.add(original);
+                });
+                boolean exists = original.relations().stream().
+                        anyMatch(other -> ((RelationImpl) other).hasRolePlayers(relation.type(), rolePlayers));
+                if(!exists) {
+                    Relation copy = relation.type().addRelation();
+                    rolePlayers.forEach((role, players) -> players.forEach(player -> copy.addRolePlayer(role, player)));
+                }
+            } else {
+                rolePlayers.forEach((role, players) -> {
+                    if(players.contains(duplicate) && !players.contains(original)) relation.addRolePlayer(role, original);
+                });
+            }
+        }));
+
+        transferInferenceSupport(duplicate, original);
+        duplicate.delete();
+    }
+
+    /**
+     * Recomputes the index of a batch of {@link ai.grakn.concept.Relation}s
+     *
+     * @param vertexIds The ids of the vertices of the relations to reindex
+     * @return The number of relations in the batch
+     */
+    long reindexRelations(Collection<Object> vertexIds){
+        List<Vertex> vertices = getTinkerTraversal().hasId(vertexIds.toArray()).toList();
+
+        for (Vertex vertex : vertices) {
+            RelationImpl relation = buildConcept(vertex);
+
+            //Relations without an index have not been committed yet and are hashed when they are validated
+            if(relation.getIndex() == null) continue;
+
+            Optional<String> error = ValidateGlobalRules.validateRelationIsUnique(this, relation);
+            if(error.isPresent()) LOG.warn("Cannot reindex relation [" + relation.getId() + "]: " + error.get());
+        }
+        return vertices.size();
+    }
 }
@@ -0,0 +1,146 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.graph.internal;
+
+import ai.grakn.concept.ConceptId;
+import ai.grakn.graph.admin.ConceptCache;
+import ai.grakn.util.REST;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import mjson.Json;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ *     Concept Cache
+ * </p>
+ *
+ * <p>
+ *     A {@link ConceptCache} which lives in the {@link GraphCache}. Concepts are bound to the transaction which
+ *     built them so only the id of the vertex backing each concept is shared. A transaction which finds the vertex
+ *     id in this cache can fetch the vertex directly instead of performing an index lookup.
+ *     Only the commits of this session invalidate entries, so entries also expire after a fixed time.
+ *     Stale entries are harmless: when the vertex no longer exists the entry is dropped and the index is used.
+ * </p>
+ *
+ * <p>
+ *     The cache is bounded by the approximate number of characters held by its entries. A maximum weight of zero
+ *     disables the cache.
+ * </p>
+ */
+class ConceptCacheImpl implements ConceptCache {
+    //Rough overhead of a single entry on top of the characters in the keys and values
+    private static final int ENTRY_WEIGHT = 32;
+
+    private final boolean enabled;
+    private final Cache<ConceptId, Object> cachedVertexIds;
+
+    ConceptCacheImpl(long maxWeight, long expiryMs){
+        enabled = maxWeight > 0;
+        cachedVertexIds = CacheBuilder.newBuilder()
+                .maximumWeight(maxWeight)
+                .expireAfterWrite(expiryMs, TimeUnit.MILLISECONDS)
+                .weigher((ConceptId id, Object vertexId) ->
+                        ENTRY_WEIGHT + id.getValue().length() + vertexId.toString().length())
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @param id The id of the concept
+     * @return The id of the vertex backing the concept or null if it is not cached
+     */
+    Object getVertexId(ConceptId id){
+        if(!enabled) return null;
+        return cachedVertexIds.getIfPresent(id);
+    }
+
+    /**
+     * @param id The id of the concept
+     * @param vertexId The id of the vertex backing the concept
+     */
+    void cacheVertexId(ConceptId id, Object vertexId){
+        if(enabled) cachedVertexIds.put(id, vertexId);
+    }
+
+    /**
+     * @param ids The ids of concepts which have been modified or deleted
+     */
+    void invalidate(Collection<ConceptId> ids){
+        if(enabled) cachedVertexIds.invalidateAll(ids);
+    }
+
+    /**
+     * Removes all the cached concepts.
+     */
+    void invalidate(){
+        cachedVertexIds.invalidateAll();
+    }
+
+    /**
+     * Drops the concepts to be fixed and the types with new counts mentioned in the commit log of a local commit.
+     *
+     * @param commitLog The commit log in the format produced by {@link TxCache#getFormattedLog()}
+     */
+    void readCommitLog(Json commitLog){
+        if(!enabled) return;
+
+        Json fixing = commitLog.at(REST.Request.COMMIT_LOG_FIXING);
+        if(fixing != null){
+            for (Json conceptsByIndex : fixing.asJsonMap().values()) {
+                for (Json ids : conceptsByIndex.asJsonMap().values()) {
+                    ids.asJsonList().forEach(id -> cachedVertexIds.invalidate(ConceptId.of(id.asString())));
+                }
+            }
+        }
+
+        Json counting = commitLog.at(REST.Request.COMMIT_LOG_COUNTING);
+        if(counting != null){
+            counting.asJsonList().forEach(count ->
+                    cachedVertexIds.invalidate(ConceptId.of(count.at(REST.Request.COMMIT_LOG_CONCEPT_ID).asString())));
+        }
+    }
+
+    @Override
+    public long size() {
+        return cachedVertexIds.size();
+    }
+
+    @Override
+    public long hitCount() {
+        return cachedVertexIds.stats().hitCount();
+    }
+
+    @Override
+    public long missCount() {
+        return cachedVertexIds.stats().missCount();
+    }
+
+    @Override
+    public double hitRate() {
+        return cachedVertexIds.stats().hitRate();
+    }
+}
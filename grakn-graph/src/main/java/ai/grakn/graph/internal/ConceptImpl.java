@@ -59,6 +59,8 @@ import java.util.stream.Stream;
  */
 abstract class ConceptImpl implements Concept {
     private final VertexElement vertexElement;
+    //Built lazily because the id is used for every comparison of concepts
+    private ConceptId conceptId = null;
 
     @SuppressWarnings("unchecked")
     <X extends  Concept> X getThis(){
@@ -151,7 +153,8 @@ abstract class ConceptImpl implements Concept {
      */
     @Override
     public ConceptId getId(){
-        return ConceptId.of(vertex().id().getValue());
+        if(conceptId == null) conceptId = ConceptId.of(vertex().id().getValue());
+        return conceptId;
     }
 
     /**
@@ -19,7 +19,6 @@
 package ai.grakn.graph.internal;
 
 import ai.grakn.concept.Concept;
-import ai.grakn.concept.ConceptId;
 import ai.grakn.concept.EntityType;
 import ai.grakn.concept.RelationType;
 import ai.grakn.concept.ResourceType;
@@ -64,15 +63,13 @@ final class ElementFactory {
     }
 
     private <X extends ConceptImpl> X getOrBuildConcept(VertexElement v, Function<VertexElement, X> conceptBuilder){
-        ConceptId conceptId = ConceptId.of(v.id().toString());
+        X concept = graknGraph.txCache().getCachedConceptByVertexId(v.element().id());
 
-        if(!graknGraph.txCache().isConceptCached(conceptId)){
-            X newConcept = conceptBuilder.apply(v);
-            graknGraph.txCache().cacheConcept(newConcept);
+        if(concept == null){
+            concept = conceptBuilder.apply(v);
+            graknGraph.txCache().cacheConcept(concept);
         }
 
-        X concept = graknGraph.txCache().getCachedConcept(conceptId);
-
         //Only track concepts which have been modified.
         if(graknGraph.isConceptModified(concept)) {
             graknGraph.txCache().trackForValidation(concept);
@@ -138,6 +135,9 @@ final class ElementFactory {
     }
 
     <X extends Concept> X buildConcept(VertexElement vertexElement){
+        X cachedConcept = graknGraph.txCache().getCachedConceptByVertexId(vertexElement.element().id());
+        if(cachedConcept != null) return cachedConcept;
+
         Schema.BaseType type;
 
         try {
@@ -147,46 +147,44 @@ final class ElementFactory {
             return null;
         }
 
-        ConceptId conceptId = ConceptId.of(vertexElement.id().getValue());
-        if(!graknGraph.txCache().isConceptCached(conceptId)){
-            ConceptImpl concept;
-            switch (type) {
-                case RELATION:
-                    concept = new RelationImpl(vertexElement);
-                    break;
-                case TYPE:
-                    concept = new TypeImpl<>(vertexElement);
-                    break;
-                case ROLE:
-                    concept = new RoleImpl(vertexElement);
-                    break;
-                case RELATION_TYPE:
-                    concept = new RelationTypeImpl(vertexElement);
-                    break;
-                case ENTITY:
-                    concept = new EntityImpl(vertexElement);
-                    break;
-                case ENTITY_TYPE:
-                    concept = new EntityTypeImpl(vertexElement);
-                    break;
-                case RESOURCE_TYPE:
-                    concept = new ResourceTypeImpl<>(vertexElement);
-                    break;
-                case RESOURCE:
-                    concept = new ResourceImpl<>(vertexElement);
-                    break;
-                case RULE:
-                    concept = new RuleImpl(vertexElement);
-                    break;
-                case RULE_TYPE:
-                    concept = new RuleTypeImpl(vertexElement);
-                    break;
-                default:
-                    throw new RuntimeException("Unknown base type [" + vertexElement.label() + "]");
-            }
-            graknGraph.txCache().cacheConcept(concept);
+        ConceptImpl concept;
+        switch (type) {
+            case RELATION:
+                concept = new RelationImpl(vertexElement);
+                break;
+            case TYPE:
+                concept = new TypeImpl<>(vertexElement);
+                break;
+            case ROLE:
+                concept = new RoleImpl(vertexElement);
+                break;
+            case RELATION_TYPE:
+                concept = new RelationTypeImpl(vertexElement);
+                break;
+            case ENTITY:
+                concept = new EntityImpl(vertexElement);
+                break;
+            case ENTITY_TYPE:
+                concept = new EntityTypeImpl(vertexElement);
+                break;
+            case RESOURCE_TYPE:
+                concept = new ResourceTypeImpl<>(vertexElement);
+                break;
+            case RESOURCE:
+                concept = new ResourceImpl<>(vertexElement);
+                break;
+            case RULE:
+                concept = new RuleImpl(vertexElement);
+                break;
+            case RULE_TYPE:
+                concept = new RuleTypeImpl(vertexElement);
+                break;
+            default:
+                throw new RuntimeException("Unknown base type [" + vertexElement.label() + "]");
         }
-        return graknGraph.txCache().getCachedConcept(conceptId);
+        graknGraph.txCache().cacheConcept(concept);
+        //noinspection unchecked
+        return (X) concept;
     }
 
     /**
@@ -18,17 +18,23 @@
 
 package ai.grakn.graph.internal;
 
+import ai.grakn.concept.ConceptId;
 import ai.grakn.concept.Label;
 import ai.grakn.concept.LabelId;
 import ai.grakn.concept.OntologyConcept;
+import ai.grakn.graql.Pattern;
+import ai.grakn.util.Schema;
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
 
 import java.util.Map;
 import java.util.Properties;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 
 /**
  * <p>
@@ -43,6 +49,23 @@ import java.util.concurrent.TimeUnit;
  *             Label Cache - All the labels which make up the ontology. This can never expire and is needed in order
  *             to perform fast lookups. Essentially it is used for mapping labels to ids.
  *         </li>
+ *         <li>
+ *             Statistics Cache - Instance counts and fan-outs used when planning queries. These expire so that they
+ *             are periodically re-read from the persisted counts.
+ *         </li>
+ *         <li>
+ *             Query Plan Cache - The plans chosen for previously executed queries. This is cleared when the
+ *             ontology is modified.
+ *         </li>
+ *         <li>
+ *             Concept Cache - An opt-in, weight bounded cache of the vertices backing previously retrieved concepts.
+ *             Concepts are dropped when they are deleted or mentioned in a commit log.
+ *         </li>
+ *         <li>
+ *             Rule Cache - The parsed bodies and heads of rules, the rules which conclude each type and the
+ *             dependency graph of the rules. The rules of each type and the dependency graph are cleared when the
+ *             ontology or the rules are modified.
+ *         </li>
  *     <ol/>
  * </p>
  *
@@ -50,9 +73,22 @@ import java.util.concurrent.TimeUnit;
  *
  */
 class GraphCache {
+    //The default number of answers the reasoner caches before evicting the answers of queries it can look up again
+    private static final long DEFAULT_REASONER_CACHE_MAX_ANSWERS = 1_000_000;
+
     //Caches
     private final Cache<Label, OntologyConcept> cachedTypes;
     private final Map<Label, LabelId> cachedLabels;
+    private final Cache<Label, Long> cachedInstanceCounts;
+    private final Cache<Label, Double> cachedRolePlayersPerRelation;
+    private final Cache<Label, Double> cachedRelationsPerRolePlayer;
+    private final QueryPlanCacheImpl queryPlanCache;
+    private final ConceptCacheImpl conceptCache;
+    private final Cache<Label, Set<ConceptId>> cachedRulesOfConclusion;
+    private final Cache<Label, Set<ConceptId>> cachedInferenceRules;
+    private final Cache<Label, RuleDependencyGraph> cachedRuleDependencyGraph;
+    private final Cache<String, Pattern> cachedRulePatterns;
+    private final long reasonerCacheMaxAnswers;
 
     GraphCache(Properties properties){
         cachedLabels = new ConcurrentHashMap<>();
@@ -62,6 +98,32 @@ class GraphCache {
                 .maximumSize(1000)
                 .expireAfterAccess(cacheTimeout, TimeUnit.MILLISECONDS)
                 .build();
+
+        cachedInstanceCounts = buildStatisticsCache(cacheTimeout);
+        cachedRolePlayersPerRelation = buildStatisticsCache(cacheTimeout);
+        cachedRelationsPerRolePlayer = buildStatisticsCache(cacheTimeout);
+        queryPlanCache = new QueryPlanCacheImpl(1000, cacheTimeout);
+
+        Object conceptCacheWeight = properties.get(AbstractGraknGraph.CONCEPT_CACHE_MAX_WEIGHT);
+        conceptCache = new ConceptCacheImpl(conceptCacheWeight == null ? 0L : Long.parseLong(conceptCacheWeight.toString()), cacheTimeout);
+
+        cachedRulesOfConclusion = buildStatisticsCache(cacheTimeout);
+        cachedInferenceRules = buildStatisticsCache(cacheTimeout);
+        cachedRuleDependencyGraph = buildStatisticsCache(cacheTimeout);
+        cachedRulePatterns = CacheBuilder.newBuilder()
+                .maximumSize(10_000)
+                .build();
+
+        Object reasonerCacheAnswers = properties.get(AbstractGraknGraph.REASONER_CACHE_MAX_ANSWERS);
+        reasonerCacheMaxAnswers = reasonerCacheAnswers == null ?
+                DEFAULT_REASONER_CACHE_MAX_ANSWERS : Long.parseLong(reasonerCacheAnswers.toString());
+    }
+
+    private static <V> Cache<Label, V> buildStatisticsCache(int cacheTimeout){
+        return CacheBuilder.newBuilder()
+                .maximumSize(1000)
+                .expireAfterWrite(cacheTimeout, TimeUnit.MILLISECONDS)
+                .build();
     }
 
     /**
@@ -95,11 +157,169 @@ class GraphCache {
         //TODO: The difference between the caches need to be taken into account. For example if a type is delete then it should be removed from the cachedLabels
         cachedLabels.putAll(txCache.getLabelCache());
         cachedTypes.putAll(txCache.getOntologyConceptCache());
+        readInstanceCounts(txCache);
+
+        //Plans may depend on the old ontology so they cannot be trusted anymore
+        if(txCache.isOntologyModified()) queryPlanCache.invalidate();
+
+        //The rules which apply to a type may have changed
+        if(txCache.isOntologyModified() || txCache.areRulesModified()){
+            cachedRulesOfConclusion.invalidateAll();
+            cachedInferenceRules.invalidateAll();
+            cachedRuleDependencyGraph.invalidateAll();
+        }
+
+        //Deleted concepts no longer have a vertex
+        conceptCache.invalidate(txCache.getDeletedConcepts());
 
         //Flush All The Internal Transaction Caches
         txCache.getOntologyConceptCache().values().forEach(OntologyConceptImpl::txCacheFlush);
     }
 
+    /**
+     * Adjusts the cached instance counts using the changes made in a committed transaction.
+     * Counts which are not cached are left alone as they will be read from the graph when needed.
+     *
+     * @param txCache The transaction cache of the committed transaction
+     */
+    private void readInstanceCounts(TxCache txCache){
+        txCache.getShardingCount().forEach((conceptId, change) -> {
+            ConceptImpl concept = txCache.getCachedConcept(conceptId);
+            if(concept == null || !concept.isOntologyConcept()) return;
+
+            Label label = ((OntologyConceptImpl) concept).getLabel();
+            Long count = cachedInstanceCounts.getIfPresent(label);
+            if(count != null) cachedInstanceCounts.put(label, Math.max(0L, count + change));
+        });
+    }
+
+    /**
+     * @param label The label of the type
+     * @return The cached number of direct instances of the type or null if the count is not cached
+     */
+    Long getCachedInstanceCount(Label label){
+        return cachedInstanceCounts.getIfPresent(label);
+    }
+
+    /**
+     * @param label The label of the type
+     * @param count The number of direct instances of the type
+     */
+    void cacheInstanceCount(Label label, long count){
+        cachedInstanceCounts.put(label, count);
+    }
+
+    /**
+     * @param role The label of the role
+     * @return The cached average number of role-players per relation for the role or null if it is not cached
+     */
+    Double getCachedRolePlayersPerRelation(Label role){
+        return cachedRolePlayersPerRelation.getIfPresent(role);
+    }
+
+    /**
+     * @param role The label of the role
+     * @param fanOut The average number of role-players per relation for the role
+     */
+    void cacheRolePlayersPerRelation(Label role, double fanOut){
+        cachedRolePlayersPerRelation.put(role, fanOut);
+    }
+
+    /**
+     * @param role The label of the role
+     * @return The cached average number of relations per role-player for the role or null if it is not cached
+     */
+    Double getCachedRelationsPerRolePlayer(Label role){
+        return cachedRelationsPerRolePlayer.getIfPresent(role);
+    }
+
+    /**
+     * @param role The label of the role
+     * @param fanOut The average number of relations per role-player for the role
+     */
+    void cacheRelationsPerRolePlayer(Label role, double fanOut){
+        cachedRelationsPerRolePlayer.put(role, fanOut);
+    }
+
+    /**
+     * @return The cache of query plans shared by all the transactions of the session
+     */
+    QueryPlanCacheImpl getQueryPlanCache(){
+        return queryPlanCache;
+    }
+
+    /**
+     * @return The ids of all the inference rules or null if they are not cached
+     */
+    Set<ConceptId> getCachedInferenceRules(){
+        return cachedInferenceRules.getIfPresent(Schema.MetaSchema.INFERENCE_RULE.getLabel());
+    }
+
+    /**
+     * @param ruleIds The ids of all the inference rules
+     */
+    void cacheInferenceRules(Set<ConceptId> ruleIds){
+        cachedInferenceRules.put(Schema.MetaSchema.INFERENCE_RULE.getLabel(), ImmutableSet.copyOf(ruleIds));
+    }
+
+    /**
+     * @param type The label of the ontology concept
+     * @return The ids of the rules which directly conclude the ontology concept or null if they are not cached
+     */
+    Set<ConceptId> getCachedRulesOfConclusion(Label type){
+        return cachedRulesOfConclusion.getIfPresent(type);
+    }
+
+    /**
+     * @param type The label of the ontology concept
+     * @param ruleIds The ids of the rules which directly conclude the ontology concept
+     */
+    void cacheRulesOfConclusion(Label type, Set<ConceptId> ruleIds){
+        cachedRulesOfConclusion.put(type, ImmutableSet.copyOf(ruleIds));
+    }
+
+    /**
+     * @return The dependency graph of the inference rules or null if it is not cached
+     */
+    RuleDependencyGraph getCachedRuleDependencyGraph(){
+        return cachedRuleDependencyGraph.getIfPresent(Schema.MetaSchema.INFERENCE_RULE.getLabel());
+    }
+
+    /**
+     * @param dependencyGraph The dependency graph of the inference rules
+     */
+    void cacheRuleDependencyGraph(RuleDependencyGraph dependencyGraph){
+        cachedRuleDependencyGraph.put(Schema.MetaSchema.INFERENCE_RULE.getLabel(), dependencyGraph);
+    }
+
+    /**
+     * Parses the body or head of a rule only once per session. Rules cannot be changed so the parsed pattern is
+     * cached against the stored Graql string.
+     *
+     * @param pattern The Graql string of the pattern
+     * @param parser Parses the pattern when it is not cached
+     * @return The parsed pattern
+     */
+    Pattern getRulePattern(String pattern, Function<String, Pattern> parser){
+        Pattern parsed = cachedRulePatterns.getIfPresent(pattern);
+        if(parsed == null){
+            parsed = parser.apply(pattern);
+            cachedRulePatterns.put(pattern, parsed);
+        }
+        return parsed;
+    }
+
+    /**
+     * @return The cache of concept lookups shared by all the transactions of the session
+     */
+    ConceptCacheImpl getConceptCache(){
+        return conceptCache;
+    }
+
+    long getReasonerCacheMaxAnswers(){
+        return reasonerCacheMaxAnswers;
+    }
+
     /**
      * A copy of the cached labels. This is used when creating a new transaction.
      *
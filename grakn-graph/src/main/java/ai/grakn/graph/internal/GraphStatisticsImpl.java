@@ -0,0 +1,180 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.graph.internal;
+
+import ai.grakn.concept.Label;
+import ai.grakn.concept.LabelId;
+import ai.grakn.concept.OntologyConcept;
+import ai.grakn.concept.Role;
+import ai.grakn.concept.Type;
+import ai.grakn.graph.admin.GraphStatistics;
+import ai.grakn.util.CommonUtil;
+import ai.grakn.util.Schema;
+import org.apache.tinkerpop.gremlin.process.traversal.P;
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+import static java.util.stream.Collectors.toSet;
+
+/**
+ * <p>
+ *     Graph Statistics
+ * </p>
+ *
+ * <p>
+ *     Provides the {@link GraphStatistics} of a {@link AbstractGraknGraph}.
+ *     Engine keeps the live instance counts outside the graph and only writes them onto a type when it shards it.
+ *     New instances are always added to the current shard of a type, so the number of instances of a type is the count
+ *     persisted when the current shard was created plus the instances in the current shard, which are counted directly.
+ *     Fan-outs of shortcut edges are estimated by sampling the instances of the relevant types.
+ *     All the statistics are cached in the {@link GraphCache} so they are shared across transactions.
+ * </p>
+ */
+class GraphStatisticsImpl implements GraphStatistics {
+    //The number of instances to look at when estimating the fan-out of a role
+    private static final int FAN_OUT_SAMPLE_SIZE = 100;
+
+    //The number of instances in the current shard of a type above which they are no longer counted
+    private static final int CURRENT_SHARD_COUNT_LIMIT = 10_000;
+
+    private final AbstractGraknGraph<?> graph;
+
+    GraphStatisticsImpl(AbstractGraknGraph<?> graph){
+        this.graph = graph;
+    }
+
+    @Override
+    public Optional<Long> instanceCount(Label label) {
+        OntologyConcept concept = graph.getOntologyConcept(label);
+        if(concept == null || !concept.isType()) return Optional.empty();
+
+        Collection<? extends Type> subs = CommonUtil.withImplicitConceptsVisible(graph, concept.asType()::subs);
+
+        long total = 0L;
+        for (Type sub : subs) {
+            total += directInstanceCount((TypeImpl<?, ?>) sub);
+        }
+
+        return Optional.of(total);
+    }
+
+    /**
+     * @param type The type to get the number of direct instances of
+     * @return The number of direct instances of the type. This is a lower bound when the current shard of the type
+     * holds more than {@link #CURRENT_SHARD_COUNT_LIMIT} instances.
+     */
+    private long directInstanceCount(TypeImpl<?, ?> type){
+        Long count = graph.getGraphCache().getCachedInstanceCount(type.getLabel());
+        if(count != null) return count;
+
+        Long previousShardsCount = type.vertex().property(Schema.VertexProperty.SHARD_COUNT);
+        String currentShardId = type.vertex().property(Schema.VertexProperty.CURRENT_SHARD);
+        long currentShardCount = graph.getTinkerTraversal()
+                .has(Schema.VertexProperty.ID.name(), currentShardId)
+                .in(Schema.EdgeLabel.ISA.getLabel())
+                .limit(CURRENT_SHARD_COUNT_LIMIT)
+                .count().next();
+
+        count = (previousShardsCount == null ? 0L : previousShardsCount) + currentShardCount;
+        graph.getGraphCache().cacheInstanceCount(type.getLabel(), count);
+        return count;
+    }
+
+    @Override
+    public Optional<Double> rolePlayersPerRelation(Label label) {
+        Double cached = graph.getGraphCache().getCachedRolePlayersPerRelation(label);
+        if(cached != null) return Optional.of(cached);
+
+        Optional<Double> fanOut = fanOut(label, Direction.OUT, Role::relationTypes);
+        fanOut.ifPresent(value -> graph.getGraphCache().cacheRolePlayersPerRelation(label, value));
+        return fanOut;
+    }
+
+    @Override
+    public Optional<Double> relationsPerRolePlayer(Label label) {
+        Double cached = graph.getGraphCache().getCachedRelationsPerRolePlayer(label);
+        if(cached != null) return Optional.of(cached);
+
+        Optional<Double> fanOut = fanOut(label, Direction.IN, Role::playedByTypes);
+        fanOut.ifPresent(value -> graph.getGraphCache().cacheRelationsPerRolePlayer(label, value));
+        return fanOut;
+    }
+
+    /**
+     * @param label The label of the role
+     * @param direction The direction of the shortcut edges from the sampled instances
+     * @param sampledTypes The types whose instances are sampled, given the role
+     * @return The estimated fan-out of the role or nothing if it cannot be estimated
+     */
+    private Optional<Double> fanOut(Label label, Direction direction, Function<Role, Collection<? extends Type>> sampledTypes){
+        OntologyConcept concept = graph.getOntologyConcept(label);
+        if(concept == null || !concept.isRoleType()) return Optional.empty();
+        Role role = concept.asRoleType();
+
+        Set<Integer> typeIds = CommonUtil.withImplicitConceptsVisible(graph, () -> {
+            Set<Integer> ids = sampledTypes.apply(role).stream()
+                    .flatMap(type -> type.subs().stream())
+                    .map(type -> type.getTypeId().getValue())
+                    .collect(toSet());
+            return ids;
+        });
+
+        return sampleShortcutFanOut(typeIds, direction, role.getTypeId());
+    }
+
+    /**
+     * Estimates the fan-out of shortcut edges of a role by looking at a limited number of instances.
+     *
+     * @param typeIds The ids of the types whose instances should be sampled
+     * @param direction The direction of the shortcut edges from the sampled instances
+     * @param roleId The id of the role the shortcut edges must refer to
+     * @return The average number of matching shortcut edges per sampled instance or nothing if there are no instances
+     */
+    private Optional<Double> sampleShortcutFanOut(Set<Integer> typeIds, Direction direction, LabelId roleId){
+        if(typeIds.isEmpty()) return Optional.empty();
+
+        List<Vertex> sample = graph.getTinkerTraversal()
+                .has(Schema.VertexProperty.TYPE_ID.name(), P.within(typeIds))
+                .in(Schema.EdgeLabel.SHARD.getLabel())
+                .in(Schema.EdgeLabel.ISA.getLabel())
+                .limit(FAN_OUT_SAMPLE_SIZE)
+                .toList();
+
+        if(sample.isEmpty()) return Optional.empty();
+
+        long numEdges = 0;
+        for (Vertex vertex : sample) {
+            Iterator<Edge> edges = vertex.edges(direction, Schema.EdgeLabel.SHORTCUT.getLabel());
+            while (edges.hasNext()) {
+                Object edgeRoleId = edges.next().value(Schema.EdgeProperty.ROLE_TYPE_ID.name());
+                if(roleId.getValue().equals(edgeRoleId)) numEdges++;
+            }
+        }
+
+        return Optional.of((double) numEdges / sample.size());
+    }
+}
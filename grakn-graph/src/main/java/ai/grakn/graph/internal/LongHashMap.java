@@ -0,0 +1,172 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.graph.internal;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * <p>
+ *     A map from primitive long keys to values
+ * </p>
+ *
+ * <p>
+ *     Keys are stored in an open addressing table with linear probing, so neither the keys nor the entries are boxed.
+ *     This is used to look up {@link ConceptImpl}s by the long ids of their vertices without allocating on each lookup.
+ *     Null values are not supported.
+ * </p>
+ *
+ * @param <V> The type of the values
+ */
+class LongHashMap<V> {
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final float LOAD_FACTOR = 0.5f;
+
+    private long[] keys;
+    private Object[] values;
+    private int size;
+    private int threshold;
+
+    LongHashMap(){
+        allocate(DEFAULT_CAPACITY);
+    }
+
+    private void allocate(int capacity){
+        keys = new long[capacity];
+        values = new Object[capacity];
+        threshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private int slot(long key){
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & (keys.length - 1);
+    }
+
+    private int indexOf(long key){
+        int mask = keys.length - 1;
+        for(int i = slot(key); values[i] != null; i = (i + 1) & mask){
+            if(keys[i] == key) return i;
+        }
+        return -1;
+    }
+
+    int size(){
+        return size;
+    }
+
+    boolean isEmpty(){
+        return size == 0;
+    }
+
+    boolean containsKey(long key){
+        return indexOf(key) != -1;
+    }
+
+    /**
+     * @param key The key to look up
+     * @return The value mapped to the key or null if there is none
+     */
+    @SuppressWarnings("unchecked")
+    V get(long key){
+        int i = indexOf(key);
+        return i == -1 ? null : (V) values[i];
+    }
+
+    /**
+     * @param key The key to map the value to
+     * @param value The value, which cannot be null
+     * @return The value previously mapped to the key or null if there was none
+     */
+    @SuppressWarnings("unchecked")
+    V put(long key, V value){
+        Objects.requireNonNull(value);
+        int mask = keys.length - 1;
+        int i = slot(key);
+        for(; values[i] != null; i = (i + 1) & mask){
+            if(keys[i] == key){
+                V previous = (V) values[i];
+                values[i] = value;
+                return previous;
+            }
+        }
+
+        keys[i] = key;
+        values[i] = value;
+        if(++size > threshold) resize(keys.length * 2);
+        return null;
+    }
+
+    /**
+     * @param key The key to remove
+     * @return The value which was mapped to the key or null if there was none
+     */
+    @SuppressWarnings("unchecked")
+    V remove(long key){
+        int gap = indexOf(key);
+        if(gap == -1) return null;
+        V previous = (V) values[gap];
+
+        //Shift back the following entries of the probe sequence which can no longer be reached past the gap
+        int mask = keys.length - 1;
+        for(int i = (gap + 1) & mask; values[i] != null; i = (i + 1) & mask){
+            int home = slot(keys[i]);
+            boolean reachable = gap < i ? (home > gap && home <= i) : (home > gap || home <= i);
+            if(!reachable){
+                keys[gap] = keys[i];
+                values[gap] = values[i];
+                gap = i;
+            }
+        }
+
+        values[gap] = null;
+        size--;
+        return previous;
+    }
+
+    /**
+     * Removes all the entries, releasing the memory of large tables so a cache which is reused does not hold on to it
+     */
+    void clear(){
+        if(keys.length > DEFAULT_CAPACITY){
+            allocate(DEFAULT_CAPACITY);
+        } else {
+            Arrays.fill(values, null);
+        }
+        size = 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    void forEachValue(Consumer<? super V> consumer){
+        for (Object value : values) {
+            if(value != null) consumer.accept((V) value);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void resize(int capacity){
+        long[] oldKeys = keys;
+        Object[] oldValues = values;
+        allocate(capacity);
+        size = 0;
+        for(int i = 0; i < oldKeys.length; i++){
+            if(oldValues[i] != null) put(oldKeys[i], (V) oldValues[i]);
+        }
+    }
+}
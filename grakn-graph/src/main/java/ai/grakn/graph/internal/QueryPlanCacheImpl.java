@@ -0,0 +1,77 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.graph.internal;
+
+import ai.grakn.graph.admin.QueryPlanCache;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableList;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ *     Query Plan Cache
+ * </p>
+ *
+ * <p>
+ *     A bounded {@link QueryPlanCache} which lives in the {@link GraphCache}. Plans expire so that changes to the
+ *     ontology made by other sessions are eventually picked up.
+ * </p>
+ */
+class QueryPlanCacheImpl implements QueryPlanCache {
+    private final Cache<String, List<String>> cachedPlans;
+
+    QueryPlanCacheImpl(long maxSize, int cacheTimeout){
+        cachedPlans = CacheBuilder.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(cacheTimeout, TimeUnit.MILLISECONDS)
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public Optional<List<String>> getPlan(String pattern) {
+        return Optional.ofNullable(cachedPlans.getIfPresent(pattern));
+    }
+
+    @Override
+    public void cachePlan(String pattern, List<String> plan) {
+        cachedPlans.put(pattern, ImmutableList.copyOf(plan));
+    }
+
+    @Override
+    public long hitCount() {
+        return cachedPlans.stats().hitCount();
+    }
+
+    @Override
+    public long missCount() {
+        return cachedPlans.stats().missCount();
+    }
+
+    /**
+     * Removes all the cached plans. This is needed when the ontology changes as the plans may no longer be valid.
+     */
+    void invalidate(){
+        cachedPlans.invalidateAll();
+    }
+}
@@ -18,12 +18,16 @@
 
 package ai.grakn.graph.internal;
 
+import ai.grakn.concept.ConceptId;
 import ai.grakn.concept.Role;
 import ai.grakn.concept.Thing;
 import ai.grakn.concept.Relation;
 import ai.grakn.concept.RelationType;
 import ai.grakn.exception.GraphOperationException;
 import ai.grakn.util.Schema;
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
 import org.apache.tinkerpop.gremlin.process.traversal.P;
 import org.apache.tinkerpop.gremlin.structure.Direction;
 
@@ -31,11 +35,13 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-import java.util.SortedSet;
 import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -52,6 +58,14 @@ import java.util.stream.Stream;
  *
  */
 class RelationImpl extends ThingImpl<Relation, RelationType> implements Relation {
+    private static final HashFunction RELATION_HASH = Hashing.murmur3_128();
+
+    //The index of a relation stored in a slot of a hash, see hashSlot
+    private static final Pattern SLOTTED_INDEX = Pattern.compile("([0-9a-f]{" + RELATION_HASH.bits() / 4 + "})(?:_(\\d+))?");
+
+    //The version of the format of the relation index. Keyspaces with an older format are reindexed when opened.
+    static final int INDEX_FORMAT = 1;
+
     RelationImpl(VertexElement vertexElement) {
         super(vertexElement);
     }
@@ -64,7 +78,38 @@ class RelationImpl extends ThingImpl<Relation, RelationType> implements Relation
      * Sets the internal hash in order to perform a faster lookup
      */
     void setHash(){
-        vertex().propertyUnique(Schema.VertexProperty.INDEX, generateNewHash(type(), allRolePlayers()));
+        setHash(generateNewHash(type(), allRolePlayers()));
+    }
+
+    /**
+     *
+     * @param index The slot of the hash of this relation under which it is stored
+     */
+    void setHash(String index){
+        String previous = getIndex();
+        vertex().propertyUnique(Schema.VertexProperty.INDEX, index);
+        if(previous != null && !previous.equals(index)) fillVacatedSlot(vertex().graph(), previous);
+    }
+
+    /**
+     * Deletes the vertex of the relation and keeps the slots of its hash consecutive
+     */
+    @Override
+    void deleteNode() {
+        AbstractGraknGraph<?> graph = vertex().graph();
+        String index = getIndex();
+        super.deleteNode();
+        if(index != null) fillVacatedSlot(graph, index);
+    }
+
+    /**
+     *
+     * @param relationType The type of a relation
+     * @param roleMap The roles and their corresponding role players
+     * @return true if this relation has the provided type and role players
+     */
+    boolean hasRolePlayers(RelationType relationType, Map<Role, Set<Thing>> roleMap){
+        return type().equals(relationType) && allRolePlayers().equals(roleMap);
     }
 
     /**
@@ -90,26 +135,79 @@ class RelationImpl extends ThingImpl<Relation, RelationType> implements Relation
     }
 
     /**
+     * Hashes the type and role players of a relation into a fixed width key. The role players of each role are sorted
+     * so the hash does not depend on the order in which they are retrieved. Different relations may share a hash, see
+     * {@link #hashSlot(String, int)}.
      *
      * @param relationType The type of this relation
      * @param roleMap The roles and their corresponding role players
-     * @return A unique hash identifying this relation
+     * @return A 128 bit hash identifying this relation
      */
     static String generateNewHash(RelationType relationType, Map<Role, Set<Thing>> roleMap){
-        SortedSet<Role> sortedRoleIds = new TreeSet<>(roleMap.keySet());
-        StringBuilder hash = new StringBuilder();
-        hash.append("RelationType_").append(relationType.getId().getValue().replace("_", "\\_")).append("_Relation");
+        Hasher hasher = RELATION_HASH.newHasher();
+        putId(hasher, relationType.getId());
 
-        for(Role role: sortedRoleIds){
-            hash.append("_").append(role.getId().getValue().replace("_", "\\_"));
+        for(Role role: new TreeSet<>(roleMap.keySet())){
+            putId(hasher, role.getId());
 
-            roleMap.get(role).forEach(instance -> {
-                if(instance != null){
-                    hash.append("_").append(instance.getId().getValue().replace("_", "\\_"));
-                }
-            });
+            List<ConceptId> rolePlayers = roleMap.get(role).stream().
+                    filter(Objects::nonNull).map(Thing::getId).sorted().collect(Collectors.toList());
+            hasher.putInt(rolePlayers.size());
+            rolePlayers.forEach(id -> putId(hasher, id));
+        }
+        return hasher.hash().toString();
+    }
+
+    private static void putId(Hasher hasher, ConceptId id){
+        String value = id.getValue();
+        hasher.putInt(value.length()).putUnencodedChars(value);
+    }
+
+    /**
+     * Relations which share a hash are stored under consecutive slots of the hash and told apart by comparing their
+     * role players.
+     *
+     * @param hash The hash of a relation
+     * @param slot The slot of the hash, starting from 0
+     * @return The index of the relation stored in the slot
+     */
+    static String hashSlot(String hash, int slot){
+        return slot == 0 ? hash : hash + "_" + slot;
+    }
+
+    /**
+     * Moves the relation stored in the last slot of a hash into a slot which no relation is stored in anymore. This
+     * keeps the slots of a hash consecutive, so a lookup can stop at the first empty slot.
+     *
+     * @param graph The graph the relations are stored in
+     * @param vacated The index of the slot which has been vacated
+     */
+    private static void fillVacatedSlot(AbstractGraknGraph<?> graph, String vacated){
+        //Legacy indices are not stored in slots
+        Matcher matcher = SLOTTED_INDEX.matcher(vacated);
+        if(!matcher.matches()) return;
+
+        String hash = matcher.group(1);
+        int slot = matcher.group(2) == null ? 0 : Integer.parseInt(matcher.group(2));
+        int last = slot;
+        while(graph.getConcept(Schema.VertexProperty.INDEX, hashSlot(hash, last + 1)) != null) last++;
+
+        if(last > slot) graph.<RelationImpl>getConcept(Schema.VertexProperty.INDEX, hashSlot(hash, last)).setHash(vacated);
+    }
+
+    /**
+     *
+     * @param graph The graph to search
+     * @param relationType The type of the relation
+     * @param roleMap The roles and their corresponding role players
+     * @return The relation with the provided type and role players or null if there is no such relation
+     */
+    static RelationImpl findRelation(AbstractGraknGraph<?> graph, RelationType relationType, Map<Role, Set<Thing>> roleMap){
+        String hash = generateNewHash(relationType, roleMap);
+        for(int slot = 0; ; slot++){
+            RelationImpl foundRelation = graph.getConcept(Schema.VertexProperty.INDEX, hashSlot(hash, slot));
+            if(foundRelation == null || foundRelation.hasRolePlayers(relationType, roleMap)) return foundRelation;
         }
-        return hash.toString();
     }
 
     /**
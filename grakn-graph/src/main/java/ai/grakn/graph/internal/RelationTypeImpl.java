@@ -100,7 +100,7 @@ class RelationTypeImpl extends TypeImpl<RelationType, Relation> implements Relat
         ((RoleImpl) role).addCachedRelationType(this);
 
         //Put all the instance back in for tracking because their unique hashes need to be regenerated
-        instances().forEach(instance -> vertex().graph().txCache().trackForValidation((ConceptImpl) instance));
+        streamInstances().forEach(instance -> vertex().graph().txCache().trackForValidation((ConceptImpl) instance));
 
         return this;
     }
@@ -133,7 +133,7 @@ class RelationTypeImpl extends TypeImpl<RelationType, Relation> implements Relat
         ((RoleImpl) role).deleteCachedRelationType(this);
 
         //Put all the instance back in for tracking because their unique hashes need to be regenerated
-        instances().forEach(instance -> vertex().graph().txCache().trackForValidation((ConceptImpl) instance));
+        streamInstances().forEach(instance -> vertex().graph().txCache().trackForValidation((ConceptImpl) instance));
 
         return this;
     }
@@ -89,14 +89,13 @@ class ResourceTypeImpl<D> extends TypeImpl<ResourceType<D>, Resource<D>> impleme
     private void checkInstancesMatchRegex(String regex){
         if(regex != null) {
             Pattern pattern = Pattern.compile(regex);
-            Matcher matcher;
-            for (Resource<D> resource : instances()) {
+            streamInstances().forEach(resource -> {
                 String value = (String) resource.getValue();
-                matcher = pattern.matcher(value);
+                Matcher matcher = pattern.matcher(value);
                 if(!matcher.matches()){
                     throw GraphOperationException.regexFailure(resource, value, regex);
                 }
-            }
+            });
         }
     }
 
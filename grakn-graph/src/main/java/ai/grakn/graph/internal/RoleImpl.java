@@ -131,7 +131,7 @@ class RoleImpl extends OntologyConceptImpl<Role> implements Role {
      */
     public Stream<Casting> rolePlayers(){
         return relationTypes().stream().
-                flatMap(relationType -> relationType.instances().stream()).
+                flatMap(RelationType::streamInstances).
                 flatMap(relation -> ((RelationImpl)relation).castingsRelation(this));
     }
 
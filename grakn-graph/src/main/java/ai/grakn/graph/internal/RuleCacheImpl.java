@@ -0,0 +1,159 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.graph.internal;
+
+import ai.grakn.concept.Concept;
+import ai.grakn.concept.ConceptId;
+import ai.grakn.concept.Label;
+import ai.grakn.concept.OntologyConcept;
+import ai.grakn.concept.Rule;
+import ai.grakn.graph.admin.RuleCache;
+import ai.grakn.util.CommonUtil;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import static java.util.stream.Collectors.toSet;
+
+/**
+ * <p>
+ *     Rule Cache
+ * </p>
+ *
+ * <p>
+ *     Provides the {@link RuleCache} of a {@link AbstractGraknGraph}.
+ *     The ids of the rules are cached in the {@link GraphCache} so they are shared across transactions. The rules are
+ *     then looked up by id in the current transaction. A transaction which has changed the ontology or the rules
+ *     bypasses the cache as the cached rules may not reflect its changes.
+ * </p>
+ */
+class RuleCacheImpl implements RuleCache {
+    private final AbstractGraknGraph<?> graph;
+
+    RuleCacheImpl(AbstractGraknGraph<?> graph){
+        this.graph = graph;
+    }
+
+    @Override
+    public Set<Rule> getInferenceRules() {
+        GraphCache graphCache = graph.getGraphCache();
+        return getRules(graphCache::getCachedInferenceRules, graphCache::cacheInferenceRules,
+                () -> graph.getMetaRuleInference().instances());
+    }
+
+    @Override
+    public Set<Rule> getRulesOfConclusion(Label type) {
+        GraphCache graphCache = graph.getGraphCache();
+        return getRules(() -> graphCache.getCachedRulesOfConclusion(type), ids -> graphCache.cacheRulesOfConclusion(type, ids),
+                () -> {
+                    OntologyConcept concept = graph.getOntologyConcept(type);
+                    return concept == null ? Collections.<Rule>emptySet() : concept.getRulesOfConclusion();
+                });
+    }
+
+    @Override
+    public int getStratum(Rule rule) {
+        return getDependencyGraph().getStratum(rule.getId());
+    }
+
+    @Override
+    public boolean isSatisfiable(Rule rule) {
+        return getDependencyGraph().isSatisfiable(rule.getId());
+    }
+
+    @Override
+    public boolean requiresFixpoint(Rule rule) {
+        return getDependencyGraph().requiresFixpoint(rule.getId());
+    }
+
+    @Override
+    public boolean isRecursive(Label type) {
+        Set<Label> recursiveTypes = getDependencyGraph().getRecursiveTypes();
+        return !recursiveTypes.isEmpty() && concludesAny(type, recursiveTypes);
+    }
+
+    /**
+     * @param type The label of an ontology concept
+     * @param concludedTypes The labels of concluded types
+     * @return True if the ontology concept or one of its subs is one of the concluded types
+     */
+    private boolean concludesAny(Label type, Set<Label> concludedTypes){
+        OntologyConcept concept = graph.getOntologyConcept(type);
+        if(concept == null) return false;
+        return CommonUtil.withImplicitConceptsVisible(graph, () ->
+                concept.subs().stream().anyMatch(sub -> concludedTypes.contains(sub.getLabel())));
+    }
+
+    /**
+     * @return The dependency graph of the inference rules. A transaction which has changed the ontology or the rules
+     * computes its own dependency graph.
+     */
+    private RuleDependencyGraph getDependencyGraph(){
+        TxCache txCache = graph.txCache();
+        if(txCache.isOntologyModified() || txCache.areRulesModified()){
+            RuleDependencyGraph dependencyGraph = txCache.getRuleDependencyGraph();
+            if(dependencyGraph == null){
+                dependencyGraph = RuleDependencyGraph.of(graph, getInferenceRules());
+                txCache.cacheRuleDependencyGraph(dependencyGraph);
+            }
+            return dependencyGraph;
+        }
+
+        GraphCache graphCache = graph.getGraphCache();
+        RuleDependencyGraph dependencyGraph = graphCache.getCachedRuleDependencyGraph();
+        if(dependencyGraph == null){
+            dependencyGraph = RuleDependencyGraph.of(graph, getInferenceRules());
+            graphCache.cacheRuleDependencyGraph(dependencyGraph);
+        }
+        return dependencyGraph;
+    }
+
+    /**
+     * @param cachedIds A supplier of the cached ids of the rules, which supplies null if they are not cached
+     * @param cacheIds A consumer which caches the ids of the rules
+     * @param rules A supplier of the rules read from the graph
+     * @return The cached rules or the rules read from the graph if they are not cached
+     */
+    private Set<Rule> getRules(Supplier<Set<ConceptId>> cachedIds, Consumer<Set<ConceptId>> cacheIds,
+                               Supplier<Collection<? extends Rule>> rules){
+        TxCache txCache = graph.txCache();
+        if(txCache.isOntologyModified() || txCache.areRulesModified()) return readRules(rules);
+
+        Set<ConceptId> ruleIds = cachedIds.get();
+        if(ruleIds == null){
+            Set<Rule> foundRules = readRules(rules);
+            cacheIds.accept(foundRules.stream().map(Concept::getId).collect(toSet()));
+            return foundRules;
+        }
+
+        return ruleIds.stream()
+                .<Concept>map(graph::getConcept)
+                .filter(Objects::nonNull)
+                .map(Concept::asRule)
+                .collect(toSet());
+    }
+
+    private static Set<Rule> readRules(Supplier<Collection<? extends Rule>> rules){
+        return rules.get().stream().collect(toSet());
+    }
+}
@@ -0,0 +1,273 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.graph.internal;
+
+import ai.grakn.concept.ConceptId;
+import ai.grakn.concept.Label;
+import ai.grakn.concept.Rule;
+import ai.grakn.concept.Type;
+import ai.grakn.util.CommonUtil;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static java.util.stream.Collectors.toSet;
+
+/**
+ * <p>
+ *     Rule Dependency Graph
+ * </p>
+ *
+ * <p>
+ *     Describes how the inference rules of a keyspace depend on each other. A rule depends on another rule when a type
+ *     in its hypothesis is compatible with a type in the conclusion of the other rule. The rules are split into
+ *     strongly connected components, which are ordered into strata so that a rule only depends on rules in its own
+ *     stratum or in lower strata. A rule is recursive when its component contains a cycle. Answering the conclusion
+ *     of a rule needs a fixpoint when the rule is recursive or depends on a recursive rule, otherwise a single pass
+ *     of the resolution finds all the answers.
+ * </p>
+ *
+ * <p>
+ *     A rule is unsatisfiable when one of the types in its hypothesis can never have instances given the ontology:
+ *     the type and all its subs are abstract and none of them is concluded by a satisfiable rule.
+ * </p>
+ *
+ * <p>
+ *     Only ids and labels are kept so the graph can be shared across transactions.
+ * </p>
+ */
+class RuleDependencyGraph {
+    private final Map<ConceptId, Integer> strata;
+    private final Set<ConceptId> unsatisfiableRules;
+    //The labels of the types concluded by recursive rules
+    private final Set<Label> recursiveTypes;
+    //The rules which are recursive or depend on a recursive rule
+    private final Set<ConceptId> fixpointRules;
+
+    private RuleDependencyGraph(Map<ConceptId, Integer> strata, Set<ConceptId> unsatisfiableRules,
+                                Set<Label> recursiveTypes, Set<ConceptId> fixpointRules){
+        this.strata = ImmutableMap.copyOf(strata);
+        this.unsatisfiableRules = ImmutableSet.copyOf(unsatisfiableRules);
+        this.recursiveTypes = ImmutableSet.copyOf(recursiveTypes);
+        this.fixpointRules = ImmutableSet.copyOf(fixpointRules);
+    }
+
+    /**
+     * @param graph The graph the rules belong to
+     * @param rules All the inference rules of the graph
+     * @return The dependency graph of the rules
+     */
+    static RuleDependencyGraph of(AbstractGraknGraph<?> graph, Set<Rule> rules){
+        return CommonUtil.withImplicitConceptsVisible(graph, () -> new Builder(rules).build());
+    }
+
+    /**
+     * @param rule The id of a rule
+     * @return The stratum of the rule, rules only depend on rules of the same or lower strata
+     */
+    int getStratum(ConceptId rule){
+        return strata.getOrDefault(rule, 0);
+    }
+
+    /**
+     * @param rule The id of a rule
+     * @return True if the body of the rule can match instances given the ontology
+     */
+    boolean isSatisfiable(ConceptId rule){
+        return !unsatisfiableRules.contains(rule);
+    }
+
+    /**
+     * @return The labels of the types concluded by recursive rules
+     */
+    Set<Label> getRecursiveTypes(){
+        return recursiveTypes;
+    }
+
+    /**
+     * @param rule The id of a rule
+     * @return True if the rule is recursive or depends on a recursive rule, directly or through other rules
+     */
+    boolean requiresFixpoint(ConceptId rule){
+        return fixpointRules.contains(rule);
+    }
+
+    /**
+     * Computes the dependency graph using Tarjan's strongly connected components algorithm, which finds the
+     * components of the rules a rule depends on before the component of the rule itself. The search keeps its own
+     * stack rather than recursing so long chains of rules cannot overflow the call stack.
+     */
+    private static class Builder {
+        private final List<Rule> rules;
+        private final Map<Rule, Set<Type>> hypotheses = new HashMap<>();
+        private final Map<Rule, Set<Type>> conclusions = new HashMap<>();
+        private final Map<Type, Set<Label>> subLabels = new HashMap<>();
+        private final Map<Rule, Set<Rule>> dependencies = new HashMap<>();
+
+        //State of Tarjan's algorithm
+        private final Map<Rule, Integer> index = new HashMap<>();
+        private final Map<Rule, Integer> lowLink = new HashMap<>();
+        private final List<Rule> stack = new ArrayList<>();
+        private final Set<Rule> onStack = new HashSet<>();
+        private final Deque<Rule> callStack = new ArrayDeque<>();
+        private final Map<Rule, Iterator<Rule>> remainingDependencies = new HashMap<>();
+        private final List<Set<Rule>> orderedComponents = new ArrayList<>();
+
+        Builder(Set<Rule> rules){
+            this.rules = new ArrayList<>(rules);
+            for (Rule rule : rules) {
+                hypotheses.put(rule, ((RuleImpl) rule).getHypothesisTypesExcludingRoles());
+                conclusions.put(rule, ((RuleImpl) rule).getConclusionTypesExcludingRoles());
+            }
+            for (Rule rule : rules) {
+                dependencies.put(rule, this.rules.stream()
+                        .filter(other -> hypotheses.get(rule).stream()
+                                .anyMatch(type -> conclusions.get(other).stream().anyMatch(c -> compatible(type, c))))
+                        .collect(toSet()));
+            }
+        }
+
+        private Set<Label> subLabels(Type type){
+            return subLabels.computeIfAbsent(type, t -> t.subs().stream().map(Type::getLabel).collect(toSet()));
+        }
+
+        private boolean compatible(Type type, Type other){
+            return subLabels(type).contains(other.getLabel()) || subLabels(other).contains(type.getLabel());
+        }
+
+        RuleDependencyGraph build(){
+            rules.stream().filter(rule -> !index.containsKey(rule)).forEach(this::connect);
+
+            Map<ConceptId, Integer> strata = new HashMap<>();
+            Set<ConceptId> recursiveRules = new HashSet<>();
+            Set<ConceptId> fixpointRules = new HashSet<>();
+            for (Set<Rule> component : orderedComponents) {
+                Set<Rule> componentDependencies = component.stream()
+                        .flatMap(rule -> dependencies.get(rule).stream())
+                        .collect(toSet());
+                boolean recursive = component.size() > 1 || componentDependencies.containsAll(component);
+                int stratum = componentDependencies.stream()
+                        .filter(rule -> !component.contains(rule))
+                        .mapToInt(rule -> strata.get(rule.getId()) + 1)
+                        .max().orElse(0);
+
+                boolean fixpoint = recursive ||
+                        componentDependencies.stream().anyMatch(rule -> fixpointRules.contains(rule.getId()));
+
+                for (Rule rule : component) {
+                    strata.put(rule.getId(), stratum);
+                    if (recursive) recursiveRules.add(rule.getId());
+                    if (fixpoint) fixpointRules.add(rule.getId());
+                }
+            }
+
+            Set<Rule> satisfiable = satisfiableRules();
+            Set<ConceptId> unsatisfiableRules = rules.stream()
+                    .filter(rule -> !satisfiable.contains(rule))
+                    .map(Rule::getId)
+                    .collect(toSet());
+
+            Set<Label> recursiveTypes = rules.stream()
+                    .filter(rule -> recursiveRules.contains(rule.getId()))
+                    .flatMap(rule -> conclusions.get(rule).stream())
+                    .map(Type::getLabel)
+                    .collect(toSet());
+
+            return new RuleDependencyGraph(strata, unsatisfiableRules, recursiveTypes, fixpointRules);
+        }
+
+        private void connect(Rule root){
+            visit(root);
+            while (!callStack.isEmpty()) {
+                Rule rule = callStack.peek();
+                Iterator<Rule> toVisit = remainingDependencies.get(rule);
+                if (toVisit.hasNext()) {
+                    Rule dependency = toVisit.next();
+                    if (!index.containsKey(dependency)) {
+                        visit(dependency);
+                    } else if (onStack.contains(dependency)) {
+                        lowLink.put(rule, Math.min(lowLink.get(rule), index.get(dependency)));
+                    }
+                } else {
+                    callStack.pop();
+                    remainingDependencies.remove(rule);
+                    if (lowLink.get(rule).equals(index.get(rule))) popComponent(rule);
+                    Rule caller = callStack.peek();
+                    if (caller != null) lowLink.put(caller, Math.min(lowLink.get(caller), lowLink.get(rule)));
+                }
+            }
+        }
+
+        private void visit(Rule rule){
+            index.put(rule, index.size());
+            lowLink.put(rule, index.get(rule));
+            stack.add(rule);
+            onStack.add(rule);
+            callStack.push(rule);
+            remainingDependencies.put(rule, dependencies.get(rule).iterator());
+        }
+
+        private void popComponent(Rule root){
+            Set<Rule> component = new HashSet<>();
+            Rule member;
+            do {
+                member = stack.remove(stack.size() - 1);
+                onStack.remove(member);
+                component.add(member);
+            } while (member != root);
+            orderedComponents.add(component);
+        }
+
+        /**
+         * @return The rules whose hypothesis types can all have instances, either in the data or through other rules
+         */
+        private Set<Rule> satisfiableRules(){
+            Set<Rule> satisfiable = new HashSet<>();
+            boolean changed = true;
+            while (changed) {
+                changed = false;
+                for (Rule rule : rules) {
+                    if (!satisfiable.contains(rule) &&
+                            hypotheses.get(rule).stream().allMatch(type -> canHaveInstances(type, satisfiable))) {
+                        satisfiable.add(rule);
+                        changed = true;
+                    }
+                }
+            }
+            return satisfiable;
+        }
+
+        private boolean canHaveInstances(Type type, Set<Rule> satisfiable){
+            if (type.subs().stream().anyMatch(sub -> !sub.isAbstract())) return true;
+            Set<Label> subs = subLabels(type);
+            return satisfiable.stream()
+                    .flatMap(rule -> conclusions.get(rule).stream())
+                    .anyMatch(conclusion -> subs.contains(conclusion.getLabel()));
+        }
+    }
+}
@@ -29,6 +29,8 @@ import org.apache.tinkerpop.gremlin.structure.Direction;
 
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * <p>
@@ -78,7 +80,8 @@ class RuleImpl extends ThingImpl<Rule, RuleType> implements Rule {
         if(value == null) {
             return null;
         } else {
-            return vertex().graph().graql().parsePattern(value);
+            AbstractGraknGraph<?> graph = vertex().graph();
+            return graph.getGraphCache().getRulePattern(value, pattern -> graph.graql().parsePattern(pattern));
         }
     }
 
@@ -124,6 +127,29 @@ class RuleImpl extends ThingImpl<Rule, RuleType> implements Rule {
         return types;
     }
 
+    /**
+     *
+     * @return The types in the hypothesis of the rule, roles are left out
+     */
+    Set<Type> getHypothesisTypesExcludingRoles() {
+        return typesExcludingRoles(Schema.EdgeLabel.HYPOTHESIS);
+    }
+
+    /**
+     *
+     * @return The types in the conclusion of the rule, roles are left out
+     */
+    Set<Type> getConclusionTypesExcludingRoles() {
+        return typesExcludingRoles(Schema.EdgeLabel.CONCLUSION);
+    }
+
+    private Set<Type> typesExcludingRoles(Schema.EdgeLabel edgeLabel) {
+        return this.<OntologyConcept>neighbours(Direction.OUT, edgeLabel)
+                .filter(OntologyConcept::isType)
+                .map(OntologyConcept::asType)
+                .collect(Collectors.toSet());
+    }
+
     /**
      * Generate the internal hash in order to perform a faster lookups and ensure rules are unique
      */
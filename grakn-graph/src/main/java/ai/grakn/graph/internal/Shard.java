@@ -60,6 +60,16 @@ class Shard {
         return vertex().id().getValue().toString();
     }
 
+    /**
+     *
+     * @return The type which this shard belongs to
+     */
+    <X extends TypeImpl<?, ?>> X owner(){
+        return vertex().getEdgesOfType(Direction.OUT, Schema.EdgeLabel.SHARD).
+                map(edge -> vertex().graph().factory().<X>buildConcept(edge.target())).
+                findAny().orElse(null);
+    }
+
     /**
      *
      * @param owner Sets the owner of this shard
@@ -96,6 +96,10 @@ abstract class ThingImpl<T extends Thing, V extends Type> extends ConceptImpl im
         Set<Relation> relations = castingsInstance().map(Casting::getRelation).collect(Collectors.toSet());
 
         vertex().graph().txCache().removedInstance(type().getId());
+        if(!vertex().graph().isBulkGraph()) {
+            neighbours(Direction.IN, Schema.EdgeLabel.INFERRED_FROM).
+                    forEach(inferred -> vertex().graph().txCache().trackInvalidatedInference(inferred.getId()));
+        }
         deleteNode();
 
         relations.forEach(relation -> {
@@ -242,7 +246,10 @@ abstract class ThingImpl<T extends Thing, V extends Type> extends ConceptImpl im
      */
     protected T type(TypeImpl type) {
         if(type != null){
-            type.currentShard().link(this);
+            Shard shard = type.currentShard();
+            shard.link(this);
+            //Bulk loaded instances are found by their shard when the load is finished
+            if(vertex().graph().isBulkGraph()) vertex().property(Schema.VertexProperty.BULK_LOADED, shard.id());
             setInternalType(type());
         }
         return getThis();
@@ -57,6 +57,9 @@ class TxCache {
     private final GraphCache graphCache;
 
     //Caches any concept which has been touched before
+    //Concepts are keyed by the ids of their vertices, which are longs for all the supported backends. This avoids
+    //building a ConceptId for each lookup. Concepts whose vertices have other kinds of ids are keyed by ConceptId.
+    private final LongHashMap<ConceptImpl> conceptsByVertexId = new LongHashMap<>();
     private final Map<ConceptId, ConceptImpl> conceptCache = new HashMap<>();
     private final Map<Label, OntologyConceptImpl> ontologyConceptCache = new HashMap<>();
     private final Map<Label, LabelId> labelCache = new HashMap<>();
@@ -80,9 +83,16 @@ class TxCache {
     //We Track the number of concept connections which have been made which may result in a new shard
     private final Map<ConceptId, Long> shardingCount = new HashMap<>();
 
+    //We Track deleted concepts so they can be removed from the graph cache on commit
+    private final Set<ConceptId> deletedConcepts = new HashSet<>();
+    private final Set<ConceptId> invalidatedInferences = new HashSet<>();
+
     //Transaction Specific Meta Data
     private boolean isTxOpen = false;
     private boolean showImplicitTypes = false;
+    private boolean ontologyModified = false;
+    private boolean rulesModified = false;
+    private RuleDependencyGraph ruleDependencyGraph = null;
     private GraknTxType txType;
     private String closedReason = null;
 
@@ -135,6 +145,9 @@ class TxCache {
      * @param element The element to be later validated
      */
     void trackForValidation(ConceptImpl element) {
+        //Bulk loads are validated when loading is finished so only the resources needed by the commit log are tracked
+        if (GraknTxType.BULK.equals(txType) && !element.isResource()) return;
+
         if (element.isEntity()) {
             modifiedEntities.add((EntityImpl) element);
         } else if (element.isRoleType()) {
@@ -148,11 +161,14 @@ class TxCache {
             relationIndexCache.put(RelationImpl.generateNewHash(relation.type(), relation.allRolePlayers()), relation);
         } else if (element.isRule()){
             modifiedRules.add((RuleImpl) element);
+            rulesModified = true;
+            ruleDependencyGraph = null;
         } else if (element.isResource()){
             modifiedResources.add((ResourceImpl) element);
         }
     }
     void trackForValidation(Casting casting) {
+        if (GraknTxType.BULK.equals(txType)) return;
         modifiedCastings.add(casting);
     }
 
@@ -192,8 +208,10 @@ class TxCache {
      *
      * @return All the concepts which have been accessed in this transaction
      */
-    Map<ConceptId, ConceptImpl> getConceptCache() {
-        return conceptCache;
+    Set<ConceptImpl> getCachedConcepts() {
+        Set<ConceptImpl> concepts = new HashSet<>(conceptCache.values());
+        conceptsByVertexId.forEachValue(concepts::add);
+        return concepts;
     }
 
     /**
@@ -209,7 +227,17 @@ class TxCache {
         modifiedRules.remove(concept);
         modifiedResources.remove(concept);
 
-        conceptCache.remove(concept.getId());
+        deletedConcepts.add(concept.getId());
+        if (concept.isRule()) {
+            rulesModified = true;
+            ruleDependencyGraph = null;
+        }
+        Object vertexId = concept.vertex().element().id();
+        if (vertexId instanceof Long) {
+            conceptsByVertexId.remove((Long) vertexId);
+        } else {
+            conceptCache.remove(concept.getId());
+        }
         if (concept.isOntologyConcept()) {
             Label label = ((OntologyConceptImpl) concept).getLabel();
             ontologyConceptCache.remove(label);
@@ -232,7 +260,12 @@ class TxCache {
      * @param concept The concept to be cached.
      */
     void cacheConcept(ConceptImpl concept){
-        conceptCache.put(concept.getId(), concept);
+        Object vertexId = concept.vertex().element().id();
+        if (vertexId instanceof Long) {
+            conceptsByVertexId.put((Long) vertexId, concept);
+        } else {
+            conceptCache.put(concept.getId(), concept);
+        }
         if(concept.isOntologyConcept()){
             OntologyConceptImpl ontologyElement = (OntologyConceptImpl) concept;
             ontologyConceptCache.put(ontologyElement.getLabel(), ontologyElement);
@@ -258,7 +291,7 @@ class TxCache {
      * @return true if the concept is cached
      */
     boolean isConceptCached(ConceptId id){
-        return conceptCache.containsKey(id);
+        return getCachedConcept(id) != null;
     }
 
     /**
@@ -287,8 +320,51 @@ class TxCache {
      * @return The cached concept
      */
     <X extends Concept> X getCachedConcept(ConceptId id){
+        String value = id.getValue();
+        ConceptImpl concept = isLong(value) ? conceptsByVertexId.get(Long.parseLong(value)) : null;
+        if (concept == null) concept = conceptCache.get(id);
         //noinspection unchecked
-        return (X) conceptCache.get(id);
+        return (X) concept;
+    }
+
+    /**
+     * Returns a previously built concept without building the {@link ConceptId} of its vertex
+     *
+     * @param vertexId The id of the vertex of the concept
+     * @param <X> The type of the concept
+     * @return The cached concept or null if the concept has not been built before
+     */
+    <X extends Concept> X getCachedConceptByVertexId(Object vertexId){
+        ConceptImpl concept;
+        if (vertexId instanceof Long) {
+            concept = conceptsByVertexId.get((Long) vertexId);
+        } else {
+            concept = conceptCache.get(ConceptId.of(vertexId.toString()));
+        }
+        //noinspection unchecked
+        return (X) concept;
+    }
+
+    /**
+     * @param value The value of a concept id
+     * @return true if the value is the canonical representation of a long, so it may be the id of a vertex
+     */
+    private static boolean isLong(String value){
+        int start = value.startsWith("-") ? 1 : 0;
+        int digits = value.length() - start;
+        if (digits == 0 || digits > 19 || (digits > 1 && value.charAt(start) == '0')) return false;
+        if (start == 1 && value.charAt(1) == '0') return false;
+        for (int i = start; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') return false;
+        }
+        if (digits < 19) return true;
+        try {
+            Long.parseLong(value);
+            return true;
+        } catch (NumberFormatException e) {
+            return false;
+        }
     }
 
     /**
@@ -376,6 +452,26 @@ class TxCache {
         return modifiedCastings;
     }
 
+    Set<ConceptId> getDeletedConcepts() {
+        return deletedConcepts;
+    }
+
+    /**
+     *
+     * @param conceptId The id of an inferred concept which lost part of the data it was inferred from
+     */
+    void trackInvalidatedInference(ConceptId conceptId){
+        invalidatedInferences.add(conceptId);
+    }
+
+    /**
+     *
+     * @return The ids of the inferred concepts which need to be deleted before committing
+     */
+    Set<ConceptId> getInvalidatedInferences() {
+        return invalidatedInferences;
+    }
+
     //--------------------------------------- Transaction Specific Meta Data -------------------------------------------
     void closeTx(String closedReason){
         isTxOpen = false;
@@ -389,6 +485,12 @@ class TxCache {
         modifiedCastings.clear();
         relationIndexCache.clear();
         shardingCount.clear();
+        deletedConcepts.clear();
+        invalidatedInferences.clear();
+        ontologyModified = false;
+        rulesModified = false;
+        ruleDependencyGraph = null;
+        conceptsByVertexId.clear();
         conceptCache.clear();
         ontologyConceptCache.clear();
         labelCache.clear();
@@ -402,6 +504,36 @@ class TxCache {
         return isTxOpen;
     }
 
+    void trackOntologyModification(){
+        ontologyModified = true;
+        ruleDependencyGraph = null;
+    }
+    boolean isOntologyModified(){
+        return ontologyModified;
+    }
+
+    /**
+     * @return true if a rule has been added or deleted in this transaction
+     */
+    boolean areRulesModified(){
+        return rulesModified;
+    }
+
+    /**
+     * @return The dependency graph of the rules as modified by this transaction or null if it has not been computed
+     * since the last modification
+     */
+    RuleDependencyGraph getRuleDependencyGraph(){
+        return ruleDependencyGraph;
+    }
+
+    /**
+     * @param ruleDependencyGraph The dependency graph of the rules as modified by this transaction
+     */
+    void cacheRuleDependencyGraph(RuleDependencyGraph ruleDependencyGraph){
+        this.ruleDependencyGraph = ruleDependencyGraph;
+    }
+
     void showImplicitTypes(boolean flag){
         showImplicitTypes = flag;
     }
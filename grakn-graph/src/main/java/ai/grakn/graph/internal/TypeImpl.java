@@ -39,11 +39,14 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.function.BiFunction;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.in;
 
@@ -244,25 +247,51 @@ class TypeImpl<T extends Type, V extends Thing> extends OntologyConceptImpl<T> i
      *
      * @return All the instances of this type.
      */
-    @SuppressWarnings("unchecked")
     @Override
     public Collection<V> instances() {
-        final Set<V> instances = new HashSet<>();
+        Set<V> instances = streamInstances().collect(Collectors.toSet());
+        return Collections.unmodifiableCollection(filterImplicitStructures(instances));
+    }
 
-        GraphTraversal<Vertex, Vertex> traversal = vertex().graph().getTinkerPopGraph().traversal().V()
+    /**
+     *
+     * @return All the instances of this type, read lazily shard by shard.
+     */
+    @Override
+    public Stream<V> streamInstances() {
+        return buildInstances(instanceTraversal());
+    }
+
+    /**
+     *
+     * @param offset The number of instances to skip
+     * @param limit The maximum number of instances to return
+     * @return A page of the instances of this type.
+     */
+    @Override
+    public Collection<V> instances(long offset, int limit) {
+        List<V> instances = buildInstances(instanceTraversal().range(offset, offset + limit)).collect(Collectors.toList());
+        return Collections.unmodifiableCollection(instances);
+    }
+
+    /**
+     *
+     * @return A traversal to the vertices of all the instances of this type via the shards of this type and its subs
+     */
+    private GraphTraversal<Vertex, Vertex> instanceTraversal(){
+        return vertex().graph().getTinkerPopGraph().traversal().V()
                 .has(Schema.VertexProperty.TYPE_ID.name(), getTypeId().getValue())
                 .union(__.identity(),
                         __.repeat(in(Schema.EdgeLabel.SUB.getLabel())).emit()
                 ).unfold()
                 .in(Schema.EdgeLabel.SHARD.getLabel())
                 .in(Schema.EdgeLabel.ISA.getLabel());
+    }
 
-        traversal.forEachRemaining(vertex -> {
-            ConceptImpl concept = vertex().graph().factory().buildConcept(vertex);
-            if (concept != null) instances.add((V) concept);
-        });
-
-        return Collections.unmodifiableCollection(filterImplicitStructures(instances));
+    private Stream<V> buildInstances(GraphTraversal<Vertex, Vertex> traversal){
+        return traversal.toStream()
+                .<V>map(vertex -> vertex().graph().factory().buildConcept(vertex))
+                .filter(Objects::nonNull);
     }
 
     /**
@@ -307,7 +336,7 @@ class TypeImpl<T extends Type, V extends Thing> extends OntologyConceptImpl<T> i
     }
 
     void trackSuperChange(){
-        instances().forEach(concept -> {
+        streamInstances().forEach(concept -> {
             if (concept.isInstance()) {
                 ((ThingImpl<?, ?>) concept).castingsInstance().forEach(
                         rolePlayer -> vertex().graph().txCache().trackForValidation(rolePlayer));
@@ -355,7 +384,7 @@ class TypeImpl<T extends Type, V extends Thing> extends OntologyConceptImpl<T> i
         ((RoleImpl) role).deleteCachedDirectPlaysByType(this);
 
         //Add roleplayers to tracking to make sure they can still be played.
-        instances().forEach(concept -> {
+        streamInstances().forEach(concept -> {
             if (concept.isInstance()) {
                 ((ThingImpl<?, ?>) concept).castingsInstance().forEach(rolePlayer -> vertex().graph().txCache().trackForValidation(rolePlayer));
             }
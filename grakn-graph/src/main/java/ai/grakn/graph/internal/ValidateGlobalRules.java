@@ -23,19 +23,24 @@ import ai.grakn.concept.Label;
 import ai.grakn.concept.OntologyConcept;
 import ai.grakn.concept.Role;
 import ai.grakn.concept.Thing;
-import ai.grakn.concept.Relation;
 import ai.grakn.concept.RelationType;
 import ai.grakn.concept.Type;
 import ai.grakn.graql.Pattern;
 import ai.grakn.util.ErrorMessage;
 import ai.grakn.util.Schema;
+import org.apache.tinkerpop.gremlin.process.traversal.P;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static ai.grakn.util.ErrorMessage.VALIDATION_CASTING;
@@ -74,6 +79,9 @@ import static ai.grakn.util.ErrorMessage.VALIDATION_ROLE_TYPE_MISSING_RELATION_T
  * @author fppt
  */
 class ValidateGlobalRules {
+    //The maximum number of relation hashes retrieved by a single index lookup
+    static final int INDEX_LOOKUP_BATCH_SIZE = 500;
+
     private ValidateGlobalRules() {
         throw new UnsupportedOperationException();
     }
@@ -86,35 +94,46 @@ class ValidateGlobalRules {
      * @return A specific error if one is found.
      */
     static Optional<String> validatePlaysStructure(Casting casting) {
+        return validatePlaysStructure(casting, allPlays(casting.getInstance().type()));
+    }
+
+    /**
+     * @param casting The casting to be validated
+     * @param plays The roles played by the type of the role player and its supers, see {@link #allPlays(Type)}
+     * @return A specific error if one is found.
+     */
+    static Optional<String> validatePlaysStructure(Casting casting, Map<Role, Boolean> plays) {
         Thing thing = casting.getInstance();
-        TypeImpl<?, ?> currentConcept = (TypeImpl<?, ?>) thing.type();
         Role role = casting.getRoleType();
+        Boolean required = plays.get(role);
 
-        boolean satisfiesPlays = false;
+        if(required == null) {
+            return Optional.of(VALIDATION_CASTING.getMessage(thing.type().getLabel(), thing.getId(), casting.getRoleType().getLabel()));
+        }
 
-        while(currentConcept != null){
-            Map<Role, Boolean> plays = currentConcept.directPlays();
+        // Assert unique relation for this role type
+        if (required && thing.relations(role).size() != 1) {
+            return Optional.of(VALIDATION_REQUIRED_RELATION.getMessage(thing.getId(), thing.type().getLabel(), role.getLabel(), thing.relations(role).size()));
+        }
+        return Optional.empty();
+    }
 
-            for (Map.Entry<Role, Boolean> playsEntry : plays.entrySet()) {
-                Role rolePlayed = playsEntry.getKey();
-                Boolean required = playsEntry.getValue();
-                if(rolePlayed.getLabel().equals(role.getLabel())){
-                    satisfiesPlays = true;
+    /**
+     * Walks the type hierarchy to collect the roles a type can play. These only depend on the type so they can be
+     * shared by the validation of all the instances of the type.
+     *
+     * @param type The type whose roles are collected
+     * @return The roles played by the type and its supers, mapped to true if any of them requires the role to be played
+     */
+    static Map<Role, Boolean> allPlays(Type type){
+        Map<Role, Boolean> allPlays = new HashMap<>();
+        TypeImpl<?, ?> currentConcept = (TypeImpl<?, ?>) type;
 
-                    // Assert unique relation for this role type
-                    if (required && thing.relations(role).size() != 1) {
-                        return Optional.of(VALIDATION_REQUIRED_RELATION.getMessage(thing.getId(), thing.type().getLabel(), role.getLabel(), thing.relations(role).size()));
-                    }
-                }
-            }
+        while(currentConcept != null){
+            currentConcept.directPlays().forEach((role, required) -> allPlays.merge(role, required, Boolean::logicalOr));
             currentConcept = (TypeImpl) currentConcept.sup();
         }
-
-        if(satisfiesPlays) {
-            return Optional.empty();
-        } else {
-            return Optional.of(VALIDATION_CASTING.getMessage(thing.type().getLabel(), thing.getId(), casting.getRoleType().getLabel()));
-        }
+        return allPlays;
     }
 
     /**
@@ -240,21 +259,23 @@ class ValidateGlobalRules {
      * @return An error message if the thing does not have all the required resources
      */
     static Optional<String> validateInstancePlaysAllRequiredRoles(Thing thing) {
-        TypeImpl<?, ?> currentConcept = (TypeImpl) thing.type();
-
-        while(currentConcept != null){
+        return validateInstancePlaysAllRequiredRoles(thing, allPlays(thing.type()));
+    }
 
-            Map<Role, Boolean> plays = currentConcept.directPlays();
-            for (Map.Entry<Role, Boolean> playsEntry : plays.entrySet()) {
-                if(playsEntry.getValue()){
-                    Role role = playsEntry.getKey();
-                    // Assert there is a relation for this type
-                    if (thing.relations(role).isEmpty()) {
-                        return Optional.of(VALIDATION_INSTANCE.getMessage(thing.getId(), thing.type().getLabel(), role.getLabel()));
-                    }
+    /**
+     * @param thing The thing to be validated
+     * @param plays The roles played by the type of the thing and its supers, see {@link #allPlays(Type)}
+     * @return An error message if the thing does not have all the required resources
+     */
+    static Optional<String> validateInstancePlaysAllRequiredRoles(Thing thing, Map<Role, Boolean> plays) {
+        for (Map.Entry<Role, Boolean> playsEntry : plays.entrySet()) {
+            if(playsEntry.getValue()){
+                Role role = playsEntry.getKey();
+                // Assert there is a relation for this type
+                if (thing.relations(role).isEmpty()) {
+                    return Optional.of(VALIDATION_INSTANCE.getMessage(thing.getId(), thing.type().getLabel(), role.getLabel()));
                 }
             }
-            currentConcept = (TypeImpl) currentConcept.sup();
         }
         return Optional.empty();
     }
@@ -265,13 +286,82 @@ class ValidateGlobalRules {
      * @return An error message if the relation is not unique.
      */
     static Optional<String> validateRelationIsUnique(AbstractGraknGraph<?> graph, RelationImpl relation){
-        Relation foundRelation = graph.getConcept(Schema.VertexProperty.INDEX, RelationImpl.generateNewHash(relation.type(), relation.allRolePlayers()));
-        if(foundRelation == null){
-            relation.setHash();
-        } else if(!foundRelation.equals(relation)){
-            return Optional.of(VALIDATION_RELATION_DUPLICATE.getMessage(relation));
+        Map<Role, Set<Thing>> rolePlayers = relation.allRolePlayers();
+        String hash = RelationImpl.generateNewHash(relation.type(), rolePlayers);
+        return validateRelationIsUnique(relation, rolePlayers, hash,
+                index -> graph.getConcept(Schema.VertexProperty.INDEX, index));
+    }
+
+    /**
+     * Ensures a batch of relations are unique. The relations already stored under the hashes of the batch are
+     * retrieved with one index lookup per {@link #INDEX_LOOKUP_BATCH_SIZE} relations rather than one lookup per relation.
+     *
+     * @param graph graph used to ensure the relations are unique
+     * @param relations The relations whose hashes need to be set.
+     * @return Error messages for the relations which are not unique.
+     */
+    static List<String> validateRelationsAreUnique(AbstractGraknGraph<?> graph, Collection<RelationImpl> relations){
+        Map<RelationImpl, Map<Role, Set<Thing>>> rolePlayers = new LinkedHashMap<>();
+        Map<RelationImpl, String> hashes = new HashMap<>();
+        relations.forEach(relation -> {
+            Map<Role, Set<Thing>> relationRolePlayers = relation.allRolePlayers();
+            rolePlayers.put(relation, relationRolePlayers);
+            hashes.put(relation, RelationImpl.generateNewHash(relation.type(), relationRolePlayers));
+        });
+
+        Set<String> lookedUp = new HashSet<>(hashes.values());
+        Map<String, RelationImpl> indexed = new HashMap<>();
+        List<String> batch = new ArrayList<>(INDEX_LOOKUP_BATCH_SIZE);
+        for(String hash : lookedUp){
+            batch.add(hash);
+            if(batch.size() == INDEX_LOOKUP_BATCH_SIZE){
+                lookUpIndices(graph, batch, indexed);
+                batch.clear();
+            }
+        }
+        if(!batch.isEmpty()) lookUpIndices(graph, batch, indexed);
+
+        //Only slots which were not part of the batched lookup need to be retrieved individually
+        Function<String, RelationImpl> lookup = index -> {
+            if(indexed.containsKey(index) || lookedUp.contains(index)) return indexed.get(index);
+            return graph.getConcept(Schema.VertexProperty.INDEX, index);
+        };
+
+        List<String> errors = new ArrayList<>();
+        rolePlayers.forEach((relation, relationRolePlayers) -> {
+            Optional<String> error = validateRelationIsUnique(relation, relationRolePlayers, hashes.get(relation), lookup);
+            if(error.isPresent()){
+                errors.add(error.get());
+            } else {
+                //Later relations in the batch must see the index of this one
+                indexed.put(relation.getIndex(), relation);
+            }
+        });
+        return errors;
+    }
+
+    private static void lookUpIndices(AbstractGraknGraph<?> graph, List<String> indices, Map<String, RelationImpl> indexed){
+        graph.getTinkerTraversal().has(Schema.VertexProperty.INDEX.name(), P.within(indices)).forEachRemaining(vertex -> {
+            RelationImpl relation = graph.buildConcept(vertex);
+            indexed.put(relation.getIndex(), relation);
+        });
+    }
+
+    private static Optional<String> validateRelationIsUnique(RelationImpl relation, Map<Role, Set<Thing>> rolePlayers,
+                                                             String hash, Function<String, RelationImpl> lookup){
+        //Relations with different role players may share a hash so the slots of the hash are checked in turn
+        for(int slot = 0; ; slot++){
+            String index = RelationImpl.hashSlot(hash, slot);
+            RelationImpl foundRelation = lookup.apply(index);
+            if(foundRelation == null){
+                relation.setHash(index);
+                return Optional.empty();
+            } else if(foundRelation.equals(relation)){
+                return Optional.empty();
+            } else if(foundRelation.hasRolePlayers(relation.type(), rolePlayers)){
+                return Optional.of(VALIDATION_RELATION_DUPLICATE.getMessage(relation));
+            }
         }
-        return Optional.empty();
     }
 
     /**
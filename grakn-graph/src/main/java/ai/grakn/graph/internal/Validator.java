@@ -18,10 +18,15 @@
 
 package ai.grakn.graph.internal;
 
+import ai.grakn.concept.Role;
+import ai.grakn.concept.Thing;
+import ai.grakn.concept.Type;
 import ai.grakn.util.CommonUtil;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * <p>
@@ -39,6 +44,7 @@ import java.util.List;
 class Validator {
     private final AbstractGraknGraph<?> graknGraph;
     private final List<String> errorsFound = new ArrayList<>();
+    private final Map<Type, Map<Role, Boolean>> playsCache = new HashMap<>();
 
     public Validator(AbstractGraknGraph graknGraph){
         this.graknGraph = graknGraph;
@@ -71,7 +77,8 @@ class Validator {
             //Validate Relation Types
             graknGraph.txCache().getModifiedRelationTypes().forEach(this::validateRelationType);
             //Validate Relations
-            graknGraph.txCache().getModifiedRelations().forEach(relation -> validateRelation(graknGraph, relation));
+            graknGraph.txCache().getModifiedRelations().forEach(this::validateRelation);
+            errorsFound.addAll(ValidateGlobalRules.validateRelationsAreUnique(graknGraph, graknGraph.txCache().getModifiedRelations()));
 
             //Validate Rule Types
             //Not Needed
@@ -98,13 +105,12 @@ class Validator {
     }
 
     /**
-     * Validation rules exclusive to relations
+     * Validation rules exclusive to relations. The uniqueness of relations is validated for all of them at once.
      * @param relation The relation to validate
      */
-    private void validateRelation(AbstractGraknGraph<?> graph, RelationImpl relation){
+    private void validateRelation(RelationImpl relation){
         validateInstance(relation);
         ValidateGlobalRules.validateRelationshipStructure(relation).ifPresent(errorsFound::add);
-        ValidateGlobalRules.validateRelationIsUnique(graph, relation).ifPresent(errorsFound::add);
     }
 
     /**
@@ -112,7 +118,7 @@ class Validator {
      * @param casting The Role player to validate
      */
     private void validateCasting(Casting casting){
-        ValidateGlobalRules.validatePlaysStructure(casting).ifPresent(errorsFound::add);
+        ValidateGlobalRules.validatePlaysStructure(casting, plays(casting.getInstance())).ifPresent(errorsFound::add);
     }
 
     /**
@@ -137,6 +143,14 @@ class Validator {
      * @param instance The instance to validate
      */
     private void validateInstance(ThingImpl instance) {
-        ValidateGlobalRules.validateInstancePlaysAllRequiredRoles(instance).ifPresent(errorsFound::add);
+        ValidateGlobalRules.validateInstancePlaysAllRequiredRoles(instance, plays(instance)).ifPresent(errorsFound::add);
+    }
+
+    /**
+     * @param thing The thing whose type is looked up
+     * @return The roles played by the type of the thing, these are computed once per type for each validation
+     */
+    private Map<Role, Boolean> plays(Thing thing){
+        return playsCache.computeIfAbsent(thing.type(), ValidateGlobalRules::allPlays);
     }
 }
@@ -0,0 +1,176 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.util;
+
+import ai.grakn.GraknGraph;
+import ai.grakn.GraknSession;
+import ai.grakn.GraknTxType;
+import ai.grakn.concept.Concept;
+import ai.grakn.concept.ConceptId;
+import ai.grakn.concept.RelationType;
+import ai.grakn.concept.Role;
+import ai.grakn.concept.Type;
+import ai.grakn.exception.InvalidGraphException;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * <p>
+ *     Validates the data loaded by {@link GraknTxType#BULK} transactions
+ * </p>
+ *
+ * <p>
+ *     The shards of every type are processed in bounded batches, each of which is validated and committed in its own
+ *     {@link GraknTxType#WRITE} transaction, so no transaction holds more than one batch. The relations are finished
+ *     first. Merging a duplicate relation moves the relations it plays roles in onto the relation it duplicates, so
+ *     relation types whose instances can play roles in each other's relations are finished one after the other, while
+ *     unconnected relation types are finished in parallel on the provided pool. The instances of every type are then
+ *     finished in parallel.
+ * </p>
+ */
+public class BulkLoadFinisher {
+    private final GraknSession session;
+    private final ExecutorService executor;
+    private final int batchSize;
+
+    /**
+     *
+     * @param session The session of the keyspace which was bulk loaded
+     * @param executor The pool the types are processed on
+     * @param batchSize The maximum number of relations or instances validated in a single transaction
+     */
+    public BulkLoadFinisher(GraknSession session, ExecutorService executor, int batchSize){
+        this.session = session;
+        this.executor = executor;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Validates all the bulk loaded data. The call blocks until every type has been processed.
+     *
+     * @throws InvalidGraphException if a batch fails validation, batches committed before it remain committed
+     * @return The number of bulk loaded relations which were processed, including deleted duplicates
+     */
+    public long finish() throws InvalidGraphException {
+        List<List<ConceptId>> relationShards = new ArrayList<>();
+        List<ConceptId> instanceShards = new ArrayList<>();
+        ParallelShardScan.onOwnThread(() -> {
+            try(GraknGraph graph = session.open(GraknTxType.READ)){
+                CommonUtil.withImplicitConceptsVisible(graph, () -> {
+                    List<Type> types = graph.admin().getMetaConcept().subs().stream().
+                            filter(Concept::isType).map(Concept::asType).collect(toList());
+                    relationShards.addAll(relationShardGroups(graph, types));
+                    types.forEach(type -> instanceShards.addAll(graph.admin().getShards(type)));
+                    return null;
+                });
+            }
+            return null;
+        });
+
+        List<Future<Long>> relationTasks = new ArrayList<>();
+        for (List<ConceptId> shards : relationShards) {
+            relationTasks.add(executor.submit(() -> finishRelations(shards)));
+        }
+        long relations = ParallelShardScan.await(relationTasks).stream().mapToLong(Long::longValue).sum();
+
+        List<Future<Void>> instanceTasks = new ArrayList<>();
+        for (ConceptId shard : instanceShards) {
+            instanceTasks.add(executor.submit(() -> finishInstances(shard)));
+        }
+        ParallelShardScan.await(instanceTasks);
+        return relations;
+    }
+
+    /**
+     * @return The shards of the relation types, grouped so that the relations of a type can only play roles in the
+     * relations of types of the same group
+     */
+    private static List<List<ConceptId>> relationShardGroups(GraknGraph graph, Collection<Type> types){
+        Map<Type, Set<Type>> connected = new HashMap<>();
+        for (Type type : types) {
+            if (!type.isRelationType()) continue;
+            connected.computeIfAbsent(type, t -> new HashSet<>());
+            for (Role role : type.plays()) {
+                for (RelationType relationType : role.relationTypes()) {
+                    for (Type other : relationType.subs()) {
+                        connected.get(type).add(other);
+                        connected.computeIfAbsent(other, t -> new HashSet<>()).add(type);
+                    }
+                }
+            }
+        }
+
+        List<List<ConceptId>> groups = new ArrayList<>();
+        Set<Type> grouped = new HashSet<>();
+        for (Type type : connected.keySet()) {
+            if (!grouped.add(type)) continue;
+            List<ConceptId> shards = new ArrayList<>();
+            Deque<Type> toVisit = new ArrayDeque<>();
+            toVisit.push(type);
+            while (!toVisit.isEmpty()) {
+                Type member = toVisit.pop();
+                shards.addAll(graph.admin().getShards(member));
+                connected.get(member).stream().filter(grouped::add).forEach(toVisit::push);
+            }
+            groups.add(shards);
+        }
+        return groups;
+    }
+
+    private long finishRelations(Collection<ConceptId> shards){
+        long relations = 0;
+        for (ConceptId shard : shards) {
+            long processed;
+            do {
+                processed = inTransaction(graph -> graph.admin().finishBulkLoadOfRelations(shard, batchSize));
+                relations += processed;
+            } while (processed > 0);
+        }
+        return relations;
+    }
+
+    private Void finishInstances(ConceptId shard){
+        long prepared;
+        do {
+            prepared = inTransaction(graph -> graph.admin().finishBulkLoadOfInstances(shard, batchSize));
+        } while (prepared > 0);
+        return null;
+    }
+
+    private long inTransaction(Function<GraknGraph, Long> batch){
+        try(GraknGraph graph = session.open(GraknTxType.WRITE)){
+            long result = batch.apply(graph);
+            graph.commit();
+            return result;
+        }
+    }
+}
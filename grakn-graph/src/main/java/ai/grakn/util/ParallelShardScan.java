@@ -0,0 +1,168 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.util;
+
+import ai.grakn.GraknGraph;
+import ai.grakn.GraknSession;
+import ai.grakn.GraknTxType;
+import ai.grakn.concept.ConceptId;
+import ai.grakn.concept.Label;
+import ai.grakn.concept.Thing;
+import ai.grakn.concept.Type;
+import ai.grakn.graql.MatchQuery;
+import ai.grakn.graql.admin.Answer;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+import static java.util.stream.Collectors.toSet;
+
+/**
+ * <p>
+ *     Reads the instances of a {@link Type}, or the answers of a {@link MatchQuery} starting from them, in parallel
+ * </p>
+ *
+ * <p>
+ *     The instances of a type are split across the shards of the type. Each shard is read by a separate task in its
+ *     own {@link GraknTxType#READ} transaction, so the scan uses as many threads as the provided pool allows.
+ *     Transactions are bound to the thread which opened them, so the instances passed to the consumer are only valid
+ *     for the duration of the call.
+ * </p>
+ */
+public class ParallelShardScan {
+    private final GraknSession session;
+    private final ExecutorService executor;
+
+    /**
+     *
+     * @param session The session used to open a transaction for each shard
+     * @param executor The pool the shards are read on
+     */
+    public ParallelShardScan(GraknSession session, ExecutorService executor){
+        this.session = session;
+        this.executor = executor;
+    }
+
+    /**
+     * Applies the consumer to every instance of the type and its subs. The call blocks until all the shards are read.
+     *
+     * @param label The label of the type to scan
+     * @param consumer Called with each instance, concurrently from several threads
+     */
+    public void scan(Label label, Consumer<? super Thing> consumer){
+        Set<ConceptId> shards = onOwnThread(() -> {
+            try(GraknGraph graph = session.open(GraknTxType.READ)){
+                Type type = graph.getOntologyConcept(label);
+                if(type == null) return Collections.<ConceptId>emptySet();
+                return CommonUtil.withImplicitConceptsVisible(graph, () -> type.subs().stream().
+                        flatMap(sub -> graph.admin().getShards(sub).stream()).
+                        collect(toSet()));
+            }
+        });
+
+        List<Future<Void>> tasks = new ArrayList<>();
+        for (ConceptId shard : shards) {
+            tasks.add(executor.submit(() -> {
+                try(GraknGraph graph = session.open(GraknTxType.READ)){
+                    graph.admin().streamShard(shard).forEach(consumer);
+                }
+                return null;
+            }));
+        }
+        await(tasks);
+    }
+
+    /**
+     * Applies the consumer to every answer of the query. If the query starts from the instances of a type, the shards of
+     * the type are read in parallel. Otherwise the query is executed on a single thread. The call blocks until all the
+     * answers are read.
+     *
+     * @param query The query to execute, which must not be bound to a graph
+     * @param consumer Called with each answer, concurrently from several threads
+     */
+    public void scan(MatchQuery query, Consumer<? super Answer> consumer){
+        Optional<Set<ConceptId>> shards = onOwnThread(() -> {
+            try(GraknGraph graph = session.open(GraknTxType.READ)){
+                Optional<Set<ConceptId>> queryShards = query.admin().getShards(graph);
+                if(!queryShards.isPresent()) query.withGraph(graph).forEach(consumer);
+                return queryShards;
+            }
+        });
+        if(!shards.isPresent()) return;
+
+        List<Future<Void>> tasks = new ArrayList<>();
+        for (ConceptId shard : shards.get()) {
+            tasks.add(executor.submit(() -> {
+                try(GraknGraph graph = session.open(GraknTxType.READ)){
+                    query.admin().streamShard(graph, shard).forEach(consumer);
+                }
+                return null;
+            }));
+        }
+        await(tasks);
+    }
+
+    /**
+     * Runs a task on a thread of its own and waits for it. Transactions are bound to the thread which opened them, so
+     * this keeps the transaction of the task apart from any the caller has open without taking a thread of the pool,
+     * which the caller may be running on.
+     *
+     * @param task The task to run
+     * @return The result of the task
+     */
+    static <T> T onOwnThread(Callable<T> task){
+        ExecutorService thread = Executors.newSingleThreadExecutor();
+        try {
+            return await(Collections.singletonList(thread.submit(task))).get(0);
+        } finally {
+            thread.shutdown();
+        }
+    }
+
+    /**
+     * Waits for all the tasks to finish, cancelling the rest if one fails
+     *
+     * @param tasks The tasks to wait on
+     * @return The results of the tasks
+     */
+    static <T> List<T> await(List<Future<T>> tasks){
+        List<T> results = new ArrayList<>();
+        try {
+            for (Future<T> task : tasks) results.add(task.get());
+        } catch (InterruptedException e) {
+            tasks.forEach(task -> task.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } catch (ExecutionException e) {
+            tasks.forEach(task -> task.cancel(true));
+            if (e.getCause() instanceof RuntimeException) throw (RuntimeException) e.getCause();
+            throw new RuntimeException(e.getCause());
+        }
+        return results;
+    }
+}
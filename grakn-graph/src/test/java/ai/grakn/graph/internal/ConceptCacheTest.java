@@ -0,0 +1,123 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.graph.internal;
+
+import ai.grakn.Grakn;
+import ai.grakn.GraknTxType;
+import ai.grakn.concept.Concept;
+import ai.grakn.concept.ConceptId;
+import ai.grakn.util.REST;
+import ai.grakn.util.Schema;
+import mjson.Json;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+import org.junit.Test;
+
+import java.util.Properties;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class ConceptCacheTest extends GraphTestBase{
+
+    @Test
+    public void whenTheCacheHasNoWeight_NothingIsCached(){
+        ConceptCacheImpl cache = new ConceptCacheImpl(0, 30_000);
+        cache.cacheVertexId(ConceptId.of("1"), 1L);
+
+        assertFalse(cache.isEnabled());
+        assertNull(cache.getVertexId(ConceptId.of("1")));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void whenLookingUpCachedAndMissingConcepts_TheHitRateIsRecorded(){
+        ConceptCacheImpl cache = new ConceptCacheImpl(1000, 30_000);
+        cache.cacheVertexId(ConceptId.of("1"), 1L);
+
+        assertEquals(1L, cache.getVertexId(ConceptId.of("1")));
+        assertNull(cache.getVertexId(ConceptId.of("2")));
+
+        assertEquals(1, cache.hitCount());
+        assertEquals(1, cache.missCount());
+        assertEquals(0.5, cache.hitRate(), 0.0);
+    }
+
+    @Test
+    public void whenCachingMoreThanTheMaximumWeight_ConceptsAreEvicted(){
+        ConceptCacheImpl cache = new ConceptCacheImpl(1000, 30_000);
+        for(long i = 0; i < 1000; i++){
+            cache.cacheVertexId(ConceptId.of(Long.toString(i)), i);
+        }
+
+        assertTrue(cache.size() < 1000);
+    }
+
+    @Test
+    public void whenReadingACommitLog_TheConceptsInTheLogAreInvalidated(){
+        ConceptCacheImpl cache = new ConceptCacheImpl(1000, 30_000);
+        cache.cacheVertexId(ConceptId.of("resource"), 1L);
+        cache.cacheVertexId(ConceptId.of("type"), 2L);
+        cache.cacheVertexId(ConceptId.of("other"), 3L);
+
+        Json fixing = Json.object(Schema.BaseType.RESOURCE.name(), Json.object("index", Json.array("resource")));
+        Json counting = Json.array(Json.object(
+                REST.Request.COMMIT_LOG_CONCEPT_ID, "type",
+                REST.Request.COMMIT_LOG_SHARDING_COUNT, 1));
+        cache.readCommitLog(Json.object(
+                REST.Request.COMMIT_LOG_FIXING, fixing,
+                REST.Request.COMMIT_LOG_COUNTING, counting));
+
+        assertNull(cache.getVertexId(ConceptId.of("resource")));
+        assertNull(cache.getVertexId(ConceptId.of("type")));
+        assertEquals(3L, cache.getVertexId(ConceptId.of("other")));
+    }
+
+    @Test
+    public void whenLookingUpAConceptInALaterTransaction_TheCachedVertexIsUsedUntilTheConceptIsDeleted(){
+        Properties properties = new Properties();
+        properties.put(AbstractGraknGraph.NORMAL_CACHE_TIMEOUT_MS, 30_000);
+        properties.put(AbstractGraknGraph.CONCEPT_CACHE_MAX_WEIGHT, 1000);
+        AbstractGraknGraph<?> graph = new GraknTinkerGraph(TinkerGraph.open(), "conceptcache", Grakn.IN_MEMORY, properties);
+        ConceptCacheImpl cache = graph.getGraphCache().getConceptCache();
+
+        graph.openTransaction(GraknTxType.WRITE);
+        ConceptId id = graph.putEntityType("My Entity").addEntity().getId();
+        graph.commit();
+
+        graph.openTransaction(GraknTxType.READ);
+        assertNotNull(graph.getConcept(id));
+        graph.close();
+        assertEquals(0, cache.hitCount());
+
+        graph.openTransaction(GraknTxType.WRITE);
+        Concept concept = graph.getConcept(id);
+        assertEquals(id, concept.getId());
+        assertEquals(1, cache.hitCount());
+        concept.delete();
+        graph.commit();
+
+        graph.openTransaction(GraknTxType.READ);
+        assertNull(graph.getConcept(id));
+        graph.close();
+        assertEquals(1, cache.hitCount());
+    }
+}
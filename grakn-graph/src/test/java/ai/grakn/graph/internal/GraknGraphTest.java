@@ -4,9 +4,11 @@ import ai.grakn.Grakn;
 import ai.grakn.GraknGraph;
 import ai.grakn.GraknSession;
 import ai.grakn.GraknTxType;
+import ai.grakn.concept.ConceptId;
 import ai.grakn.concept.Entity;
 import ai.grakn.concept.EntityType;
 import ai.grakn.concept.OntologyConcept;
+import ai.grakn.concept.Relation;
 import ai.grakn.concept.RelationType;
 import ai.grakn.concept.Resource;
 import ai.grakn.concept.ResourceType;
@@ -16,13 +18,19 @@ import ai.grakn.concept.Type;
 import ai.grakn.concept.Label;
 import ai.grakn.exception.GraphOperationException;
 import ai.grakn.exception.InvalidGraphException;
+import ai.grakn.util.BulkLoadFinisher;
 import ai.grakn.util.ErrorMessage;
+import ai.grakn.util.ParallelShardScan;
 import ai.grakn.util.Schema;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.verification.VerificationException;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
 import org.junit.Test;
 
 import java.util.Collection;
+import java.util.HashSet;
+import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -397,4 +405,117 @@ public class GraknGraphTest extends GraphTestBase {
         assertThat(s2.links().collect(Collectors.toSet()), containsInAnyOrder(s2_e1, s2_e2, s2_e3, s2_e4, s2_e5));
         assertThat(s3.links().collect(Collectors.toSet()), containsInAnyOrder(s3_e1, s3_e2));
     }
+
+    @Test
+    public void whenScanningShardsInParallel_AllInstancesOfTheTypeAndItsSubsAreRead() throws InvalidGraphException {
+        EntityType entityType = graknGraph.putEntityType("The Special Type");
+        EntityType subType = graknGraph.putEntityType("The Special Sub Type").sup(entityType);
+        Set<ConceptId> expected = new HashSet<>();
+
+        for (int i = 0; i < 3; i++) {
+            expected.add(entityType.addEntity().getId());
+            expected.add(subType.addEntity().getId());
+            graknGraph.admin().shard(entityType.getId());
+        }
+        expected.add(entityType.addEntity().getId());
+        graknGraph.commit();
+
+        Set<ConceptId> scanned = ConcurrentHashMap.newKeySet();
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            new ParallelShardScan(graknSession, pool).scan(entityType.getLabel(), thing -> scanned.add(thing.getId()));
+        } finally {
+            pool.shutdown();
+        }
+
+        assertEquals(expected, scanned);
+    }
+
+    @Test
+    public void whenFinishingABulkLoad_DuplicateRelationsAreDeletedAndTheirResourcesMoved() throws InvalidGraphException {
+        Role role1 = graknGraph.putRole("role 1");
+        Role role2 = graknGraph.putRole("role 2");
+        ResourceType<String> name = graknGraph.putResourceType("name", ResourceType.DataType.STRING);
+        graknGraph.putRelationType("relation type").relates(role1).relates(role2).resource(name);
+        graknGraph.putEntityType("entity type").plays(role1).plays(role2);
+        graknGraph.commit();
+
+        //Duplicates are not validated during the bulk load
+        GraknGraph bulkGraph = graknSession.open(GraknTxType.BULK);
+        RelationType relationType = bulkGraph.getRelationType("relation type");
+        EntityType entityType = bulkGraph.getEntityType("entity type");
+        Entity e1 = entityType.addEntity();
+        Entity e2 = entityType.addEntity();
+        relationType.addRelation().addRolePlayer(bulkGraph.getRole("role 1"), e1).addRolePlayer(bulkGraph.getRole("role 2"), e2).
+                resource(bulkGraph.getResourceType("name").putResource("first"));
+        relationType.addRelation().addRolePlayer(bulkGraph.getRole("role 1"), e1).addRolePlayer(bulkGraph.getRole("role 2"), e2).
+                resource(bulkGraph.getResourceType("name").putResource("second"));
+        bulkGraph.commit();
+
+        //A batch size of one makes every relation be validated in its own transaction
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+        try {
+            new BulkLoadFinisher(graknSession, pool, 1).finish();
+        } finally {
+            pool.shutdown();
+        }
+
+        graknGraph = (AbstractGraknGraph<?>) graknSession.open(GraknTxType.WRITE);
+        Collection<Relation> relations = graknGraph.getRelationType("relation type").instances();
+        assertEquals(1, relations.size());
+        Relation relation = relations.iterator().next();
+        assertNotNull(((RelationImpl) relation).getIndex());
+        assertThat(relation.resources().stream().map(Resource::getValue).collect(Collectors.toSet()),
+                containsInAnyOrder("first", "second"));
+    }
+
+    @Test
+    public void whenFinishingABulkLoadAcrossShards_EveryBulkLoadedConceptIsFinishedOnce() throws InvalidGraphException {
+        Role role1 = graknGraph.putRole("role 1");
+        Role role2 = graknGraph.putRole("role 2");
+        RelationType relationType = graknGraph.putRelationType("relation type").relates(role1).relates(role2);
+        graknGraph.putEntityType("entity type").plays(role1).plays(role2);
+        graknGraph.commit();
+
+        for (int i = 0; i < 2; i++) {
+            GraknGraph bulkGraph = graknSession.open(GraknTxType.BULK);
+            EntityType entityType = bulkGraph.getEntityType("entity type");
+            for (int j = 0; j < 5; j++) {
+                bulkGraph.getRelationType("relation type").addRelation().
+                        addRolePlayer(bulkGraph.getRole("role 1"), entityType.addEntity()).
+                        addRolePlayer(bulkGraph.getRole("role 2"), entityType.addEntity());
+            }
+            bulkGraph.commit();
+
+            graknGraph = (AbstractGraknGraph<?>) graknSession.open(GraknTxType.WRITE);
+            graknGraph.admin().shard(relationType.getId());
+            graknGraph.commit();
+        }
+
+        long relations;
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            relations = new BulkLoadFinisher(graknSession, pool, 2).finish();
+        } finally {
+            pool.shutdown();
+        }
+
+        assertEquals(10, relations);
+        graknGraph = (AbstractGraknGraph<?>) graknSession.open(GraknTxType.WRITE);
+        assertFalse(graknGraph.getTinkerTraversal().has(Schema.VertexProperty.BULK_LOADED.name()).hasNext());
+        assertTrue(graknGraph.getRelationType("relation type").instances().stream().
+                allMatch(relation -> ((RelationImpl) relation).getIndex() != null));
+    }
+
+    @Test
+    public void whenTheReasonerCacheLimitIsConfigured_ItIsReadFromTheGraphProperties(){
+        assertEquals(1_000_000L, graknGraph.admin().reasonerCacheMaxAnswers());
+
+        Properties properties = new Properties();
+        properties.put(AbstractGraknGraph.NORMAL_CACHE_TIMEOUT_MS, 30_000);
+        properties.put(AbstractGraknGraph.REASONER_CACHE_MAX_ANSWERS, 500);
+        AbstractGraknGraph<?> graph = new GraknTinkerGraph(TinkerGraph.open(), "reasonercache", Grakn.IN_MEMORY, properties);
+        assertEquals(500L, graph.admin().reasonerCacheMaxAnswers());
+        graph.close();
+    }
 }
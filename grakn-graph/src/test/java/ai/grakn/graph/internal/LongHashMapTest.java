@@ -0,0 +1,71 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.graph.internal;
+
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class LongHashMapTest {
+
+    @Test
+    public void whenPuttingAndRemovingKeys_TheMapBehavesLikeAHashMap(){
+        LongHashMap<String> map = new LongHashMap<>();
+        Map<Long, String> expected = new HashMap<>();
+        Random random = new Random(0);
+
+        for (int i = 0; i < 100000; i++) {
+            //A small key range makes sure keys are often replaced and removed
+            long key = random.nextInt(5000) * 4096L;
+            if (random.nextBoolean()) {
+                assertEquals(expected.put(key, "value " + i), map.put(key, "value " + i));
+            } else {
+                assertEquals(expected.remove(key), map.remove(key));
+            }
+        }
+
+        assertEquals(expected.size(), map.size());
+        expected.forEach((key, value) -> assertEquals(value, map.get(key)));
+
+        Set<String> values = new HashSet<>();
+        map.forEachValue(values::add);
+        assertEquals(new HashSet<>(expected.values()), values);
+    }
+
+    @Test
+    public void whenClearingTheMap_ItIsEmpty(){
+        LongHashMap<String> map = new LongHashMap<>();
+        for (long i = 0; i < 1000; i++) map.put(i, "value");
+
+        map.clear();
+
+        assertTrue(map.isEmpty());
+        assertFalse(map.containsKey(1L));
+        assertNull(map.get(1L));
+    }
+}
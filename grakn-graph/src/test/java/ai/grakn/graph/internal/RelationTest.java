@@ -33,19 +33,29 @@ import ai.grakn.concept.Resource;
 import ai.grakn.concept.ResourceType;
 import ai.grakn.exception.InvalidGraphException;
 import ai.grakn.util.Schema;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
 import java.util.stream.Collectors;
 
+import static java.util.Collections.emptySet;
+import static java.util.Collections.singleton;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.containsString;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
@@ -177,12 +187,124 @@ public class RelationTest extends GraphTestBase{
         assertEquals(getFakeId(relation.type(), roleMap), relation.getIndex());
     }
     private String getFakeId(RelationType relationType, TreeMap<Role, Thing> roleMap){
-        String itemIdentifier = "RelationType_" + relationType.getId() + "_Relation";
-        for(Map.Entry<Role, Thing> entry: roleMap.entrySet()){
-            itemIdentifier = itemIdentifier + "_" + entry.getKey().getId();
-            if(entry.getValue() != null) itemIdentifier += "_" + entry.getValue().getId();
-        }
-        return itemIdentifier;
+        //Computed here rather than by RelationImpl so a change to the stored index format is caught
+        Hasher hasher = Hashing.murmur3_128().newHasher();
+        putId(hasher, relationType.getId());
+        roleMap.forEach((role, thing) -> {
+            putId(hasher, role.getId());
+            hasher.putInt(thing == null ? 0 : 1);
+            if(thing != null) putId(hasher, thing.getId());
+        });
+        return hasher.hash().toString();
+    }
+    private static void putId(Hasher hasher, ConceptId id){
+        hasher.putInt(id.getValue().length()).putUnencodedChars(id.getValue());
+    }
+
+    @Test
+    public void whenHashingRelations_HashHasFixedWidthAndIgnoresRolePlayerOrder(){
+        Thing rolePlayer3 = type.addEntity();
+
+        Map<Role, Set<Thing>> roleMap = new HashMap<>();
+        roleMap.put(role1, new LinkedHashSet<>(Arrays.asList(rolePlayer1, rolePlayer3)));
+        roleMap.put(role2, singleton(rolePlayer2));
+        Map<Role, Set<Thing>> reorderedRoleMap = new HashMap<>();
+        reorderedRoleMap.put(role1, new LinkedHashSet<>(Arrays.asList(rolePlayer3, rolePlayer1)));
+        reorderedRoleMap.put(role2, singleton(rolePlayer2));
+        Map<Role, Set<Thing>> otherRoleMap = new HashMap<>();
+        otherRoleMap.put(role1, singleton(rolePlayer1));
+        otherRoleMap.put(role2, new LinkedHashSet<>(Arrays.asList(rolePlayer2, rolePlayer3)));
+
+        String hash = RelationImpl.generateNewHash(relationType, roleMap);
+        assertEquals(32, hash.length());
+        assertEquals(hash, RelationImpl.generateNewHash(relationType, reorderedRoleMap));
+        assertNotEquals(hash, RelationImpl.generateNewHash(relationType, otherRoleMap));
+    }
+
+    @Test
+    public void whenOpeningAKeyspaceWithALegacyRelationIndex_RelationsAreReindexed() throws InvalidGraphException, ExecutionException, InterruptedException {
+        graknGraph.commit();
+        graknGraph = (AbstractGraknGraph<?>) Grakn.session(Grakn.IN_MEMORY, graknGraph.getKeyspace()).open(GraknTxType.WRITE);
+
+        relation = (RelationImpl) graknGraph.getRelationType("Main relation type").instances().iterator().next();
+        String hash = relation.getIndex();
+        relation.vertex().element().property(Schema.VertexProperty.INDEX.name(), "RelationType_legacy_Relation");
+        ((TypeImpl<?, ?>) graknGraph.getMetaConcept()).vertex().element().
+                property(Schema.VertexProperty.RELATION_INDEX_FORMAT.name()).remove();
+        graknGraph.commit();
+
+        //Opening the keyspace again migrates it to the current index format in the background
+        AbstractGraknGraph<?> reopened = new GraknTinkerGraph((TinkerGraph) graknGraph.getTinkerPopGraph(),
+                graknGraph.getKeyspace(), Grakn.IN_MEMORY, graknGraph.getProperties());
+        reopened.relationIndexMigration().get();
+        reopened.openTransaction(GraknTxType.READ);
+        assertEquals(hash, reopened.<RelationImpl>getConcept(relation.getId()).getIndex());
+        assertEquals(RelationImpl.INDEX_FORMAT, (int) ((TypeImpl<?, ?>) reopened.getMetaConcept()).vertex().
+                property(Schema.VertexProperty.RELATION_INDEX_FORMAT));
+        reopened.close();
+    }
+
+    @Test
+    public void whenRelationsShareAHash_TheyAreStoredUnderDifferentSlots() throws InvalidGraphException {
+        ConceptId rolePlayer3 = type.addEntity().getId();
+        graknGraph.commit();
+        graknGraph = (AbstractGraknGraph<?>) Grakn.session(Grakn.IN_MEMORY, graknGraph.getKeyspace()).open(GraknTxType.WRITE);
+
+        RelationType relationType = graknGraph.getRelationType("Main relation type");
+        Map<Role, Set<Thing>> rolePlayers = new HashMap<>();
+        rolePlayers.put(graknGraph.getRole("Role 1"), singleton(graknGraph.getConcept(rolePlayer1.getId())));
+        rolePlayers.put(graknGraph.getRole("Role 2"), singleton(graknGraph.getConcept(rolePlayer3)));
+        rolePlayers.put(graknGraph.getRole("Role 3"), emptySet());
+        String hash = RelationImpl.generateNewHash(relationType, rolePlayers);
+
+        //Force a collision by storing the existing relation under the hash of the new one
+        graknGraph.<RelationImpl>getConcept(relation.getId()).setHash(hash);
+        ConceptId collidingRelation = relationType.addRelation().
+                addRolePlayer(graknGraph.getRole("Role 1"), graknGraph.getConcept(rolePlayer1.getId())).
+                addRolePlayer(graknGraph.getRole("Role 2"), graknGraph.getConcept(rolePlayer3)).getId();
+        graknGraph.commit();
+        graknGraph = (AbstractGraknGraph<?>) Grakn.session(Grakn.IN_MEMORY, graknGraph.getKeyspace()).open(GraknTxType.WRITE);
+
+        assertEquals(hash, graknGraph.<RelationImpl>getConcept(relation.getId()).getIndex());
+        assertEquals(hash + "_1", graknGraph.<RelationImpl>getConcept(collidingRelation).getIndex());
+        assertEquals(collidingRelation, RelationImpl.findRelation(graknGraph, relationType, rolePlayers).getId());
+    }
+
+    @Test
+    public void whenDeletingARelationStoredUnderTheFirstSlotOfAHash_DuplicatesOfTheLaterSlotsAreStillDetected() throws InvalidGraphException {
+        ConceptId rolePlayer3 = type.addEntity().getId();
+        graknGraph.commit();
+        graknGraph = (AbstractGraknGraph<?>) Grakn.session(Grakn.IN_MEMORY, graknGraph.getKeyspace()).open(GraknTxType.WRITE);
+
+        RelationType relationType = graknGraph.getRelationType("Main relation type");
+        Map<Role, Set<Thing>> rolePlayers = new HashMap<>();
+        rolePlayers.put(graknGraph.getRole("Role 1"), singleton(graknGraph.getConcept(rolePlayer1.getId())));
+        rolePlayers.put(graknGraph.getRole("Role 2"), singleton(graknGraph.getConcept(rolePlayer3)));
+        rolePlayers.put(graknGraph.getRole("Role 3"), emptySet());
+        String hash = RelationImpl.generateNewHash(relationType, rolePlayers);
+
+        //Force a collision so the new relation is stored under the second slot of the hash
+        graknGraph.<RelationImpl>getConcept(relation.getId()).setHash(hash);
+        ConceptId collidingRelation = relationType.addRelation().
+                addRolePlayer(graknGraph.getRole("Role 1"), graknGraph.getConcept(rolePlayer1.getId())).
+                addRolePlayer(graknGraph.getRole("Role 2"), graknGraph.getConcept(rolePlayer3)).getId();
+        graknGraph.commit();
+        graknGraph = (AbstractGraknGraph<?>) Grakn.session(Grakn.IN_MEMORY, graknGraph.getKeyspace()).open(GraknTxType.WRITE);
+
+        graknGraph.getConcept(relation.getId()).delete();
+        graknGraph.commit();
+        graknGraph = (AbstractGraknGraph<?>) Grakn.session(Grakn.IN_MEMORY, graknGraph.getKeyspace()).open(GraknTxType.WRITE);
+
+        assertEquals(hash, graknGraph.<RelationImpl>getConcept(collidingRelation).getIndex());
+
+        graknGraph.getRelationType("Main relation type").addRelation().
+                addRolePlayer(graknGraph.getRole("Role 1"), graknGraph.getConcept(rolePlayer1.getId())).
+                addRolePlayer(graknGraph.getRole("Role 2"), graknGraph.getConcept(rolePlayer3));
+
+        expectedException.expect(InvalidGraphException.class);
+        expectedException.expectMessage(containsString("You have created one or more relations"));
+
+        graknGraph.commit();
     }
 
     @Test
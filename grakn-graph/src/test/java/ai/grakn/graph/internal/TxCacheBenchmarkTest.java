@@ -0,0 +1,55 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.graph.internal;
+
+import ai.grakn.GraknTxType;
+import ai.grakn.concept.EntityType;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static org.junit.Assert.assertEquals;
+
+public class TxCacheBenchmarkTest extends GraphTestBase{
+    private static final Logger LOG = LoggerFactory.getLogger(TxCacheBenchmarkTest.class);
+
+    /**
+     * Measures the throughput of building concepts from their vertices, and of retrieving them again from the
+     * transaction cache.
+     */
+    @Test
+    public void testConceptMaterialisation(){
+        final int N = 1000;
+
+        EntityType node = graknGraph.putEntityType("node");
+        for (int i = 0; i < N; i++) node.addEntity();
+        graknGraph.commit();
+
+        graknGraph = (AbstractGraknGraph<?>) graknSession.open(GraknTxType.WRITE);
+        node = graknGraph.getEntityType("node");
+
+        long startTime = System.currentTimeMillis();
+        assertEquals(N, node.instances().size());
+        LOG.info("Building {} concepts took {}ms", N, System.currentTimeMillis() - startTime);
+
+        startTime = System.currentTimeMillis();
+        assertEquals(N, node.instances().size());
+        LOG.info("Retrieving {} cached concepts took {}ms", N, System.currentTimeMillis() - startTime);
+    }
+}
@@ -20,6 +20,7 @@ package ai.grakn.graph.internal;
 
 import ai.grakn.Grakn;
 import ai.grakn.GraknTxType;
+import ai.grakn.concept.ConceptId;
 import ai.grakn.concept.Entity;
 import ai.grakn.concept.EntityType;
 import ai.grakn.concept.OntologyConcept;
@@ -46,6 +47,7 @@ import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.not;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 
@@ -221,7 +223,7 @@ public class TxCacheTest extends GraphTestBase{
         relationType.addRelation().addRolePlayer(role1, e1).addRolePlayer(role2, e2);
 
         //Check the caches are not empty
-        assertThat(cache.getConceptCache().keySet(), not(empty()));
+        assertThat(cache.getCachedConcepts(), not(empty()));
         assertThat(cache.getOntologyConceptCache().keySet(), not(empty()));
         assertThat(cache.getLabelCache().keySet(), not(empty()));
         assertThat(cache.getRelationIndexCache().keySet(), not(empty()));
@@ -233,7 +235,7 @@ public class TxCacheTest extends GraphTestBase{
         graknGraph.commit();
 
         //Check the caches are empty
-        assertThat(cache.getConceptCache().keySet(), empty());
+        assertThat(cache.getCachedConcepts(), empty());
         assertThat(cache.getOntologyConceptCache().keySet(), empty());
         assertThat(cache.getLabelCache().keySet(), empty());
         assertThat(cache.getRelationIndexCache().keySet(), empty());
@@ -306,6 +308,21 @@ public class TxCacheTest extends GraphTestBase{
      * @param expectedMatch The expected result of the above operation
      */
     @SuppressWarnings("unchecked")
+    @Test
+    public void whenLookingUpAConceptByAnIdWhichOnlyLooksLikeItsVertexId_ReturnNull(){
+        Entity entity = graknGraph.putEntityType("e1").addEntity();
+        String id = entity.getId().getValue();
+        assertEquals(entity, graknGraph.txCache().getCachedConcept(entity.getId()));
+
+        //Non-ASCII digits are parsed by Long.parseLong but are not vertex ids
+        StringBuilder arabicIndicId = new StringBuilder();
+        for (char c : id.toCharArray()) arabicIndicId.append((char) ('\u0660' + (c - '0')));
+        assertNull(graknGraph.txCache().getCachedConcept(ConceptId.of(arabicIndicId.toString())));
+        assertNull(graknGraph.txCache().getCachedConcept(ConceptId.of("+" + id)));
+        assertNull(graknGraph.txCache().getCachedConcept(ConceptId.of("0" + id)));
+        assertNull(graknGraph.txCache().getCachedConcept(ConceptId.of("-0")));
+    }
+
     private <T extends OntologyConcept> void assertTxBoundConceptMatches(T type, Function<T, Object> resultSupplier, Matcher expectedMatch){
         assertThat(resultSupplier.apply(type), expectedMatch);
         assertThat(resultSupplier.apply(graknGraph.txCache().getCachedOntologyElement(type.getLabel())), expectedMatch);
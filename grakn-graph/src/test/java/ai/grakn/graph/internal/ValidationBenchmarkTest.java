@@ -0,0 +1,71 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.graph.internal;
+
+import ai.grakn.GraknTxType;
+import ai.grakn.concept.EntityType;
+import ai.grakn.concept.RelationType;
+import ai.grakn.concept.Role;
+import ai.grakn.concept.Thing;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static org.junit.Assert.assertEquals;
+
+public class ValidationBenchmarkTest extends GraphTestBase{
+    private static final Logger LOG = LoggerFactory.getLogger(ValidationBenchmarkTest.class);
+
+    /**
+     * Measures how the latency of a commit, which is dominated by validation, grows with the number of relations
+     * added in the transaction.
+     */
+    @Test
+    public void testCommitLatency(){
+        final int[] batchSizes = {10, 100, 1000};
+
+        Role from = graknGraph.putRole("from");
+        Role to = graknGraph.putRole("to");
+        graknGraph.putRelationType("link").relates(from).relates(to);
+        graknGraph.putEntityType("node").plays(from).plays(to);
+        graknGraph.commit();
+
+        long numRelations = 0;
+        for (int batchSize : batchSizes) {
+            graknGraph = (AbstractGraknGraph<?>) graknSession.open(GraknTxType.WRITE);
+            RelationType link = graknGraph.getRelationType("link");
+            EntityType node = graknGraph.getEntityType("node");
+            Role fromRole = graknGraph.getRole("from");
+            Role toRole = graknGraph.getRole("to");
+
+            Thing hub = node.addEntity();
+            for (int i = 0; i < batchSize; i++) {
+                link.addRelation().addRolePlayer(fromRole, hub).addRolePlayer(toRole, node.addEntity());
+            }
+
+            long startTime = System.currentTimeMillis();
+            graknGraph.commit();
+            LOG.info("Committing {} relations took {}ms", batchSize, System.currentTimeMillis() - startTime);
+            numRelations += batchSize;
+        }
+
+        graknGraph = (AbstractGraknGraph<?>) graknSession.open(GraknTxType.READ);
+        assertEquals(numRelations, graknGraph.getRelationType("link").instances().size());
+    }
+}
@@ -513,4 +513,39 @@ public class ValidatorTest extends GraphTestBase{
         graknGraph.commit();
     }
 
-}
\ No newline at end of file
+    @Test
+    public void whenCommittingMoreRelationsThanFitInOneIndexLookup_DuplicatesAreFound() {
+        int numRelations = 2 * ValidateGlobalRules.INDEX_LOOKUP_BATCH_SIZE + 1;
+        Role role1 = graknGraph.putRole("role-1");
+        Role role2 = graknGraph.putRole("role-2");
+        RelationType relationType = graknGraph.putRelationType("my-relation").relates(role1).relates(role2);
+        EntityType entityType = graknGraph.putEntityType("my-entity").plays(role1).plays(role2);
+
+        Thing thing = entityType.addEntity();
+        for (int i = 0; i < numRelations; i ++) {
+            relationType.addRelation().addRolePlayer(role1, entityType.addEntity()).addRolePlayer(role2, thing);
+        }
+        graknGraph.commit();
+        graknGraph = (AbstractGraknGraph<?>) graknSession.open(GraknTxType.WRITE);
+
+        role1 = graknGraph.getRole("role-1");
+        role2 = graknGraph.getRole("role-2");
+        relationType = graknGraph.getRelationType("my-relation");
+        entityType = graknGraph.getEntityType("my-entity");
+
+        Relation existing = relationType.instances().iterator().next();
+        Thing player1 = existing.rolePlayers(role1).iterator().next();
+        Thing player2 = existing.rolePlayers(role2).iterator().next();
+
+        thing = entityType.addEntity();
+        for (int i = 0; i < numRelations; i ++) {
+            relationType.addRelation().addRolePlayer(role1, entityType.addEntity()).addRolePlayer(role2, thing);
+        }
+        relationType.addRelation().addRolePlayer(role1, player1).addRolePlayer(role2, player2);
+
+        expectedException.expect(InvalidGraphException.class);
+        expectedException.expectMessage(containsString("You have created one or more relations"));
+
+        graknGraph.commit();
+    }
+}
@@ -39,7 +39,9 @@ import org.junit.Rule;
 import org.junit.rules.ExpectedException;
 import org.junit.runner.RunWith;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Set;
 import java.util.stream.Stream;
 
@@ -51,6 +53,7 @@ import static ai.grakn.util.ErrorMessage.CANNOT_DELETE;
 import static ai.grakn.util.ErrorMessage.META_TYPE_IMMUTABLE;
 import static ai.grakn.util.ErrorMessage.SUPER_LOOP_DETECTED;
 import static ai.grakn.util.Schema.MetaSchema.isMetaLabel;
+import static java.util.stream.Collectors.toList;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.hasItem;
@@ -309,6 +312,20 @@ public class TypePropertyTest {
         assertThat(type.instances(), containsInAnyOrder(expected));
     }
 
+    @Property
+    public void whenStreamingInstances_ReturnTheSameInstancesAsGettingInstances(@Open GraknGraph graph, @FromGraph Type type) {
+        assertThat(type.streamInstances().collect(toList()), containsInAnyOrder(type.instances().toArray()));
+    }
+
+    @Property
+    public void whenGettingPagesOfInstances_TheyCoverAllInstancesOnce(@Open GraknGraph graph, @FromGraph Type type) {
+        List<Thing> pages = new ArrayList<>();
+        pages.addAll(type.instances(0, 2));
+        pages.addAll(type.instances(2, Integer.MAX_VALUE));
+
+        assertThat(pages, containsInAnyOrder(type.instances().toArray()));
+    }
+
     @Property
     public void whenGettingPlays_ResultIsASupersetOfDirectSuperTypePlays(Type type) {
         assumeNotNull(type.sup());
@@ -0,0 +1,175 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ *
+ */
+
+package ai.grakn.graql.internal.gremlin;
+
+import ai.grakn.graql.Var;
+import ai.grakn.graql.internal.gremlin.fragment.Fragment;
+import com.google.common.collect.ImmutableList;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static ai.grakn.util.CommonUtil.toImmutableList;
+import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * The shape of a conjunction, used to look up query plans in a {@link ai.grakn.graph.admin.QueryPlanCache}.
+ * <p>
+ * The shape describes the {@link EquivalentFragmentSet}s of a conjunction using the {@link Fragment#getShape()} of
+ * each fragment and canonical variable names, so conjunctions that only differ by variable names and literal ids and
+ * values have the same shape. Plans are described using the same canonical names, so a plan found for one conjunction
+ * can be re-used for any other conjunction of the same shape.
+ * <p>
+ * Canonical names are chosen by repeatedly refining a "colour" for each variable, based on the fragments it appears in
+ * and the colours of its neighbours. Variables that cannot be told apart this way are ordered arbitrarily. This can
+ * only cause a cache miss, because the shape always describes the entire conjunction.
+ */
+class ConjunctionShape {
+
+    private final Collection<EquivalentFragmentSet> fragmentSets;
+    private final Map<Var, Integer> canonicalVars;
+    private final String description;
+
+    private ConjunctionShape(Collection<EquivalentFragmentSet> fragmentSets) {
+        this.fragmentSets = fragmentSets;
+        this.canonicalVars = canonicalVars(fragmentSets);
+        this.description = fragmentSets.stream()
+                .map(fragmentSet -> fragmentSet.stream().map(this::describe).sorted().collect(joining(", ", "{", "}")))
+                .sorted()
+                .collect(joining(" "));
+    }
+
+    /**
+     * @param fragmentSets the equivalent fragment sets of a conjunction
+     * @return the shape of the conjunction
+     */
+    static ConjunctionShape of(Collection<EquivalentFragmentSet> fragmentSets) {
+        return new ConjunctionShape(fragmentSets);
+    }
+
+    /**
+     * @return a description of the conjunction without any variable names or literal ids and values
+     */
+    String description() {
+        return description;
+    }
+
+    /**
+     * @param plan a plan for this conjunction
+     * @return a description of the plan that can be used with any conjunction of the same shape
+     */
+    List<String> describePlan(List<Fragment> plan) {
+        return plan.stream().map(this::describe).collect(toImmutableList());
+    }
+
+    /**
+     * @param plan a description of a plan for a conjunction of the same shape
+     * @return the fragments of this conjunction making up the plan, or nothing if the plan does not fit this conjunction
+     */
+    Optional<List<Fragment>> fragments(List<String> plan) {
+        Map<String, Deque<Fragment>> fragmentsByDescription = new HashMap<>();
+        fragmentSets.stream().flatMap(EquivalentFragmentSet::stream).forEach(fragment ->
+                fragmentsByDescription.computeIfAbsent(describe(fragment), d -> new ArrayDeque<>()).add(fragment)
+        );
+
+        ImmutableList.Builder<Fragment> fragments = ImmutableList.builder();
+
+        for (String fragmentDescription : plan) {
+            Deque<Fragment> candidates = fragmentsByDescription.get(fragmentDescription);
+            if (candidates == null || candidates.isEmpty()) return Optional.empty();
+            fragments.add(candidates.pop());
+        }
+
+        return Optional.of(fragments.build());
+    }
+
+    private String describe(Fragment fragment) {
+        return fragment.getShape() + vars(fragment).stream()
+                .map(var -> "$" + canonicalVars.get(var))
+                .collect(joining(",", "(", ")"));
+    }
+
+    /**
+     * Assign a number to every variable, such that the same variable in a conjunction of the same shape receives the
+     * same number (unless the variable cannot be told apart from another variable).
+     */
+    private static Map<Var, Integer> canonicalVars(Collection<EquivalentFragmentSet> fragmentSets) {
+        List<Fragment> fragments = fragmentSets.stream().flatMap(EquivalentFragmentSet::stream).collect(toList());
+
+        Map<Var, Integer> colours = new HashMap<>();
+        fragments.forEach(fragment -> vars(fragment).forEach(var -> colours.put(var, 0)));
+
+        long numColours = 1;
+
+        // Refine the colours until they stop distinguishing between any more variables
+        while (numColours < colours.size()) {
+            Map<Var, List<String>> neighbourhoods = new HashMap<>();
+            colours.keySet().forEach(var -> neighbourhoods.put(var, new ArrayList<>()));
+
+            for (Fragment fragment : fragments) {
+                List<Var> vars = vars(fragment);
+                String fragmentColour = fragment.getShape() + vars.stream().map(colours::get).collect(toList());
+
+                for (int i = 0; i < vars.size(); i++) {
+                    neighbourhoods.get(vars.get(i)).add(i + fragmentColour);
+                }
+            }
+
+            Map<Var, String> signatures = new HashMap<>();
+            neighbourhoods.forEach((var, neighbourhood) -> {
+                neighbourhood.sort(Comparator.naturalOrder());
+                signatures.put(var, colours.get(var) + neighbourhood.toString());
+            });
+
+            List<String> distinctSignatures = signatures.values().stream().distinct().sorted().collect(toList());
+
+            if (distinctSignatures.size() <= numColours) break;
+
+            numColours = distinctSignatures.size();
+            signatures.forEach((var, signature) -> colours.put(var, distinctSignatures.indexOf(signature)));
+        }
+
+        List<Var> orderedVars = colours.keySet().stream()
+                .sorted(Comparator.<Var, Integer>comparing(colours::get).thenComparing(Var::getValue))
+                .collect(toList());
+
+        return orderedVars.stream().collect(Collectors.toMap(var -> var, orderedVars::indexOf));
+    }
+
+    /**
+     * @return all the variables of the fragment in a consistent order
+     */
+    private static List<Var> vars(Fragment fragment) {
+        List<Var> vars = new ArrayList<>(fragment.getVariableNames());
+        Set<Var> dependencies = fragment.getDependencies();
+        dependencies.stream().filter(var -> !vars.contains(var)).forEach(vars::add);
+        return vars;
+    }
+}
@@ -19,15 +19,20 @@
 package ai.grakn.graql.internal.gremlin;
 
 import ai.grakn.GraknGraph;
+import ai.grakn.concept.ConceptId;
+import ai.grakn.concept.Label;
 import ai.grakn.graql.Var;
 import ai.grakn.graql.internal.gremlin.fragment.Fragment;
+import ai.grakn.graql.internal.gremlin.fragment.Fragments;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Iterables;
 import org.apache.tinkerpop.gremlin.process.traversal.P;
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
@@ -78,6 +83,50 @@ public class GraqlTraversal {
         return graph.admin().getTinkerTraversal().limit(1).union(traversals);
     }
 
+    /**
+     * Get the {@code GraphTraversal} that this {@code GraqlTraversal} represents, restricted to the instances in one
+     * shard of the type it starts from.
+     * @param shard one of the shards of the type returned by {@link #getShardedType()} or its subs
+     */
+    public GraphTraversal<Vertex, Map<String, Vertex>> getGraphTraversal(GraknGraph graph, ConceptId shard) {
+        if (!getShardedType().isPresent()) {
+            throw new IllegalStateException("The traversal " + this + " does not start from the instances of a type");
+        }
+
+        List<Fragment> fragmentList = new ArrayList<>(Iterables.getOnlyElement(fragments));
+        int index = firstInstanceFragment(fragmentList);
+        fragmentList.set(index, Fragments.inIsaShard(fragmentList.get(index), shard));
+        return getConjunctionTraversal(graph, ImmutableList.copyOf(fragmentList));
+    }
+
+    /**
+     * The instances of a type are split across its shards, so a traversal which looks up types and then navigates
+     * from one of them to its instances can be executed one shard at a time.
+     * @return the label of the type the traversal starts from, if it starts from the instances of a type
+     */
+    public Optional<Label> getShardedType() {
+        if (fragments.size() != 1) return Optional.empty();
+
+        List<Fragment> fragmentList = Iterables.getOnlyElement(fragments);
+        int index = firstInstanceFragment(fragmentList);
+        if (index == fragmentList.size() || !Fragments.isInIsa(fragmentList.get(index))) return Optional.empty();
+
+        Var type = fragmentList.get(index).getStart();
+        return fragmentList.subList(0, index).stream()
+                .filter(fragment -> fragment.getStart().equals(type))
+                .map(Fragments::getLabel)
+                .findFirst().orElse(Optional.empty());
+    }
+
+    /**
+     * @return the index of the first fragment which does not look up a type by its label
+     */
+    private static int firstInstanceFragment(List<Fragment> fragmentList) {
+        int index = 0;
+        while (index < fragmentList.size() && Fragments.getLabel(fragmentList.get(index)).isPresent()) index++;
+        return index;
+    }
+
     public ImmutableSet<ImmutableList<Fragment>> fragments() {
         return fragments;
     }
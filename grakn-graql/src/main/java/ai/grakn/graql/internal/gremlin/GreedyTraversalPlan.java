@@ -20,6 +20,7 @@
 package ai.grakn.graql.internal.gremlin;
 
 import ai.grakn.GraknGraph;
+import ai.grakn.graph.admin.QueryPlanCache;
 import ai.grakn.graql.admin.Conjunction;
 import ai.grakn.graql.admin.PatternAdmin;
 import ai.grakn.graql.admin.VarPatternAdmin;
@@ -29,7 +30,9 @@ import com.google.common.collect.Lists;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -50,12 +53,17 @@ public class GreedyTraversalPlan {
 
     /**
      * Create a traversal plan using the default maxTraersalAttempts.
+     * <p>
+     * Plans are cached in the {@link QueryPlanCache} of the graph, so a pattern with the same shape as a previous
+     * pattern (differing only by variable names and literal ids and values) will re-use the plan of that pattern.
+     *
      * @see GreedyTraversalPlan#createTraversal(PatternAdmin, GraknGraph, long)
      * @param pattern a pattern to find a query plan for
      * @return a semi-optimal traversal plan
      */
     public static GraqlTraversal createTraversal(PatternAdmin pattern, GraknGraph graph) {
-        return createTraversal(pattern, graph, MAX_TRAVERSAL_ATTEMPTS);
+        QueryPlanCache cache = graph.admin().queryPlanCache();
+        return createTraversal(pattern, graph, query -> cachedSemiOptimalConjunction(query, cache));
     }
 
     /**
@@ -78,17 +86,39 @@ public class GreedyTraversalPlan {
      */
     public static GraqlTraversal createTraversal(
             PatternAdmin pattern, GraknGraph graph, long maxTraversalAttempts) {
+        return createTraversal(pattern, graph, query -> semiOptimalConjunction(query, maxTraversalAttempts));
+    }
+
+    private static GraqlTraversal createTraversal(
+            PatternAdmin pattern, GraknGraph graph, Function<ConjunctionQuery, List<Fragment>> planConjunction) {
         Collection<Conjunction<VarPatternAdmin>> patterns = pattern.getDisjunctiveNormalForm().getPatterns();
 
         // Find a semi-optimal way to execute each conjunction
         Set<? extends List<Fragment>> fragments = patterns.stream()
                 .map(conjunction -> new ConjunctionQuery(conjunction, graph))
-                .map(query -> semiOptimalConjunction(query, maxTraversalAttempts))
+                .map(planConjunction)
                 .collect(toImmutableSet());
 
         return GraqlTraversal.create(fragments);
     }
 
+    /**
+     * Find a plan for a single conjunction, re-using the cached plan of a conjunction with the same shape if possible
+     * @param query the conjunction query to find a traversal plan
+     * @param cache the cache of previously found plans
+     * @return a semi-optimal traversal plan to execute the given conjunction
+     */
+    private static List<Fragment> cachedSemiOptimalConjunction(ConjunctionQuery query, QueryPlanCache cache) {
+        ConjunctionShape shape = ConjunctionShape.of(query.getEquivalentFragmentSets());
+
+        Optional<List<Fragment>> cachedPlan = cache.getPlan(shape.description()).flatMap(shape::fragments);
+        if (cachedPlan.isPresent()) return cachedPlan.get();
+
+        List<Fragment> plan = semiOptimalConjunction(query, MAX_TRAVERSAL_ATTEMPTS);
+        cache.cachePlan(shape.description(), shape.describePlan(plan));
+        return plan;
+    }
+
     /**
      * Create a semi-optimal plan using a greedy approach to execute a single conjunction
      * @param query the conjunction query to find a traversal plan
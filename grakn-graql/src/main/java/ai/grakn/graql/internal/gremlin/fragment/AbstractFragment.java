@@ -92,6 +92,11 @@ abstract class AbstractFragment implements Fragment{
         return end;
     }
 
+    @Override
+    public String getShape() {
+        return getName();
+    }
+
     @Override
     public Set<Var> getDependencies() {
         return ImmutableSet.of();
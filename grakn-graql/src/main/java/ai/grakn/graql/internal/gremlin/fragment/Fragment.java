@@ -72,6 +72,12 @@ public interface Fragment {
      */
     String getName();
 
+    /**
+     * The shape of the fragment. This is like the name, but without any variable names or literal ids and values.
+     * Fragments with the same shape and the same variables have the same cost, so they can share a query plan.
+     */
+    String getShape();
+
     /**
      * @return the variable name that this fragment starts from in the query
      */
@@ -55,13 +55,31 @@ public class Fragments {
     public static Fragment inShortcut(
             Var rolePlayer, Var edge, Var relation, Optional<Var> roleType,
             Optional<Set<Label>> roleTypeLabels, Optional<Set<Label>> relationTypeLabels) {
-        return new InShortcutFragment(rolePlayer, edge, relation, roleType, roleTypeLabels, relationTypeLabels);
+        return inShortcut(rolePlayer, edge, relation, roleType, roleTypeLabels, relationTypeLabels, Optional.empty());
+    }
+
+    /**
+     * @param fanOut the estimated number of relations each role-player takes part in, if known
+     */
+    public static Fragment inShortcut(
+            Var rolePlayer, Var edge, Var relation, Optional<Var> roleType,
+            Optional<Set<Label>> roleTypeLabels, Optional<Set<Label>> relationTypeLabels, Optional<Double> fanOut) {
+        return new InShortcutFragment(rolePlayer, edge, relation, roleType, roleTypeLabels, relationTypeLabels, fanOut);
     }
 
     public static Fragment outShortcut(
             Var relation, Var edge, Var rolePlayer, Optional<Var> roleType,
             Optional<Set<Label>> roleTypeLabels, Optional<Set<Label>> relationTypeLabels) {
-        return new OutShortcutFragment(relation, edge, rolePlayer, roleType, roleTypeLabels, relationTypeLabels);
+        return outShortcut(relation, edge, rolePlayer, roleType, roleTypeLabels, relationTypeLabels, Optional.empty());
+    }
+
+    /**
+     * @param fanOut the estimated number of role-players in each relation, if known
+     */
+    public static Fragment outShortcut(
+            Var relation, Var edge, Var rolePlayer, Optional<Var> roleType,
+            Optional<Set<Label>> roleTypeLabels, Optional<Set<Label>> relationTypeLabels, Optional<Double> fanOut) {
+        return new OutShortcutFragment(relation, edge, rolePlayer, roleType, roleTypeLabels, relationTypeLabels, fanOut);
     }
 
     public static Fragment inSub(Var start, Var end) {
@@ -81,7 +99,30 @@ public class Fragments {
     }
 
     public static Fragment inIsa(Var start, Var end) {
-        return new InIsaFragment(start, end);
+        return inIsa(start, end, Optional.empty());
+    }
+
+    /**
+     * @param instanceCount the estimated number of instances of the type, if known
+     */
+    public static Fragment inIsa(Var start, Var end, Optional<Long> instanceCount) {
+        return new InIsaFragment(start, end, instanceCount);
+    }
+
+    /**
+     * @return whether the fragment navigates from a type to its instances
+     */
+    public static boolean isInIsa(Fragment fragment) {
+        return fragment instanceof InIsaFragment;
+    }
+
+    /**
+     * @param fragment a fragment navigating from a type to its instances
+     * @param shard one of the shards of the type or its subs
+     * @return a fragment which only navigates to the instances in the given shard
+     */
+    public static Fragment inIsaShard(Fragment fragment, ConceptId shard) {
+        return ((InIsaFragment) fragment).inShard(shard);
     }
 
     public static Fragment outIsa(Var start, Var end) {
@@ -116,8 +157,24 @@ public class Fragments {
         return new LabelFragment(start, label);
     }
 
+    /**
+     * @return the label of the type the fragment looks up, if it is a label fragment
+     */
+    public static Optional<Label> getLabel(Fragment fragment) {
+        if (!(fragment instanceof LabelFragment)) return Optional.empty();
+        return Optional.of(((LabelFragment) fragment).getLabel());
+    }
+
     public static Fragment value(Var start, ValuePredicateAdmin predicate) {
-        return new ValueFragment(start, predicate);
+        return new ValueFragment(start, predicate, false, Optional.empty());
+    }
+
+    /**
+     * A {@link Fragment} for a range predicate which can be looked up using the range index on resource values
+     * @param resourceCount the number of resources of the type being looked up, if known
+     */
+    public static Fragment rangeIndexedValue(Var start, ValuePredicateAdmin predicate, Optional<Long> resourceCount) {
+        return new ValueFragment(start, predicate, true, resourceCount);
     }
 
     public static Fragment isAbstract(Var start) {
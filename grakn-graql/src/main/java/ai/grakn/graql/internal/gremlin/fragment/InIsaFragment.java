@@ -19,22 +19,45 @@
 package ai.grakn.graql.internal.gremlin.fragment;
 
 import ai.grakn.GraknGraph;
+import ai.grakn.concept.ConceptId;
 import ai.grakn.graql.Var;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 
+import java.util.Optional;
+
 import static ai.grakn.util.Schema.EdgeLabel.ISA;
 import static ai.grakn.util.Schema.EdgeLabel.SHARD;
+import static ai.grakn.util.Schema.VertexProperty.ID;
 
 class InIsaFragment extends AbstractFragment {
 
-    InIsaFragment(Var start, Var end) {
+    private final Optional<Long> instanceCount;
+    private final Optional<ConceptId> shard;
+
+    InIsaFragment(Var start, Var end, Optional<Long> instanceCount) {
+        this(start, end, instanceCount, Optional.empty());
+    }
+
+    private InIsaFragment(Var start, Var end, Optional<Long> instanceCount, Optional<ConceptId> shard) {
         super(start, end);
+        this.instanceCount = instanceCount;
+        this.shard = shard;
+    }
+
+    /**
+     * @param shard one of the shards of the type or its subs
+     * @return a fragment which only navigates to the instances in the given shard
+     */
+    InIsaFragment inShard(ConceptId shard) {
+        return new InIsaFragment(getStart(), getEnd().get(), instanceCount, Optional.of(shard));
     }
 
     @Override
     public void applyTraversal(GraphTraversal<Vertex, Vertex> traversal, GraknGraph graph) {
-        Fragments.inSubs(traversal).in(SHARD.getLabel()).in(ISA.getLabel());
+        GraphTraversal<Vertex, Vertex> shards = Fragments.inSubs(traversal).in(SHARD.getLabel());
+        shard.ifPresent(id -> shards.has(ID.name(), id.getValue()));
+        shards.in(ISA.getLabel());
     }
 
     @Override
@@ -44,6 +67,25 @@ class InIsaFragment extends AbstractFragment {
 
     @Override
     public double fragmentCost(double previousCost) {
-        return previousCost * NUM_INSTANCES_PER_TYPE;
+        return previousCost * instanceCount.orElse(NUM_INSTANCES_PER_TYPE);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        if (!super.equals(o)) return false;
+
+        InIsaFragment that = (InIsaFragment) o;
+
+        return instanceCount.equals(that.instanceCount) && shard.equals(that.shard);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = super.hashCode();
+        result = 31 * result + instanceCount.hashCode();
+        result = 31 * result + shard.hashCode();
+        return result;
     }
 }
@@ -50,15 +50,17 @@ class InShortcutFragment extends AbstractFragment {
     private final Optional<Var> roleType;
     private final Optional<Set<Label>> roleTypeLabels;
     private final Optional<Set<Label>> relationTypeLabels;
+    private final Optional<Double> fanOut;
 
     InShortcutFragment(
             Var rolePlayer, Var edge, Var relation, Optional<Var> roleType, Optional<Set<Label>> roleTypeLabels,
-            Optional<Set<Label>> relationTypeLabels) {
+            Optional<Set<Label>> relationTypeLabels, Optional<Double> fanOut) {
         super(rolePlayer, relation, edge, optionalVarToArray(roleType));
         this.edge = edge;
         this.roleType = roleType;
         this.roleTypeLabels = roleTypeLabels;
         this.relationTypeLabels = relationTypeLabels;
+        this.fanOut = fanOut;
     }
 
     @Override
@@ -82,9 +84,17 @@ class InShortcutFragment extends AbstractFragment {
         return "<-[shortcut:" + edge.shortName() + role + rels + roles + "]-";
     }
 
+    @Override
+    public String getShape() {
+        String role = roleType.isPresent() ? " role" : "";
+        String rels = displayOptionalTypeLabels("rels", relationTypeLabels);
+        String roles = displayOptionalTypeLabels("roles", roleTypeLabels);
+        return "<-[shortcut:" + role + rels + roles + "]-";
+    }
+
     @Override
     public double fragmentCost(double previousCost) {
-        return previousCost * NUM_RELATIONS_PER_INSTANCE;
+        return previousCost * fanOut.orElse((double) NUM_RELATIONS_PER_INSTANCE);
     }
 
     @Override
@@ -97,7 +107,8 @@ class InShortcutFragment extends AbstractFragment {
 
         if (!edge.equals(that.edge)) return false;
         if (!roleTypeLabels.equals(that.roleTypeLabels)) return false;
-        return relationTypeLabels.equals(that.relationTypeLabels);
+        if (!relationTypeLabels.equals(that.relationTypeLabels)) return false;
+        return fanOut.equals(that.fanOut);
     }
 
     @Override
@@ -106,6 +117,7 @@ class InShortcutFragment extends AbstractFragment {
         result = 31 * result + edge.hashCode();
         result = 31 * result + roleTypeLabels.hashCode();
         result = 31 * result + relationTypeLabels.hashCode();
+        result = 31 * result + fanOut.hashCode();
         return result;
     }
 }
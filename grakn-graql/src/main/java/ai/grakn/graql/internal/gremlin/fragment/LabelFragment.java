@@ -36,6 +36,10 @@ class LabelFragment extends AbstractFragment {
         this.label = label;
     }
 
+    Label getLabel() {
+        return label;
+    }
+
     @Override
     public void applyTraversal(GraphTraversal<Vertex, Vertex> traversal, GraknGraph graph) {
         traversal.has(TYPE_ID.name(), graph.admin().convertToId(label).getValue());
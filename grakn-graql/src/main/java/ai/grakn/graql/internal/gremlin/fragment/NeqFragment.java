@@ -44,6 +44,11 @@ class NeqFragment extends AbstractFragment {
         return "[neq:" + other.shortName() + "]";
     }
 
+    @Override
+    public String getShape() {
+        return "[neq]";
+    }
+
     @Override
     public double fragmentCost(double previousCost) {
         // This is arbitrary - we imagine about half the results are filtered out
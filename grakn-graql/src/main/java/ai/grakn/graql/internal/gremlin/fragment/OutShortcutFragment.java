@@ -51,15 +51,17 @@ class OutShortcutFragment extends AbstractFragment {
     private final Optional<Var> roleType;
     private final Optional<Set<Label>> roleTypeLabels;
     private final Optional<Set<Label>> relationTypeLabels;
+    private final Optional<Double> fanOut;
 
     OutShortcutFragment(
             Var relation, Var edge, Var rolePlayer, Optional<Var> roleType, Optional<Set<Label>> roleTypeLabels,
-            Optional<Set<Label>> relationTypeLabels) {
+            Optional<Set<Label>> relationTypeLabels, Optional<Double> fanOut) {
             super(relation, rolePlayer, edge, optionalVarToArray(roleType));
             this.edge = edge;
             this.roleType = roleType;
             this.roleTypeLabels = roleTypeLabels;
             this.relationTypeLabels = relationTypeLabels;
+            this.fanOut = fanOut;
     }
 
     @Override
@@ -83,10 +85,18 @@ class OutShortcutFragment extends AbstractFragment {
         return "-[shortcut:" + edge.shortName() + role + rels + roles + "]->";
     }
 
+    @Override
+    public String getShape() {
+        String role = roleType.isPresent() ? " role" : "";
+        String rels = displayOptionalTypeLabels("rels", relationTypeLabels);
+        String roles = displayOptionalTypeLabels("roles", roleTypeLabels);
+        return "-[shortcut:" + role + rels + roles + "]->";
+    }
+
     @Override
     public double fragmentCost(double previousCost) {
         long numRolePlayers = roleTypeLabels.isPresent() ? NUM_ROLE_PLAYERS_PER_ROLE : NUM_ROLE_PLAYERS_PER_RELATION;
-        return previousCost * numRolePlayers;
+        return previousCost * fanOut.orElse((double) numRolePlayers);
     }
 
     @Override
@@ -99,7 +109,8 @@ class OutShortcutFragment extends AbstractFragment {
 
         if (!edge.equals(that.edge)) return false;
         if (!roleTypeLabels.equals(that.roleTypeLabels)) return false;
-        return relationTypeLabels.equals(that.relationTypeLabels);
+        if (!relationTypeLabels.equals(that.relationTypeLabels)) return false;
+        return fanOut.equals(that.fanOut);
     }
 
     @Override
@@ -108,6 +119,7 @@ class OutShortcutFragment extends AbstractFragment {
         result = 31 * result + edge.hashCode();
         result = 31 * result + roleTypeLabels.hashCode();
         result = 31 * result + relationTypeLabels.hashCode();
+        result = 31 * result + fanOut.hashCode();
         return result;
     }
 }
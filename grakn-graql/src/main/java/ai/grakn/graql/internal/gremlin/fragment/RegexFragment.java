@@ -45,6 +45,11 @@ class RegexFragment extends AbstractFragment {
         return "[regex:" + StringUtil.valueToString(regex) + "]";
     }
 
+    @Override
+    public String getShape() {
+        return "[regex]";
+    }
+
     @Override
     public double fragmentCost(double previousCost) {
         return previousCost;
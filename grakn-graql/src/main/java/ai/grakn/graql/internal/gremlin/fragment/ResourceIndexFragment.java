@@ -47,6 +47,11 @@ class ResourceIndexFragment extends AbstractFragment {
         return "[index:" + resourceIndex + "]";
     }
 
+    @Override
+    public String getShape() {
+        return "[index]";
+    }
+
     @Override
     public double fragmentCost(double previousCost) {
         return 1;
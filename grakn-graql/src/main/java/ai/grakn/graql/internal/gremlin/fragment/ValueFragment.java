@@ -25,6 +25,7 @@ import ai.grakn.graql.admin.VarPatternAdmin;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 
+import java.util.Optional;
 import java.util.Set;
 
 import static ai.grakn.util.CommonUtil.optionalToStream;
@@ -33,10 +34,14 @@ import static java.util.stream.Collectors.toSet;
 class ValueFragment extends AbstractFragment {
 
     private final ValuePredicateAdmin predicate;
+    private final boolean rangeIndexed;
+    private final Optional<Long> resourceCount;
 
-    ValueFragment(Var start, ValuePredicateAdmin predicate) {
+    ValueFragment(Var start, ValuePredicateAdmin predicate, boolean rangeIndexed, Optional<Long> resourceCount) {
         super(start);
         this.predicate = predicate;
+        this.rangeIndexed = rangeIndexed;
+        this.resourceCount = resourceCount;
     }
 
     @Override
@@ -49,10 +54,25 @@ class ValueFragment extends AbstractFragment {
         return "[value:" + predicate + "]";
     }
 
+    @Override
+    public String getShape() {
+        if (predicate.isSpecific()) {
+            return "[value:specific]";
+        } else if (rangeIndexed) {
+            return "[value:range]";
+        } else {
+            return "[value]";
+        }
+    }
+
     @Override
     public double fragmentCost(double previousCost) {
         if (predicate.isSpecific()) {
             return NUM_RESOURCES_PER_VALUE;
+        } else if (rangeIndexed) {
+            // The range index looks up the matching resources directly, so we never need to filter every vertex
+            double resourcesInRange = resourceCount.orElse(NUM_INSTANCES_PER_TYPE) / 2.0;
+            return Math.min(previousCost / 2.0, resourcesInRange);
         } else {
             // Assume approximately half of values will satisfy a filter
             return previousCost / 2.0;
@@ -77,6 +97,8 @@ class ValueFragment extends AbstractFragment {
 
         ValueFragment that = (ValueFragment) o;
 
+        if (rangeIndexed != that.rangeIndexed) return false;
+        if (!resourceCount.equals(that.resourceCount)) return false;
         return predicate != null ? predicate.equals(that.predicate) : that.predicate == null;
 
     }
@@ -85,6 +107,8 @@ class ValueFragment extends AbstractFragment {
     public int hashCode() {
         int result = super.hashCode();
         result = 31 * result + (predicate != null ? predicate.hashCode() : 0);
+        result = 31 * result + (rangeIndexed ? 1 : 0);
+        result = 31 * result + resourceCount.hashCode();
         return result;
     }
 }
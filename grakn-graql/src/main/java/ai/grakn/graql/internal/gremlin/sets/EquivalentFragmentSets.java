@@ -35,10 +35,12 @@ import java.util.Optional;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 
+import static ai.grakn.graql.internal.gremlin.sets.IsaFragmentSet.applyInstanceCountOptimisation;
 import static ai.grakn.graql.internal.gremlin.sets.LabelFragmentSet.applyRedundantLabelEliminationOptimisation;
 import static ai.grakn.graql.internal.gremlin.sets.ResourceIndexFragmentSet.applyResourceIndexOptimisation;
 import static ai.grakn.graql.internal.gremlin.sets.ShortcutFragmentSet.applyShortcutRelationTypeOptimisation;
 import static ai.grakn.graql.internal.gremlin.sets.ShortcutFragmentSet.applyShortcutRoleTypeOptimisation;
+import static ai.grakn.graql.internal.gremlin.sets.ValueFragmentSet.applyRangeIndexOptimisation;
 
 /**
  * Factory class for producing instances of {@link EquivalentFragmentSet}.
@@ -61,7 +63,9 @@ public class EquivalentFragmentSets {
      * An {@link EquivalentFragmentSet} that indicates a shortcut edge between two role-players.
      */
     public static EquivalentFragmentSet shortcut(Var relation, Var edge, Var rolePlayer, Optional<Var> roleType) {
-        return new ShortcutFragmentSet(relation, edge, rolePlayer, roleType, Optional.empty(), Optional.empty());
+        return new ShortcutFragmentSet(
+                relation, edge, rolePlayer, roleType, Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty()
+        );
     }
 
     /**
@@ -163,6 +167,8 @@ public class EquivalentFragmentSets {
                 () -> applyResourceIndexOptimisation(fragmentSets, graph),
                 () -> applyShortcutRoleTypeOptimisation(fragmentSets, graph),
                 () -> applyShortcutRelationTypeOptimisation(fragmentSets, graph),
+                () -> applyInstanceCountOptimisation(fragmentSets, graph),
+                () -> applyRangeIndexOptimisation(fragmentSets, graph),
                 () -> applyRedundantLabelEliminationOptimisation(fragmentSets, graph)
         );
 
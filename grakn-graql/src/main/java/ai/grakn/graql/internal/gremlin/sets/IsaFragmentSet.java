@@ -19,10 +19,15 @@
 
 package ai.grakn.graql.internal.gremlin.sets;
 
+import ai.grakn.GraknGraph;
 import ai.grakn.graql.Var;
 import ai.grakn.graql.internal.gremlin.EquivalentFragmentSet;
 import ai.grakn.graql.internal.gremlin.fragment.Fragments;
 
+import javax.annotation.Nullable;
+import java.util.Collection;
+import java.util.Optional;
+
 /**
  * @author Felix Chapman
  */
@@ -30,11 +35,51 @@ class IsaFragmentSet extends EquivalentFragmentSet {
 
     private final Var instance;
     private final Var type;
+    private final Optional<Long> instanceCount;
 
     IsaFragmentSet(Var instance, Var type) {
-        super(Fragments.outIsa(instance, type), Fragments.inIsa(type, instance));
+        this(instance, type, Optional.empty());
+    }
+
+    private IsaFragmentSet(Var instance, Var type, Optional<Long> instanceCount) {
+        super(Fragments.outIsa(instance, type), Fragments.inIsa(type, instance, instanceCount));
         this.instance = instance;
         this.type = type;
+        this.instanceCount = instanceCount;
+    }
+
+    /**
+     * A query can use the real number of instances of a type when the following criteria are met:
+     * <ol>
+     *     <li>There is an {@link IsaFragmentSet} {@code $x-[isa]->$X}
+     *     <li>There is a {@link LabelFragmentSet} {@code $X[label:foo]}
+     *     <li>The {@link ai.grakn.graph.admin.GraphStatistics} of the graph know how many instances {@code foo} has
+     * </ol>
+     *
+     * When these criteria are met, the {@link IsaFragmentSet} is replaced with one which knows the instance count of
+     * {@code foo}, so the cost of navigating from the type to its instances can be estimated properly.
+     */
+    static boolean applyInstanceCountOptimisation(Collection<EquivalentFragmentSet> fragmentSets, GraknGraph graph) {
+        Iterable<IsaFragmentSet> isaSets = EquivalentFragmentSets.fragmentSetOfType(IsaFragmentSet.class, fragmentSets)::iterator;
+
+        for (IsaFragmentSet isaSet : isaSets) {
+
+            if (isaSet.instanceCount.isPresent()) continue;
+
+            @Nullable LabelFragmentSet typeLabel = EquivalentFragmentSets.typeLabelOf(isaSet.type, fragmentSets);
+
+            if (typeLabel == null) continue;
+
+            Optional<Long> count = graph.admin().statistics().instanceCount(typeLabel.label());
+
+            if (count.isPresent()) {
+                fragmentSets.remove(isaSet);
+                fragmentSets.add(new IsaFragmentSet(isaSet.instance, isaSet.type, count));
+                return true;
+            }
+        }
+
+        return false;
     }
 
     Var instance() {
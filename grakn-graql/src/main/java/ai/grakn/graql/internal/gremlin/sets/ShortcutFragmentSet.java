@@ -25,15 +25,18 @@ import ai.grakn.concept.OntologyConcept;
 import ai.grakn.concept.RelationType;
 import ai.grakn.concept.Role;
 import ai.grakn.concept.Type;
+import ai.grakn.graph.admin.GraphStatistics;
 import ai.grakn.graql.Var;
 import ai.grakn.graql.internal.gremlin.EquivalentFragmentSet;
 import ai.grakn.graql.internal.gremlin.fragment.Fragments;
+import ai.grakn.util.CommonUtil;
 import com.google.common.base.Preconditions;
 
 import javax.annotation.Nullable;
 import java.util.Collection;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
 
 import static ai.grakn.util.CommonUtil.withImplicitConceptsVisible;
 import static java.util.stream.Collectors.toSet;
@@ -53,13 +56,20 @@ class ShortcutFragmentSet extends EquivalentFragmentSet {
     private final Optional<Var> roleType;
     private final Optional<Set<Label>> roleTypeLabels;
     private final Optional<Set<Label>> relationTypeLabels;
+    private final Optional<Double> relationsPerRolePlayer;
+    private final Optional<Double> rolePlayersPerRelation;
 
     ShortcutFragmentSet(
             Var relation, Var edge, Var rolePlayer, Optional<Var> roleType,
-            Optional<Set<Label>> roleTypeLabels, Optional<Set<Label>> relationTypeLabels) {
+            Optional<Set<Label>> roleTypeLabels, Optional<Set<Label>> relationTypeLabels,
+            Optional<Double> relationsPerRolePlayer, Optional<Double> rolePlayersPerRelation) {
         super(
-                Fragments.inShortcut(rolePlayer, edge, relation, roleType, roleTypeLabels, relationTypeLabels),
-                Fragments.outShortcut(relation, edge, rolePlayer, roleType, roleTypeLabels, relationTypeLabels)
+                Fragments.inShortcut(
+                        rolePlayer, edge, relation, roleType, roleTypeLabels, relationTypeLabels, relationsPerRolePlayer
+                ),
+                Fragments.outShortcut(
+                        relation, edge, rolePlayer, roleType, roleTypeLabels, relationTypeLabels, rolePlayersPerRelation
+                )
         );
         this.relation = relation;
         this.edge = edge;
@@ -67,6 +77,8 @@ class ShortcutFragmentSet extends EquivalentFragmentSet {
         this.roleType = roleType;
         this.roleTypeLabels = roleTypeLabels;
         this.relationTypeLabels = relationTypeLabels;
+        this.relationsPerRolePlayer = relationsPerRolePlayer;
+        this.rolePlayersPerRelation = rolePlayersPerRelation;
     }
 
     /**
@@ -84,6 +96,9 @@ class ShortcutFragmentSet extends EquivalentFragmentSet {
      *
      * However, we must still retain the {@link LabelFragmentSet} because it is possible it is selected as a result or
      * referred to elsewhere in the query.
+     * <p>
+     * Once the role-types are known, the {@link GraphStatistics} of the graph are used to estimate how many edges are
+     * followed in each direction.
      */
     static boolean applyShortcutRoleTypeOptimisation(Collection<EquivalentFragmentSet> fragmentSets, GraknGraph graph) {
         Iterable<ShortcutFragmentSet> shortcuts = EquivalentFragmentSets.fragmentSetOfType(ShortcutFragmentSet.class, fragmentSets)::iterator;
@@ -169,11 +184,27 @@ class ShortcutFragmentSet extends EquivalentFragmentSet {
 
         Set<Label> newRoleLabels = subTypes.stream().map(OntologyConcept::getLabel).collect(toSet());
 
+        GraphStatistics statistics = graph.admin().statistics();
+        Optional<Double> newRelationsPerRolePlayer = sumOfEstimates(newRoleLabels, statistics::relationsPerRolePlayer);
+        Optional<Double> newRolePlayersPerRelation = sumOfEstimates(newRoleLabels, statistics::rolePlayersPerRelation);
+
         return new ShortcutFragmentSet(
-                relation, edge, rolePlayer, Optional.empty(), Optional.of(newRoleLabels), relationTypeLabels
+                relation, edge, rolePlayer, Optional.empty(), Optional.of(newRoleLabels), relationTypeLabels,
+                newRelationsPerRolePlayer, newRolePlayersPerRelation
         );
     }
 
+    /**
+     * Sum the estimated fan-outs of several roles. Roles without an estimate are ignored.
+     * @return the summed fan-out, or nothing if none of the roles have an estimate
+     */
+    private static Optional<Double> sumOfEstimates(Set<Label> roleLabels, Function<Label, Optional<Double>> estimate) {
+        return roleLabels.stream()
+                .map(estimate)
+                .flatMap(CommonUtil::optionalToStream)
+                .reduce(Double::sum);
+    }
+
     /**
      * Apply an optimisation where we check the relation-type property.
      * @param relationType the relation-type that this shortcut fragment must link to
@@ -187,7 +218,8 @@ class ShortcutFragmentSet extends EquivalentFragmentSet {
         Set<Label> newRelationLabels = subTypes.stream().map(Type::getLabel).collect(toSet());
 
         return new ShortcutFragmentSet(
-                relation, edge, rolePlayer, roleType, roleTypeLabels, Optional.of(newRelationLabels)
+                relation, edge, rolePlayer, roleType, roleTypeLabels, Optional.of(newRelationLabels),
+                relationsPerRolePlayer, rolePlayersPerRelation
         );
     }
 }
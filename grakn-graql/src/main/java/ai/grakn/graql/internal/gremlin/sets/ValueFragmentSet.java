@@ -19,22 +19,75 @@
 
 package ai.grakn.graql.internal.gremlin.sets;
 
+import ai.grakn.GraknGraph;
+import ai.grakn.concept.ResourceType;
 import ai.grakn.graql.Var;
 import ai.grakn.graql.admin.ValuePredicateAdmin;
 import ai.grakn.graql.internal.gremlin.EquivalentFragmentSet;
 import ai.grakn.graql.internal.gremlin.fragment.Fragments;
 
+import javax.annotation.Nullable;
+import java.util.Collection;
+import java.util.Optional;
+
 class ValueFragmentSet extends EquivalentFragmentSet {
 
     private final Var resource;
     private final ValuePredicateAdmin predicate;
+    private final boolean rangeIndexed;
 
     ValueFragmentSet(Var resource, ValuePredicateAdmin predicate) {
         super(Fragments.value(resource, predicate));
         this.resource = resource;
         this.predicate = predicate;
+        this.rangeIndexed = false;
+    }
+
+    private ValueFragmentSet(Var resource, ValuePredicateAdmin predicate, Optional<Long> resourceCount) {
+        super(Fragments.rangeIndexedValue(resource, predicate, resourceCount));
+        this.resource = resource;
+        this.predicate = predicate;
+        this.rangeIndexed = true;
+    }
+
+    /**
+     * A query can look up resources using the range index when the following criteria are met:
+     * <ol>
+     *     <li>There is a {@link ValueFragmentSet} {@code $x[value:> 10]} with a range predicate on a literal value
+     *     <li>The graph indexes resource values of the data type of the literal by range
+     * </ol>
+     *
+     * When these criteria are met, the {@link ValueFragmentSet} is replaced with one which knows it can start from
+     * the index. If there is also an {@link IsaFragmentSet} {@code $x-[isa]->$X} and a {@link LabelFragmentSet}
+     * {@code $X[label:foo]}, the number of instances of {@code foo} is used to estimate how many resources are in range.
+     */
+    static boolean applyRangeIndexOptimisation(Collection<EquivalentFragmentSet> fragmentSets, GraknGraph graph) {
+        Iterable<ValueFragmentSet> valueSets = EquivalentFragmentSets.fragmentSetOfType(ValueFragmentSet.class, fragmentSets)::iterator;
+
+        for (ValueFragmentSet valueSet : valueSets) {
+
+            if (valueSet.rangeIndexed || !valueSet.predicate.isRange()) continue;
+
+            Optional<ResourceType.DataType<?>> dataType = valueSet.predicate.dataType();
+            if (!dataType.isPresent() || !graph.admin().isValueRangeIndexed(dataType.get())) continue;
+
+            Optional<Long> resourceCount = Optional.empty();
+
+            @Nullable IsaFragmentSet isaSet = EquivalentFragmentSets.typeInformationOf(valueSet.resource, fragmentSets);
+
+            if (isaSet != null) {
+                @Nullable LabelFragmentSet typeLabel = EquivalentFragmentSets.typeLabelOf(isaSet.type(), fragmentSets);
+                if (typeLabel != null) resourceCount = graph.admin().statistics().instanceCount(typeLabel.label());
+            }
+
+            fragmentSets.remove(valueSet);
+            fragmentSets.add(new ValueFragmentSet(valueSet.resource, valueSet.predicate, resourceCount));
+            return true;
+        }
+
+        return false;
     }
-    
+
     Var resource() {
         return resource;
     }
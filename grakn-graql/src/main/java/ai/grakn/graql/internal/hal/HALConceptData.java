@@ -277,8 +277,8 @@ public class HALConceptData {
 
     private void generateTypeEmbedded(Representation halResource, Type type, int separationDegree) {
         if (!type.getLabel().equals(Schema.MetaSchema.THING.getLabel())) {
-            Stream<? extends Thing> instancesStream = type.instances().stream().skip(offset);
-            if (limit >= 0) instancesStream = instancesStream.limit(limit);
+            Stream<? extends Thing> instancesStream = limit >= 0 ?
+                    type.instances(offset, limit).stream() : type.streamInstances().skip(offset);
             instancesStream.forEach(instance -> {
                 Representation instanceResource = factory.newRepresentation(resourceLinkPrefix + instance.getId() + getURIParams(0))
                         .withProperty(DIRECTION_PROPERTY, INBOUND_EDGE);
@@ -0,0 +1,344 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ *
+ */
+package ai.grakn.graql.internal.pattern;
+
+import ai.grakn.concept.ConceptId;
+import ai.grakn.concept.Label;
+import ai.grakn.graql.Graql;
+import ai.grakn.graql.InsertQuery;
+import ai.grakn.graql.Query;
+import ai.grakn.graql.Var;
+import ai.grakn.graql.admin.InsertQueryAdmin;
+import ai.grakn.graql.admin.RelationPlayer;
+import ai.grakn.graql.admin.VarPatternAdmin;
+import ai.grakn.graql.admin.VarProperty;
+import ai.grakn.graql.internal.pattern.property.HasResourceProperty;
+import ai.grakn.graql.internal.pattern.property.IdProperty;
+import ai.grakn.graql.internal.pattern.property.IsaProperty;
+import ai.grakn.graql.internal.pattern.property.LabelProperty;
+import ai.grakn.graql.internal.pattern.property.RelationProperty;
+import ai.grakn.graql.internal.pattern.property.ValueProperty;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMultiset;
+import com.google.common.collect.ImmutableSet;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * <p>
+ *     A compact binary encoding of insert queries
+ * </p>
+ *
+ * <p>
+ *     Used to send insert queries to engine without having to print and re-parse them. The {@link VarPatternAdmin}s
+ *     of each query are written property by property and read back directly into the same structures, so the Graql
+ *     grammar is never involved.
+ * </p>
+ *
+ * <p>
+ *     Only insert queries without a match query, using the properties needed to insert data (id, label, isa, value,
+ *     has and relation), can be encoded. Use {@link #isEncodable(Query)} to check a query first.
+ * </p>
+ */
+public class InsertEncoding {
+
+    private static final byte VERSION = 1;
+
+    private static final byte ID = 0;
+    private static final byte LABEL = 1;
+    private static final byte ISA = 2;
+    private static final byte VALUE = 3;
+    private static final byte HAS = 4;
+    private static final byte RELATION = 5;
+
+    private static final byte STRING = 0;
+    private static final byte LONG = 1;
+    private static final byte DOUBLE = 2;
+    private static final byte BOOLEAN = 3;
+    private static final byte DATE = 4;
+
+    private InsertEncoding() {}
+
+    /**
+     * @param query the query to check
+     * @return true if the query can be encoded using {@link #encode(Collection)}
+     */
+    public static boolean isEncodable(Query<?> query) {
+        if (!(query instanceof InsertQuery)) return false;
+        InsertQueryAdmin insert = ((InsertQuery) query).admin();
+        return !insert.getMatchQuery().isPresent() && insert.getVars().stream().allMatch(InsertEncoding::isEncodable);
+    }
+
+    private static boolean isEncodable(VarPatternAdmin var) {
+        return var.getProperties().allMatch(InsertEncoding::isEncodable);
+    }
+
+    private static boolean isEncodable(VarProperty property) {
+        if (property instanceof IdProperty || property instanceof LabelProperty) {
+            return true;
+        } else if (property instanceof IsaProperty) {
+            return isEncodable(((IsaProperty) property).getType());
+        } else if (property instanceof ValueProperty) {
+            Optional<Object> value = ((ValueProperty) property).getPredicate().equalsValue();
+            return value.isPresent() && valueTag(value.get()).isPresent();
+        } else if (property instanceof HasResourceProperty) {
+            return isEncodable(((HasResourceProperty) property).getResource());
+        } else if (property instanceof RelationProperty) {
+            return ((RelationProperty) property).getRelationPlayers().allMatch(relationPlayer ->
+                    relationPlayer.getRoleType().map(InsertEncoding::isEncodable).orElse(true) &&
+                    isEncodable(relationPlayer.getRolePlayer())
+            );
+        } else {
+            return false;
+        }
+    }
+
+    /**
+     * @param queries insert queries which are all encodable according to {@link #isEncodable(Query)}
+     * @return a string containing the encoded queries
+     */
+    public static String encode(Collection<? extends InsertQuery> queries) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(VERSION);
+            out.writeInt(queries.size());
+            for (InsertQuery query : queries) {
+                writeVars(out, query.admin().getVars());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return Base64.getEncoder().encodeToString(bytes.toByteArray());
+    }
+
+    /**
+     * @param encoded a string produced by {@link #encode(Collection)}
+     * @return the variable patterns of each encoded insert query, in the order they were encoded
+     */
+    public static List<Collection<VarPatternAdmin>> decode(String encoded) {
+        byte[] bytes = Base64.getDecoder().decode(encoded);
+
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            byte version = in.readByte();
+            if (version != VERSION) {
+                throw new IllegalArgumentException("Unsupported insert encoding version " + version);
+            }
+
+            int numQueries = in.readInt();
+            ImmutableList.Builder<Collection<VarPatternAdmin>> queries = ImmutableList.builder();
+            for (int i = 0; i < numQueries; i++) {
+                queries.add(readVars(in));
+            }
+            return queries.build();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeVars(DataOutputStream out, Collection<VarPatternAdmin> vars) throws IOException {
+        out.writeInt(vars.size());
+        for (VarPatternAdmin var : vars) {
+            writeVar(out, var);
+        }
+    }
+
+    private static Collection<VarPatternAdmin> readVars(DataInputStream in) throws IOException {
+        int numVars = in.readInt();
+        ImmutableList.Builder<VarPatternAdmin> vars = ImmutableList.builder();
+        for (int i = 0; i < numVars; i++) {
+            vars.add(readVar(in));
+        }
+        return vars.build();
+    }
+
+    private static void writeVar(DataOutputStream out, VarPatternAdmin var) throws IOException {
+        Var name = var.getVarName();
+        out.writeBoolean(name.isUserDefinedName());
+        out.writeUTF(name.getValue());
+
+        List<VarProperty> properties = var.getProperties().collect(toList());
+        out.writeInt(properties.size());
+        for (VarProperty property : properties) {
+            writeProperty(out, property);
+        }
+    }
+
+    private static VarPatternAdmin readVar(DataInputStream in) throws IOException {
+        boolean userDefinedName = in.readBoolean();
+        Var name = new VarImpl(in.readUTF(), userDefinedName);
+
+        int numProperties = in.readInt();
+        ImmutableSet.Builder<VarProperty> properties = ImmutableSet.builder();
+        for (int i = 0; i < numProperties; i++) {
+            properties.add(readProperty(in));
+        }
+
+        return Patterns.varPattern(name, properties.build());
+    }
+
+    private static void writeProperty(DataOutputStream out, VarProperty property) throws IOException {
+        if (property instanceof IdProperty) {
+            out.writeByte(ID);
+            out.writeUTF(((IdProperty) property).getId().getValue());
+        } else if (property instanceof LabelProperty) {
+            out.writeByte(LABEL);
+            out.writeUTF(((LabelProperty) property).getLabelValue().getValue());
+        } else if (property instanceof IsaProperty) {
+            out.writeByte(ISA);
+            writeVar(out, ((IsaProperty) property).getType());
+        } else if (property instanceof ValueProperty) {
+            out.writeByte(VALUE);
+            writeValue(out, ((ValueProperty) property).getPredicate().equalsValue().orElseThrow(() -> notEncodable(property)));
+        } else if (property instanceof HasResourceProperty) {
+            HasResourceProperty hasResource = (HasResourceProperty) property;
+            out.writeByte(HAS);
+            out.writeUTF(hasResource.getType().getValue());
+            writeVar(out, hasResource.getResource());
+        } else if (property instanceof RelationProperty) {
+            List<RelationPlayer> relationPlayers = ((RelationProperty) property).getRelationPlayers().collect(toList());
+            out.writeByte(RELATION);
+            out.writeInt(relationPlayers.size());
+            for (RelationPlayer relationPlayer : relationPlayers) {
+                Optional<VarPatternAdmin> roleType = relationPlayer.getRoleType();
+                out.writeBoolean(roleType.isPresent());
+                if (roleType.isPresent()) writeVar(out, roleType.get());
+                writeVar(out, relationPlayer.getRolePlayer());
+            }
+        } else {
+            throw notEncodable(property);
+        }
+    }
+
+    private static VarProperty readProperty(DataInputStream in) throws IOException {
+        byte tag = in.readByte();
+        switch (tag) {
+            case ID:
+                return new IdProperty(ConceptId.of(in.readUTF()));
+            case LABEL:
+                return new LabelProperty(Label.of(in.readUTF()));
+            case ISA:
+                return new IsaProperty(readVar(in));
+            case VALUE:
+                return new ValueProperty(Graql.eq(readValue(in)).admin());
+            case HAS:
+                Label resourceType = Label.of(in.readUTF());
+                return HasResourceProperty.of(resourceType, readVar(in));
+            case RELATION:
+                int numRelationPlayers = in.readInt();
+                ImmutableMultiset.Builder<RelationPlayer> relationPlayers = ImmutableMultiset.builder();
+                for (int i = 0; i < numRelationPlayers; i++) {
+                    boolean hasRoleType = in.readBoolean();
+                    if (hasRoleType) {
+                        VarPatternAdmin roleType = readVar(in);
+                        relationPlayers.add(RelationPlayerImpl.of(roleType, readVar(in)));
+                    } else {
+                        relationPlayers.add(RelationPlayerImpl.of(readVar(in)));
+                    }
+                }
+                return new RelationProperty(relationPlayers.build());
+            default:
+                throw new IllegalArgumentException("Unknown property in insert encoding " + tag);
+        }
+    }
+
+    /**
+     * Values are stored with the same types the Graql parser would produce, so an encoded query inserts exactly what
+     * the printed query would.
+     */
+    private static Optional<Byte> valueTag(Object value) {
+        if (value instanceof String) {
+            return Optional.of(STRING);
+        } else if (value instanceof Long || value instanceof Integer) {
+            return Optional.of(LONG);
+        } else if (value instanceof Double || value instanceof Float) {
+            return Optional.of(DOUBLE);
+        } else if (value instanceof Boolean) {
+            return Optional.of(BOOLEAN);
+        } else if (value instanceof LocalDateTime) {
+            return Optional.of(DATE);
+        } else {
+            return Optional.empty();
+        }
+    }
+
+    private static void writeValue(DataOutputStream out, Object value) throws IOException {
+        byte tag = valueTag(value).orElseThrow(() -> new IllegalArgumentException("Cannot encode value " + value));
+        out.writeByte(tag);
+        switch (tag) {
+            case STRING:
+                // writeUTF is limited to 64KB, so strings are written as raw bytes
+                byte[] bytes = ((String) value).getBytes(UTF_8);
+                out.writeInt(bytes.length);
+                out.write(bytes);
+                break;
+            case LONG:
+                out.writeLong(((Number) value).longValue());
+                break;
+            case DOUBLE:
+                // Floats are widened the way they are printed, so 1.8f is read back as 1.8
+                out.writeDouble(value instanceof Float ? Double.parseDouble(value.toString()) : (Double) value);
+                break;
+            case BOOLEAN:
+                out.writeBoolean((Boolean) value);
+                break;
+            case DATE:
+                out.writeUTF(value.toString());
+                break;
+        }
+    }
+
+    private static Object readValue(DataInputStream in) throws IOException {
+        byte tag = in.readByte();
+        switch (tag) {
+            case STRING:
+                byte[] bytes = new byte[in.readInt()];
+                in.readFully(bytes);
+                return new String(bytes, UTF_8);
+            case LONG:
+                return in.readLong();
+            case DOUBLE:
+                return in.readDouble();
+            case BOOLEAN:
+                return in.readBoolean();
+            case DATE:
+                return LocalDateTime.parse(in.readUTF());
+            default:
+                throw new IllegalArgumentException("Unknown value in insert encoding " + tag);
+        }
+    }
+
+    private static IllegalArgumentException notEncodable(VarProperty property) {
+        return new IllegalArgumentException("Cannot encode property " + property);
+    }
+}
@@ -0,0 +1,263 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ *
+ */
+
+package ai.grakn.graql.internal.query;
+
+import ai.grakn.concept.Concept;
+import ai.grakn.graql.Var;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ *
+ * <p>
+ * Compact storage of the variable bindings of a {@link QueryAnswer}.
+ * The bindings are kept in parallel arrays which are scanned linearly, this is cheaper than hashing for the handful of
+ * variables an answer typically has. Copies share the arrays with the original until either of them is modified.
+ * </p>
+ *
+ */
+class AnswerMap extends AbstractMap<Var, Concept> {
+
+    private static final int DEFAULT_CAPACITY = 4;
+    private static final Var[] EMPTY_VARS = new Var[0];
+    private static final Concept[] EMPTY_CONCEPTS = new Concept[0];
+    private static final int[] EMPTY_HASHES = new int[0];
+
+    private Var[] vars;
+    private Concept[] concepts;
+    private int[] hashes;
+    private int size = 0;
+    //true if the arrays may be referenced by another map and have to be copied before modification
+    private boolean shared = false;
+    private Set<Entry<Var, Concept>> entrySet = null;
+
+    AnswerMap(){
+        this.vars = EMPTY_VARS;
+        this.concepts = EMPTY_CONCEPTS;
+        this.hashes = EMPTY_HASHES;
+    }
+
+    AnswerMap(int capacity){
+        this.vars = new Var[capacity];
+        this.concepts = new Concept[capacity];
+        this.hashes = new int[capacity];
+    }
+
+    AnswerMap(Map<Var, Concept> m){
+        if (m instanceof AnswerMap) {
+            AnswerMap am = (AnswerMap) m;
+            this.vars = am.vars;
+            this.concepts = am.concepts;
+            this.hashes = am.hashes;
+            this.size = am.size;
+            this.shared = true;
+            am.shared = true;
+        } else {
+            this.vars = new Var[m.size()];
+            this.concepts = new Concept[m.size()];
+            this.hashes = new int[m.size()];
+            m.forEach(this::put);
+        }
+    }
+
+    private int indexOf(Object var){
+        if (var == null) return -1;
+        int hash = var.hashCode();
+        for (int i = 0; i < size; i++) {
+            if (hashes[i] == hash && (vars[i] == var || vars[i].equals(var))) return i;
+        }
+        return -1;
+    }
+
+    /**
+     * make sure the arrays are owned by this map and can hold the requested number of bindings
+     */
+    private void ensureWritable(int capacity){
+        if (!shared && capacity <= vars.length) return;
+        int newCapacity = Math.max(capacity, shared? vars.length : Math.max(DEFAULT_CAPACITY, vars.length * 2));
+        vars = Arrays.copyOf(vars, newCapacity);
+        concepts = Arrays.copyOf(concepts, newCapacity);
+        hashes = Arrays.copyOf(hashes, newCapacity);
+        shared = false;
+    }
+
+    @Override
+    public int size(){ return size;}
+
+    @Override
+    public boolean isEmpty(){ return size == 0;}
+
+    @Override
+    public boolean containsKey(Object var){ return indexOf(var) != -1;}
+
+    @Override
+    public Concept get(Object var){
+        int i = indexOf(var);
+        return i == -1? null : concepts[i];
+    }
+
+    @Override
+    public Concept put(Var var, Concept concept){
+        int i = indexOf(var);
+        if (i != -1) {
+            Concept previous = concepts[i];
+            if (previous == concept) return previous;
+            ensureWritable(size);
+            concepts[i] = concept;
+            return previous;
+        }
+        ensureWritable(size + 1);
+        vars[size] = var;
+        concepts[size] = concept;
+        hashes[size] = var.hashCode();
+        size++;
+        return null;
+    }
+
+    @Override
+    public void putAll(Map<? extends Var, ? extends Concept> m){
+        ensureWritable(size + m.size());
+        m.forEach(this::put);
+    }
+
+    @Override
+    public Concept remove(Object var){
+        int i = indexOf(var);
+        if (i == -1) return null;
+        Concept previous = concepts[i];
+        removeAt(i);
+        return previous;
+    }
+
+    private void removeAt(int i){
+        ensureWritable(size);
+        int tail = size - i - 1;
+        System.arraycopy(vars, i + 1, vars, i, tail);
+        System.arraycopy(concepts, i + 1, concepts, i, tail);
+        System.arraycopy(hashes, i + 1, hashes, i, tail);
+        size--;
+        vars[size] = null;
+        concepts[size] = null;
+    }
+
+    @Override
+    public void clear(){
+        vars = EMPTY_VARS;
+        concepts = EMPTY_CONCEPTS;
+        hashes = EMPTY_HASHES;
+        size = 0;
+        shared = false;
+    }
+
+    @Override
+    public void forEach(BiConsumer<? super Var, ? super Concept> consumer){
+        for (int i = 0; i < size; i++) consumer.accept(vars[i], concepts[i]);
+    }
+
+    @Override
+    public Set<Entry<Var, Concept>> entrySet(){
+        if (entrySet == null) entrySet = new EntrySet();
+        return entrySet;
+    }
+
+    @Override
+    public boolean equals(Object obj){
+        if (obj == this) return true;
+        if (!(obj instanceof AnswerMap)) return super.equals(obj);
+        AnswerMap m2 = (AnswerMap) obj;
+        if (size != m2.size) return false;
+        if (vars == m2.vars && concepts == m2.concepts) return true;
+        for (int i = 0; i < size; i++) {
+            int j = m2.indexOf(vars[i]);
+            if (j == -1 || !concepts[i].equals(m2.concepts[j])) return false;
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode(){
+        int hashCode = 0;
+        for (int i = 0; i < size; i++) hashCode += hashes[i] ^ concepts[i].hashCode();
+        return hashCode;
+    }
+
+    private class EntrySet extends AbstractSet<Entry<Var, Concept>> {
+        @Override
+        public int size(){ return size;}
+
+        @Override
+        public boolean contains(Object o){
+            if (!(o instanceof Entry)) return false;
+            Entry<?, ?> e = (Entry<?, ?>) o;
+            int i = indexOf(e.getKey());
+            return i != -1 && concepts[i].equals(e.getValue());
+        }
+
+        @Override
+        public Iterator<Entry<Var, Concept>> iterator(){ return new EntryIterator();}
+    }
+
+    private class EntryIterator implements Iterator<Entry<Var, Concept>> {
+        private int next = 0;
+        private int last = -1;
+        private int expectedSize = size;
+
+        @Override
+        public boolean hasNext(){ return next < size;}
+
+        @Override
+        public Entry<Var, Concept> next(){
+            if (expectedSize != size) throw new ConcurrentModificationException();
+            if (next >= size) throw new NoSuchElementException();
+            last = next++;
+            return new AnswerEntry(vars[last], concepts[last]);
+        }
+
+        @Override
+        public void remove(){
+            if (last == -1) throw new IllegalStateException();
+            if (expectedSize != size) throw new ConcurrentModificationException();
+            removeAt(last);
+            next = last;
+            last = -1;
+            expectedSize = size;
+        }
+    }
+
+    private class AnswerEntry extends SimpleEntry<Var, Concept> {
+        AnswerEntry(Var var, Concept concept){
+            super(var, concept);
+        }
+
+        @Override
+        public Concept setValue(Concept concept){
+            put(getKey(), concept);
+            return super.setValue(concept);
+        }
+    }
+}
@@ -26,13 +26,10 @@ import ai.grakn.graql.admin.Answer;
 import ai.grakn.graql.admin.AnswerExplanation;
 import ai.grakn.graql.admin.Unifier;
 import ai.grakn.graql.internal.reasoner.explanation.Explanation;
-import com.google.common.collect.HashMultimap;
-import com.google.common.collect.Multimap;
 import com.google.common.collect.Sets;
 
 import java.util.Collection;
 import java.util.Comparator;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.BiConsumer;
@@ -50,18 +47,24 @@ import java.util.stream.Stream;
  */
 public class QueryAnswer implements Answer {
 
-    private final Map<Var, Concept> map = new HashMap<>();
+    private final AnswerMap map;
     private AnswerExplanation explanation = new Explanation();
 
-    public QueryAnswer(){}
+    public QueryAnswer(){
+        this.map = new AnswerMap();
+    }
 
     public QueryAnswer(Answer a){
-        map.putAll(a.map());
-        explanation = a.getExplanation();
+        this.map = new AnswerMap(a.map());
+        this.explanation = a.getExplanation();
     }
 
     public QueryAnswer(Map<Var, Concept> m){
-        map.putAll(m);
+        this.map = new AnswerMap(m);
+    }
+
+    private QueryAnswer(AnswerMap m){
+        this.map = m;
     }
 
     @Override
@@ -78,8 +81,8 @@ public class QueryAnswer implements Answer {
     public boolean equals(Object obj) {
         if (obj == this) return true;
         if (obj == null || !(obj instanceof Answer)) return false;
-        QueryAnswer a2 = (QueryAnswer) obj;
-        return map.equals(a2.map);
+        Answer a2 = (Answer) obj;
+        return map.equals(a2.map());
     }
 
     @Override
@@ -124,7 +127,14 @@ public class QueryAnswer implements Answer {
     public boolean containsKey(Var var){ return map.containsKey(var);}
 
     @Override
-    public boolean containsAll(Answer ans){ return map.entrySet().containsAll(ans.map().entrySet());}
+    public boolean containsAll(Answer ans){
+        if (ans.size() > map.size()) return false;
+        for (Map.Entry<Var, Concept> e : ans.entrySet()) {
+            Concept concept = map.get(e.getKey());
+            if (concept == null || !concept.equals(e.getValue())) return false;
+        }
+        return true;
+    }
 
     @Override
     public boolean isEmpty(){ return map.isEmpty();}
@@ -166,35 +176,42 @@ public class QueryAnswer implements Answer {
 
     @Override
     public Answer filterVars(Set<Var> vars) {
-        QueryAnswer filteredAnswer = new QueryAnswer(this);
-        Set<Var> varsToRemove = Sets.difference(this.keySet(), vars);
-        varsToRemove.forEach(filteredAnswer::remove);
-
-        return filteredAnswer.setExplanation(this.getExplanation());
+        if (vars.containsAll(keySet())) return new QueryAnswer(this);
+        AnswerMap filtered = new AnswerMap(Math.min(vars.size(), size()));
+        map.forEach((var, concept) -> {
+            if (vars.contains(var)) filtered.put(var, concept);
+        });
+        return new QueryAnswer(filtered).setExplanation(this.getExplanation());
     }
 
     @Override
     public Answer unify(Unifier unifier){
         if (unifier.isEmpty()) return this;
-        Answer unified = new QueryAnswer();
-        Multimap<Var, Concept> answerMultimap = HashMultimap.create();
-
-        this.entrySet()
-                .forEach(e -> {
-                    Var var = e.getKey();
-                    Collection<Var> uvars = unifier.get(var);
-                    if (uvars.isEmpty() && !unifier.values().contains(var)) {
-                        answerMultimap.put(var, e.getValue());
-                    } else {
-                        uvars.forEach(uv -> answerMultimap.put(uv, e.getValue()));
-                    }
-                });
-        //non-ambiguous mapping
-        if ( answerMultimap.keySet().size() == answerMultimap.values().size()) {
-            answerMultimap.entries().forEach(e -> unified.put(e.getKey(), e.getValue()));
+        AnswerMap unified = new AnswerMap(size());
+        boolean ambiguous = false;
+        for (Map.Entry<Var, Concept> e : entrySet()) {
+            Var var = e.getKey();
+            Collection<Var> uvars = unifier.get(var);
+            if (uvars.isEmpty() && !unifier.values().contains(var)) {
+                ambiguous |= !bind(unified, var, e.getValue());
+            } else {
+                for (Var uv : uvars) ambiguous |= !bind(unified, uv, e.getValue());
+            }
         }
+        //only non-ambiguous mappings produce an answer
+        return new QueryAnswer(ambiguous? new AnswerMap() : unified).setExplanation(this.getExplanation());
+    }
 
-        return unified.setExplanation(this.getExplanation());
+    /**
+     * @return false if the variable is already bound to a different concept
+     */
+    private static boolean bind(AnswerMap m, Var var, Concept concept){
+        Concept bound = m.get(var);
+        if (bound == null) {
+            m.put(var, concept);
+            return true;
+        }
+        return bound.equals(concept);
     }
 
     @Override
@@ -66,6 +66,7 @@ public class QueryBuilderImpl implements QueryBuilder {
     private final TemplateParser templateParser;
     private boolean infer = false;
     private boolean materialise = false;
+    private boolean explain = false;
 
     public QueryBuilderImpl() {
         this.graph = Optional.empty();
@@ -91,6 +92,12 @@ public class QueryBuilderImpl implements QueryBuilder {
         return this;
     }
 
+    @Override
+    public QueryBuilder explain(boolean explain) {
+        this.explain = explain;
+        return this;
+    }
+
     /**
      * @param patterns an array of patterns to match in the graph
      * @return a match query that will find matches of the given patterns
@@ -108,7 +115,7 @@ public class QueryBuilderImpl implements QueryBuilder {
     public MatchQuery match(Collection<? extends Pattern> patterns) {
         Conjunction<PatternAdmin> conjunction = Patterns.conjunction(Sets.newHashSet(AdminConverter.getPatternAdmins(patterns)));
         MatchQueryBase base = new MatchQueryBase(conjunction);
-        MatchQuery query = infer ? base.infer(materialise).admin() : base;
+        MatchQuery query = infer ? base.infer(materialise, explain).admin() : base;
         return graph.map(query::withGraph).orElse(query);
     }
 
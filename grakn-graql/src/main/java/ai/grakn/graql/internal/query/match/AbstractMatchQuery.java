@@ -20,6 +20,7 @@ package ai.grakn.graql.internal.query.match;
 
 import ai.grakn.GraknGraph;
 import ai.grakn.concept.Concept;
+import ai.grakn.concept.ConceptId;
 import ai.grakn.exception.GraqlQueryException;
 import ai.grakn.graql.Aggregate;
 import ai.grakn.graql.AggregateQuery;
@@ -81,6 +82,16 @@ abstract class AbstractMatchQuery implements MatchQueryAdmin {
      */
     public abstract Stream<Answer> stream(Optional<GraknGraph> graph);
 
+    @Override
+    public Optional<Set<ConceptId>> getShards(GraknGraph graph) {
+        return Optional.empty();
+    }
+
+    @Override
+    public Stream<Answer> streamShard(GraknGraph graph, ConceptId shard) {
+        throw new UnsupportedOperationException("The query " + this + " cannot be executed one shard at a time");
+    }
+
     @Override
     public final Stream<Answer> stream() {
         return stream(Optional.empty());
@@ -20,6 +20,7 @@ package ai.grakn.graql.internal.query.match;
 
 import ai.grakn.GraknGraph;
 import ai.grakn.concept.Concept;
+import ai.grakn.concept.ConceptId;
 import ai.grakn.concept.Label;
 import ai.grakn.concept.OntologyConcept;
 import ai.grakn.concept.Type;
@@ -65,7 +66,6 @@ public class MatchQueryBase extends AbstractMatchQuery {
     protected final Logger LOG = LoggerFactory.getLogger(MatchQueryBase.class);
 
     private final Conjunction<PatternAdmin> pattern;
-    private ImmutableSet<Label> labels;
 
     /**
      * @param pattern a pattern to match in the graph
@@ -78,21 +78,39 @@ public class MatchQueryBase extends AbstractMatchQuery {
         this.pattern = pattern;
     }
 
-
-
     @Override
     public Stream<Answer> stream(Optional<GraknGraph> optionalGraph) {
         GraknGraph graph = optionalGraph.orElseThrow(GraqlQueryException::noGraph);
+        return streamTraversal(graph, createTraversal(graph).getGraphTraversal(graph));
+    }
+
+    @Override
+    public Optional<Set<ConceptId>> getShards(GraknGraph graph) {
+        return createTraversal(graph).getShardedType().map(label -> {
+            Type type = graph.getOntologyConcept(label);
+            return CommonUtil.withImplicitConceptsVisible(graph, () -> type.subs().stream()
+                    .flatMap(sub -> graph.admin().getShards(sub).stream())
+                    .collect(toSet()));
+        });
+    }
 
-        this.labels = getAllTypeLabels(graph);
+    @Override
+    public Stream<Answer> streamShard(GraknGraph graph, ConceptId shard) {
+        return streamTraversal(graph, createTraversal(graph).getGraphTraversal(graph, shard));
+    }
 
+    private GraqlTraversal createTraversal(GraknGraph graph) {
         for (VarPatternAdmin var : pattern.getVars()) {
             var.getProperties().forEach(property -> ((VarPropertyInternal) property).checkValid(graph, var));}
 
         GraqlTraversal graqlTraversal = GreedyTraversalPlan.createTraversal(pattern, graph);
         LOG.trace("Created query plan");
         LOG.trace(graqlTraversal.toString());
-        GraphTraversal<Vertex, Map<String, Vertex>> traversal = graqlTraversal.getGraphTraversal(graph);
+        return graqlTraversal;
+    }
+
+    private Stream<Answer> streamTraversal(GraknGraph graph, GraphTraversal<Vertex, Map<String, Vertex>> traversal) {
+        ImmutableSet<Label> labels = getAllTypeLabels(graph);
 
         String[] selectedNames = pattern.commonVarNames().stream().map(Var::getValue).toArray(String[]::new);
 
@@ -104,7 +122,7 @@ public class MatchQueryBase extends AbstractMatchQuery {
 
         return traversal.toStream()
                 .map(vertices -> makeResults(graph, vertices))
-                .filter(result -> shouldShowResult(graph, result))
+                .filter(result -> shouldShowResult(graph, labels, result))
                 .sequential()
                 .map(QueryAnswer::new);
     }
@@ -144,8 +162,8 @@ public class MatchQueryBase extends AbstractMatchQuery {
         return "match " + pattern.getPatterns().stream().map(p -> p + ";").collect(joining(" "));
     }
 
-    public final MatchQuery infer(boolean materialise) {
-        return new MatchQueryInfer(this, materialise);
+    public final MatchQuery infer(boolean materialise, boolean explanation) {
+        return new MatchQueryInfer(this, materialise, explanation);
     }
 
     private ImmutableSet<Label> getAllTypeLabels(GraknGraph graph) {
@@ -182,14 +200,14 @@ public class MatchQueryBase extends AbstractMatchQuery {
     /**
      * Only show results if all concepts in them should be shown
      */
-    private boolean shouldShowResult(GraknGraph graph, Map<Var, Concept> result) {
-        return result.values().stream().allMatch(concept -> shouldShowConcept(graph, concept));
+    private boolean shouldShowResult(GraknGraph graph, Set<Label> labels, Map<Var, Concept> result) {
+        return result.values().stream().allMatch(concept -> shouldShowConcept(graph, labels, concept));
     }
 
     /**
      * Only show a concept if it not an implicit type and not explicitly mentioned
      */
-    private boolean shouldShowConcept(GraknGraph graph, Concept concept) {
+    private boolean shouldShowConcept(GraknGraph graph, Set<Label> labels, Concept concept) {
         if (graph.implicitConceptsVisible() || !concept.isType()) return true;
 
         Type type = concept.asType();
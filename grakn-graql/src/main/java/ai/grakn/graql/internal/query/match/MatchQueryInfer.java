@@ -39,10 +39,12 @@ import static ai.grakn.util.CommonUtil.optionalOr;
 class MatchQueryInfer extends MatchQueryModifier {
 
     private final boolean materialise;
+    private final boolean explanation;
 
-    MatchQueryInfer(AbstractMatchQuery inner, boolean materialise) {
+    MatchQueryInfer(AbstractMatchQuery inner, boolean materialise, boolean explanation) {
         super(inner);
         this.materialise = materialise;
+        this.explanation = explanation;
     }
 
     @Override
@@ -54,11 +56,11 @@ class MatchQueryInfer extends MatchQueryModifier {
         Iterator<Conjunction<VarPatternAdmin>> conjIt = getPattern().getDisjunctiveNormalForm().getPatterns().iterator();
         Conjunction<VarPatternAdmin> conj = conjIt.next();
         ReasonerQueryImpl conjQuery = ReasonerQueries.create(conj, graph);
-        Stream<Answer> answerStream = conjQuery.isRuleResolvable()? conjQuery.resolve(materialise) : graph.graql().match(conj).stream();
+        Stream<Answer> answerStream = conjQuery.isRuleResolvable()? conjQuery.resolve(materialise, explanation) : graph.graql().match(conj).stream();
         while(conjIt.hasNext()) {
             conj = conjIt.next();
             conjQuery = ReasonerQueries.create(conj, graph);
-            Stream<Answer> localStream = conjQuery.isRuleResolvable()? conjQuery.resolve(materialise) : graph.graql().match(conj).stream();
+            Stream<Answer> localStream = conjQuery.isRuleResolvable()? conjQuery.resolve(materialise, explanation) : graph.graql().match(conj).stream();
             answerStream = Stream.concat(answerStream, localStream);
         }
         return answerStream.map(result -> result.filterVars(getSelectedNames()));
@@ -136,6 +136,11 @@ abstract class ComparatorPredicate implements ValuePredicateAdmin {
         return value.map(this::gremlinPredicate);
     }
 
+    @Override
+    public Optional<ResourceType.DataType<?>> dataType() {
+        return originalValue.map(v -> SUPPORTED_TYPES.get(v.getClass().getName()));
+    }
+
     @Override
     public Optional<VarPatternAdmin> getInnerVar() {
         return var;
@@ -38,4 +38,9 @@ class GtPredicate extends ComparatorPredicate {
     <V> P<V> gremlinPredicate(V value) {
         return P.gt(value);
     }
+
+    @Override
+    public boolean isRange() {
+        return getPredicate().isPresent();
+    }
 }
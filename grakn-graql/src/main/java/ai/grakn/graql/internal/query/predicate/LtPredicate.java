@@ -38,4 +38,9 @@ class LtPredicate extends ComparatorPredicate {
     <V> P<V> gremlinPredicate(V value) {
         return P.lt(value);
     }
+
+    @Override
+    public boolean isRange() {
+        return getPredicate().isPresent();
+    }
 }
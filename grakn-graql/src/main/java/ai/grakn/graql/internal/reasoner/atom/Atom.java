@@ -26,6 +26,7 @@ import ai.grakn.graql.admin.Atomic;
 import ai.grakn.graql.admin.ReasonerQuery;
 import ai.grakn.graql.admin.Unifier;
 import ai.grakn.graql.admin.VarPatternAdmin;
+import ai.grakn.graph.admin.RuleCache;
 import ai.grakn.graql.internal.reasoner.atom.predicate.NeqPredicate;
 import ai.grakn.graql.internal.reasoner.utils.ReasonerUtils;
 import ai.grakn.graql.internal.reasoner.atom.binary.TypeAtom;
@@ -37,13 +38,11 @@ import ai.grakn.graql.internal.reasoner.rule.InferenceRule;
 import com.google.common.collect.Sets;
 
 import java.util.HashSet;
-import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
-import static ai.grakn.graql.internal.reasoner.utils.ReasonerUtils.checkCompatible;
-
 /**
  *
  * <p>
@@ -59,6 +58,7 @@ public abstract class Atom extends AtomicBase {
     protected ConceptId typeId = null;
     private int basePriority = Integer.MAX_VALUE;
     protected Set<InferenceRule> applicableRules = null;
+    private Double baseCost = null;
 
     protected Atom(VarPatternAdmin pattern, ReasonerQuery par) { super(pattern, par);}
     protected Atom(Atom a) {
@@ -66,6 +66,7 @@ public abstract class Atom extends AtomicBase {
         this.type = a.type;
         this.typeId = a.typeId;
         this.applicableRules = a.applicableRules;
+        this.baseCost = a.baseCost;
     }
 
     @Override
@@ -126,6 +127,71 @@ public abstract class Atom extends AtomicBase {
         return priority;
     }
 
+    /**
+     * @return estimated number of instances of the type of this atom, nothing if the type or its size is unknown
+     */
+    public Optional<Long> estimatedInstanceCount(){
+        OntologyConcept type = getOntologyConcept();
+        if (type == null) return Optional.empty();
+        return graph().admin().statistics().instanceCount(type.getLabel());
+    }
+
+    /**
+     * estimate the cost of resolving this atom, based on the size of its type, its predicates and the estimated output of
+     * the rules applicable to it
+     * @param boundVars variables bound before resolving this atom
+     * @return estimated number of answers of this atom
+     */
+    public double estimatedCost(Set<Var> boundVars){
+        double cost = baseCost();
+
+        long boundVarCount = getVarNames().stream().filter(boundVars::contains).count();
+        long specificValuePredicateCount = getPredicates().stream()
+                .filter(Predicate::isValuePredicate)
+                .filter(p -> ((ValuePredicate) p).getPredicate().isSpecific())
+                .count();
+        cost *= Math.pow(ResolutionStrategy.BOUND_VARIABLE_SELECTIVITY, boundVarCount);
+        cost *= Math.pow(ResolutionStrategy.SPECIFIC_VALUE_PREDICATE_SELECTIVITY, specificValuePredicateCount);
+
+        if (isDeferred(boundVars)) cost *= ResolutionStrategy.DEFERRED_ATOM_COST;
+        return cost;
+    }
+
+    /**
+     * estimate the number of answers of this atom before any of its variables are bound, including the answers
+     * produced by the rules applicable to it, computed once as it depends on the rules
+     * @return estimated number of answers of this atom
+     */
+    private double baseCost(){
+        if (baseCost == null) {
+            double cost = estimatedInstanceCount().map(Long::doubleValue).orElse(ResolutionStrategy.UNKNOWN_INSTANCE_COUNT);
+            if (isRuleResolvable()) {
+                //each rule produces at most as many answers as the smallest atom of its body
+                cost += getApplicableRules().stream()
+                        .mapToDouble(rule -> rule.getBody().selectAtoms().stream()
+                                .mapToDouble(at -> at.estimatedInstanceCount().map(Long::doubleValue).orElse(ResolutionStrategy.UNKNOWN_INSTANCE_COUNT))
+                                .min().orElse(ResolutionStrategy.UNKNOWN_INSTANCE_COUNT))
+                        .sum();
+                if (isRecursive()) cost *= ResolutionStrategy.RECURSIVE_ATOM_COST;
+            }
+            baseCost = cost;
+        }
+        return baseCost;
+    }
+
+    /**
+     * @param boundVars variables bound before resolving this atom
+     * @return true if this atom should only be resolved once the other atoms have bound its variables
+     */
+    protected boolean isDeferred(Set<Var> boundVars){
+        //inequality predicates with unmapped variable
+        return getPredicates().stream()
+                .filter(Predicate::isNeqPredicate)
+                .map(p -> (NeqPredicate) p)
+                .map(Predicate::getPredicate)
+                .anyMatch(v -> !boundVars.contains(v));
+    }
+
     /**
      * @return measure of priority with which this atom should be resolved
      */
@@ -139,13 +205,16 @@ public abstract class Atom extends AtomicBase {
     public abstract boolean isRuleApplicable(InferenceRule child);
 
     /**
-     * @return set of potentially applicable rules - does shallow (fast) check for applicability
+     * @return set of potentially applicable rules - does shallow (fast) check for applicability,
+     * rules which can never match given the ontology are skipped
      */
     private Set<Rule> getPotentialRules(){
         OntologyConcept ontologyConcept = getOntologyConcept();
-        return ontologyConcept != null ?
-                ontologyConcept.subs().stream().flatMap(t -> t.getRulesOfConclusion().stream()).collect(Collectors.toSet()) :
-                ReasonerUtils.getRules(graph());
+        RuleCache ruleCache = graph().admin().ruleCache();
+        Stream<Rule> rules = ontologyConcept != null ?
+                ontologyConcept.subs().stream().flatMap(t -> ruleCache.getRulesOfConclusion(t.getLabel()).stream()) :
+                ReasonerUtils.getRules(graph()).stream();
+        return rules.filter(ruleCache::isSatisfiable).collect(Collectors.toSet());
     }
 
     /**
@@ -166,16 +235,22 @@ public abstract class Atom extends AtomicBase {
         return !getApplicableRules().isEmpty();
     }
 
+    /**
+     * @return true if the atom is concluded by a rule which depends on itself, directly or through other rules,
+     * as given by the rule dependency graph
+     */
     @Override
     public boolean isRecursive(){
         if (isResource() || getOntologyConcept() == null) return false;
-        OntologyConcept ontologyConcept = getOntologyConcept();
-        return getApplicableRules().stream()
-                .filter(rule -> rule.getBody().selectAtoms().stream()
-                        .filter(at -> Objects.nonNull(at.getOntologyConcept()))
-                        .filter(at -> checkCompatible(ontologyConcept, at.getOntologyConcept())).findFirst().isPresent())
-                .filter(this::isRuleApplicable)
-                .findFirst().isPresent();
+        return isRuleResolvable() && graph().admin().ruleCache().isRecursive(getOntologyConcept().getLabel());
+    }
+
+    /**
+     * @return true if one of the rules applicable to the atom is recursive or depends on a recursive rule, otherwise
+     * a single pass of the resolution finds all the answers of the atom
+     */
+    public boolean requiresFixpoint(){
+        return getApplicableRules().stream().anyMatch(InferenceRule::requiresFixpoint);
     }
 
     /**
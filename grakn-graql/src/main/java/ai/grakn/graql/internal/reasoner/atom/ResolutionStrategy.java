@@ -103,5 +103,36 @@ public final class ResolutionStrategy {
      * NB: atom satisfying this criterion should be resolved last
      */
     public static final int COMPARISON_VARIABLE_VALUE_PREDICATE = - 1000;
+
+    /**
+     * number of instances assumed for a type when the graph statistics know nothing about it
+     */
+    public static final double UNKNOWN_INSTANCE_COUNT = 1_000_000;
+
+    /**
+     * cost modifier for each variable of an atom which is bound before it is resolved
+     */
+    public static final double BOUND_VARIABLE_SELECTIVITY = 0.01;
+
+    /**
+     * cost modifier for each specific value predicate an atom has
+     */
+    public static final double SPECIFIC_VALUE_PREDICATE_SELECTIVITY = 0.01;
+
+    /**
+     * cost modifier if an atom is recursive
+     */
+    public static final double RECURSIVE_ATOM_COST = 10;
+
+    /**
+     * cost modifier if an atom shares no variables with the atoms resolved before it (cartesian product)
+     */
+    public static final double DISCONNECTED_ATOM_COST = 1000;
+
+    /**
+     * cost modifier if an atom should be resolved after its variables are bound
+     * NB: atom satisfying this criterion should be resolved last
+     */
+    public static final double DEFERRED_ATOM_COST = 1e12;
 }
 
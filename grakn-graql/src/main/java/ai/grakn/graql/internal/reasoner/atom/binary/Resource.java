@@ -40,6 +40,7 @@ import ai.grakn.graql.internal.reasoner.rule.InferenceRule;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -163,6 +164,18 @@ public class Resource extends MultiPredicateBinary<ValuePredicate>{
     @Override
     public boolean requiresMaterialisation(){ return true;}
 
+    @Override
+    protected boolean isDeferred(Set<Var> boundVars){
+        //value predicate with a variable requiring comparison
+        boolean hasUnboundComparison = getValuePredicates().stream()
+                .map(ValuePredicate::getPredicate)
+                .filter(vp -> !vp.isSpecific() && !vp.equalsValue().isPresent())
+                .map(ValuePredicateAdmin::getInnerVar)
+                .filter(Optional::isPresent)
+                .anyMatch(inner -> !boundVars.contains(getVarName()) && !boundVars.contains(inner.get().getVarName()));
+        return super.isDeferred(boundVars) || hasUnboundComparison;
+    }
+
     @Override
     public int computePriority(Set<Var> subbedVars){
         int priority = super.computePriority(subbedVars);
@@ -154,6 +154,11 @@ public class TypeAtom extends Binary{
         return priority;
     }
 
+    @Override
+    protected boolean isDeferred(Set<Var> boundVars){
+        return super.isDeferred(boundVars) || (getOntologyConcept() == null && !isRelation());
+    }
+
     @Override
     public OntologyConcept getOntologyConcept() {
         return getPredicate() != null ?
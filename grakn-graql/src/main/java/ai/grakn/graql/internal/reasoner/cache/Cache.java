@@ -48,6 +48,21 @@ import java.util.stream.Stream;
 public abstract class Cache<Q extends ReasonerQuery, T extends Iterable<Answer>>{
 
     protected final Map<Q, Pair<Q, T>> cache = new HashMap<>();
+    private final boolean explanation;
+
+    protected Cache(){ this(false);}
+
+    /**
+     * @param explanation whether answers resolved using this cache should be decorated with their explanations
+     */
+    protected Cache(boolean explanation){
+        this.explanation = explanation;
+    }
+
+    /**
+     * @return true if answers resolved using this cache should be decorated with their explanations
+     */
+    public boolean isExplanationTracked(){ return explanation;}
 
     public boolean contains(Q query){ return cache.containsKey(query);}
     public Set<Q> getQueries(){ return cache.keySet();}
@@ -18,6 +18,8 @@
 
 package ai.grakn.graql.internal.reasoner.cache;
 
+import ai.grakn.concept.Concept;
+import ai.grakn.graql.Var;
 import ai.grakn.graql.admin.Answer;
 import ai.grakn.graql.admin.ReasonerQuery;
 import ai.grakn.graql.admin.Unifier;
@@ -25,10 +27,15 @@ import ai.grakn.graql.internal.reasoner.iterator.LazyAnswerIterator;
 import ai.grakn.graql.internal.reasoner.UnifierImpl;
 import javafx.util.Pair;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 /**
@@ -37,6 +44,12 @@ import java.util.stream.Stream;
  * Lazy container class for storing performed query resolutions.
  * </p>
  *
+ * <p>
+ * Answers merged from a differential cache are kept in answer tables, so that during fixpoint evaluation
+ * only the new answers of each round need to be processed. Each table maintains its inverse answer map as answers are added,
+ * so that filtering known answers does not require rebuilding the map every round.
+ * </p>
+ *
  * @param <Q> the type of query that is being cached
  *
  * @author Kasper Piskorski
@@ -44,6 +57,7 @@ import java.util.stream.Stream;
  */
 public class LazyQueryCache<Q extends ReasonerQuery> extends Cache<Q, LazyAnswerIterator>{
 
+    private final Map<Q, AnswerTable> answerTables = new HashMap<>();
 
     public LazyQueryCache(){ super();}
 
@@ -53,6 +67,7 @@ public class LazyQueryCache<Q extends ReasonerQuery> extends Cache<Q, LazyAnswer
         if (match != null) {
             Q equivalentQuery = match.getKey();
             Stream<Answer> unifiedStream = answers.unify(query.getUnifier(equivalentQuery)).stream();
+            answerTables.remove(equivalentQuery);
             cache.put(match.getKey(), new Pair<>(match.getKey(), match.getValue().merge(unifiedStream)));
         } else {
             cache.put(query, new Pair<>(query, answers));
@@ -77,6 +92,7 @@ public class LazyQueryCache<Q extends ReasonerQuery> extends Cache<Q, LazyAnswer
             Q equivalentQuery = match.getKey();
             Unifier u = query.getUnifier(equivalentQuery);
             Stream<Answer> unifiedStream = answers.map(a -> a.unify(u));
+            answerTables.remove(equivalentQuery);
             cache.put(match.getKey(), new Pair<>(match.getKey(), match.getValue().merge(unifiedStream)));
         } else {
             cache.put(query, new Pair<>(query, new LazyAnswerIterator(answers)));
@@ -144,10 +160,60 @@ public class LazyQueryCache<Q extends ReasonerQuery> extends Cache<Q, LazyAnswer
                     Pair<Q, LazyAnswerIterator> match = cache.get(q);
                     Set<Answer> s = match.getValue().stream().collect(Collectors.toSet());
                     s.removeAll(c2.getAnswerStream(q).collect(Collectors.toSet()));
+                    answerTables.remove(match.getKey());
                     cache.put(match.getKey(), new Pair<>(match.getKey(), new LazyAnswerIterator(s.stream())));
                 });
     }
 
+    @Override
+    public Map<Pair<Var, Concept>, Set<Answer>> getInverseAnswerMap(Q query, Set<Var> vars){
+        Pair<Q, LazyAnswerIterator> match = cache.get(query);
+        AnswerTable table = match != null? answerTables.get(match.getKey()) : null;
+        if (table != null
+                && vars.equals(table.getVars())
+                && query.getUnifier(match.getKey()).removeTrivialMappings().isEmpty()){
+            return Collections.unmodifiableMap(table.getInverseAnswerMap());
+        }
+        return super.getInverseAnswerMap(query, vars);
+    }
+
+    /**
+     * merges the differential cache into this cache (semi-naive evaluation step),
+     * afterwards the differential cache only contains the answers which were not known to this cache before the merge
+     * @param dCache differential cache to be merged
+     */
+    public void mergeDifferential(LazyQueryCache<Q> dCache){
+        Map<Q, Pair<Q, LazyAnswerIterator>> deltas = new HashMap<>();
+        dCache.cache.values().forEach(dEntry -> {
+            Q query = dEntry.getKey();
+            Pair<Q, LazyAnswerIterator> match = cache.get(query);
+            Q equivalentQuery = match != null? match.getKey() : query;
+            AnswerTable table = getAnswerTable(equivalentQuery);
+            Unifier unifier = query.getUnifier(equivalentQuery);
+            List<Answer> delta = dEntry.getValue().stream()
+                    .filter(a -> table.add(a.unify(unifier)))
+                    .collect(Collectors.toList());
+            cache.put(equivalentQuery, new Pair<>(equivalentQuery, new LazyAnswerIterator(table.stream())));
+            deltas.put(query, new Pair<>(query, new LazyAnswerIterator(delta.stream())));
+        });
+        dCache.cache.putAll(deltas);
+        dCache.consume();
+    }
+
+    /**
+     * @param query cached query
+     * @return answer table of the query, created out of the currently cached answers if not present
+     */
+    private AnswerTable getAnswerTable(Q query){
+        AnswerTable table = answerTables.get(query);
+        if (table != null) return table;
+        AnswerTable newTable = new AnswerTable(query.getVarNames());
+        Pair<Q, LazyAnswerIterator> match = cache.get(query);
+        if (match != null) match.getValue().stream().forEach(newTable::add);
+        answerTables.put(query, newTable);
+        return newTable;
+    }
+
     /**
      * force stream consumption and reload cache
      */
@@ -161,8 +227,45 @@ public class LazyQueryCache<Q extends ReasonerQuery> extends Cache<Q, LazyAnswer
         cache.putAll(newCache);
     }
 
+    @Override
+    public void clear(){
+        super.clear();
+        answerTables.clear();
+    }
+
     public void consume() {
         cache.entrySet().forEach(entry ->
                 entry.getValue().getValue().stream().collect(Collectors.toSet()));
     }
+
+    /**
+     * Append-only table of answers of a single query together with their inverse answer map over the query variables.
+     */
+    private static class AnswerTable {
+        private final Set<Var> vars;
+        private final Set<Answer> answerSet = new HashSet<>();
+        private final List<Answer> answerList = new ArrayList<>();
+        private final Map<Pair<Var, Concept>, Set<Answer>> inverseAnswerMap = new HashMap<>();
+
+        AnswerTable(Set<Var> vars){ this.vars = vars;}
+
+        Set<Var> getVars(){ return vars;}
+        Map<Pair<Var, Concept>, Set<Answer>> getInverseAnswerMap(){ return inverseAnswerMap;}
+
+        boolean add(Answer answer){
+            if (!answerSet.add(answer)) return false;
+            answerList.add(answer);
+            answer.entrySet().stream()
+                    .filter(e -> vars.contains(e.getKey()))
+                    .forEach(e -> inverseAnswerMap.computeIfAbsent(new Pair<>(e.getKey(), e.getValue()), k -> new HashSet<>()).add(answer));
+            return true;
+        }
+
+        /**
+         * @return stream of the answers currently in the table, unaffected by answers added later
+         */
+        Stream<Answer> stream(){
+            return IntStream.range(0, answerList.size()).mapToObj(answerList::get);
+        }
+    }
 }
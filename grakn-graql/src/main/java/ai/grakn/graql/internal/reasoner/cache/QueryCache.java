@@ -27,7 +27,13 @@ import ai.grakn.graql.internal.reasoner.query.QueryAnswers;
 import ai.grakn.graql.internal.reasoner.UnifierImpl;
 import javafx.util.Pair;
 
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -37,6 +43,12 @@ import java.util.stream.Stream;
  * Container class for storing performed query resolutions.
  * </p>
  *
+ * <p>
+ * The cache can be bounded by the number of answers it holds. When the bound is exceeded, the least recently used
+ * queries whose answers can be recomputed (e.g. by a database lookup) are evicted. Evicted queries are not cached
+ * again, so a partially re-recorded entry can never be mistaken for the full set of answers.
+ * </p>
+ *
  * @param <Q> the type of query that is being cached
  *
  * @author Kasper Piskorski
@@ -44,32 +56,71 @@ import java.util.stream.Stream;
  */
 public class QueryCache<Q extends ReasonerQuery> extends Cache<Q, QueryAnswers> {
 
-    public QueryCache(){ super();}
+    private final long maxAnswers;
+    private final Predicate<Q> isRecomputable;
+
+    //recomputable queries in least recently used order
+    private final Map<Q, Boolean> recomputableQueries = new LinkedHashMap<>(16, 0.75f, true);
+    private final Set<Q> evictedQueries = new HashSet<>();
+    private long answerCount = 0;
+    private long evictionCount = 0;
+
+    public QueryCache(){ this(Long.MAX_VALUE, q -> false);}
+
+    /**
+     * @param maxAnswers number of answers above which recomputable queries are evicted
+     * @param isRecomputable whether the answers to a query can be recomputed when it is not in the cache
+     */
+    public QueryCache(long maxAnswers, Predicate<Q> isRecomputable){
+        this(maxAnswers, isRecomputable, false);
+    }
+
+    /**
+     * @param maxAnswers number of answers above which recomputable queries are evicted
+     * @param isRecomputable whether the answers to a query can be recomputed when it is not in the cache
+     * @param explanation whether answers resolved using this cache should be decorated with their explanations
+     */
+    public QueryCache(long maxAnswers, Predicate<Q> isRecomputable, boolean explanation){
+        super(explanation);
+        this.maxAnswers = maxAnswers;
+        this.isRecomputable = isRecomputable;
+    }
 
     @Override
     public QueryAnswers record(Q query, QueryAnswers answers) {
-        Q equivalentQuery = contains(query)? cache.get(query).getKey() : null;
-        if (equivalentQuery != null) {
-            QueryAnswers unifiedAnswers = QueryAnswers.getUnifiedAnswers(equivalentQuery, query, answers);
-            cache.get(query).getValue().addAll(unifiedAnswers);
+        Pair<Q, QueryAnswers> match = getEntry(query);
+        if (match != null) {
+            QueryAnswers unifiedAnswers = QueryAnswers.getUnifiedAnswers(match.getKey(), query, answers);
+            updateEntry(match, a -> a.addAll(unifiedAnswers));
+        } else if (!evictedQueries.contains(query)) {
+            putEntry(query, answers);
         } else {
-            cache.put(query, new Pair<>(query, answers));
+            return answers;
         }
         return getAnswers(query);
     }
 
+    @Override
+    public void clear(){
+        super.clear();
+        recomputableQueries.clear();
+        evictedQueries.clear();
+        answerCount = 0;
+    }
+
     @Override
     public Stream<Answer> record(Q query, Stream<Answer> answerStream) {
         QueryAnswers newAnswers = new QueryAnswers(answerStream.collect(Collectors.toSet()));
-        Pair<Q, QueryAnswers> match =  cache.get(query);
+        Pair<Q, QueryAnswers> match = getEntry(query);
         if (match != null) {
             Q equivalentQuery = match.getKey();
-            QueryAnswers answers = match.getValue();
             QueryAnswers unifiedAnswers = newAnswers.unify(query.getUnifier(equivalentQuery));
-            answers.addAll(unifiedAnswers);
-            return answers.stream();
+            updateEntry(match, a -> a.addAll(unifiedAnswers));
+            return match.getValue().stream();
+        } else if (!evictedQueries.contains(query)) {
+            putEntry(query, newAnswers);
+            return newAnswers.stream();
         } else {
-            cache.put(query, new Pair<>(query, newAnswers));
             return newAnswers.stream();
         }
     }
@@ -81,7 +132,7 @@ public class QueryCache<Q extends ReasonerQuery> extends Cache<Q, QueryAnswers>
      * @return found answer if any, otherwise empty answer
      */
     public Answer getAnswer(Q query, Answer answer){
-        Pair<Q, QueryAnswers> match =  cache.get(query);
+        Pair<Q, QueryAnswers> match = getEntry(query);
         if (match != null) {
             Q equivalentQuery = match.getKey();
             Unifier unifier = equivalentQuery.getUnifier(query);
@@ -101,14 +152,13 @@ public class QueryCache<Q extends ReasonerQuery> extends Cache<Q, QueryAnswers>
      * @return recorded answer
      */
     public Answer recordAnswer(Q query, Answer answer){
-        Pair<Q, QueryAnswers> match =  cache.get(query);
+        Pair<Q, QueryAnswers> match = getEntry(query);
         if (match != null) {
             Q equivalentQuery = match.getKey();
-            QueryAnswers answers = match.getValue();
             Answer unifiedAnswer = answer.unify(query.getUnifier(equivalentQuery));
-            answers.add(unifiedAnswer);
-        } else {
-            cache.put(query, new Pair<>(query, new QueryAnswers(answer)));
+            updateEntry(match, a -> a.add(unifiedAnswer));
+        } else if (!evictedQueries.contains(query)) {
+            putEntry(query, new QueryAnswers(answer));
         }
         return answer;
     }
@@ -121,13 +171,12 @@ public class QueryCache<Q extends ReasonerQuery> extends Cache<Q, QueryAnswers>
      * @return recorded answer
      */
     public Answer recordAnswerWithUnifier(Q query, Answer answer, Unifier unifier){
-        Pair<Q, QueryAnswers> match =  cache.get(query);
+        Pair<Q, QueryAnswers> match = getEntry(query);
         if (match != null) {
-            QueryAnswers answers = match.getValue();
             Answer unifiedAnswer = answer.unify(unifier);
-            answers.add(unifiedAnswer);
-        } else {
-            cache.put(query, new Pair<>(query, new QueryAnswers(answer)));
+            updateEntry(match, a -> a.add(unifiedAnswer));
+        } else if (!evictedQueries.contains(query)) {
+            putEntry(query, new QueryAnswers(answer));
         }
         return answer;
     }
@@ -144,7 +193,7 @@ public class QueryCache<Q extends ReasonerQuery> extends Cache<Q, QueryAnswers>
 
     @Override
     public Pair<QueryAnswers, Unifier> getAnswersWithUnifier(Q query) {
-        Pair<Q, QueryAnswers> match =  cache.get(query);
+        Pair<Q, QueryAnswers> match = getEntry(query);
         if (match != null) {
             Q equivalentQuery = match.getKey();
             QueryAnswers answers = match.getValue();
@@ -175,7 +224,10 @@ public class QueryCache<Q extends ReasonerQuery> extends Cache<Q, QueryAnswers>
         c2.cache.keySet().stream()
                 .filter(queries::contains)
                 .filter(this::contains)
-                .forEach( q -> cache.get(q).getValue().removeAll(c2.getAnswers(q)));
+                .forEach( q -> {
+                    QueryAnswers answers = c2.getAnswers(q);
+                    updateEntry(cache.get(q), a -> a.removeAll(answers));
+                });
     }
 
     @Override
@@ -184,4 +236,52 @@ public class QueryCache<Q extends ReasonerQuery> extends Cache<Q, QueryAnswers>
                 .filter(p -> queries.contains(p.getKey()))
                 .map(v -> v.getValue().size()).mapToInt(Integer::intValue).sum();
     }
+
+    /**
+     * @return number of answers currently held in the cache
+     */
+    public long answerCount(){ return answerCount;}
+
+    /**
+     * @return number of queries evicted from the cache
+     */
+    public long evictionCount(){ return evictionCount;}
+
+    private Pair<Q, QueryAnswers> getEntry(Q query){
+        Pair<Q, QueryAnswers> match = cache.get(query);
+        //mark as recently used
+        if (match != null) recomputableQueries.get(match.getKey());
+        return match;
+    }
+
+    private void putEntry(Q query, QueryAnswers answers){
+        cache.put(query, new Pair<>(query, answers));
+        if (isRecomputable.test(query)) recomputableQueries.put(query, true);
+        answerCount += answers.size();
+        evict(query);
+    }
+
+    private void updateEntry(Pair<Q, QueryAnswers> match, Consumer<QueryAnswers> update){
+        QueryAnswers answers = match.getValue();
+        int oldSize = answers.size();
+        update.accept(answers);
+        answerCount += answers.size() - oldSize;
+        evict(match.getKey());
+    }
+
+    /**
+     * evict least recently used recomputable queries until the cache is within its bound
+     * @param recordedQuery query being recorded, which is never evicted
+     */
+    private void evict(Q recordedQuery){
+        Iterator<Q> iterator = recomputableQueries.keySet().iterator();
+        while (answerCount > maxAnswers && iterator.hasNext()) {
+            Q query = iterator.next();
+            if (query.equals(recordedQuery)) continue;
+            iterator.remove();
+            answerCount -= cache.remove(query).getValue().size();
+            evictedQueries.add(query);
+            evictionCount++;
+        }
+    }
 }
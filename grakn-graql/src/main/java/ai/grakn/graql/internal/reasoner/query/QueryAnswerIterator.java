@@ -20,6 +20,7 @@ package ai.grakn.graql.internal.reasoner.query;
 
 import ai.grakn.graql.admin.Answer;
 import ai.grakn.graql.internal.query.QueryAnswer;
+import ai.grakn.graql.internal.reasoner.atom.Atom;
 import ai.grakn.graql.internal.reasoner.cache.QueryCache;
 import ai.grakn.graql.internal.reasoner.iterator.ReasonerQueryIterator;
 import java.util.HashSet;
@@ -42,6 +43,7 @@ class QueryAnswerIterator extends ReasonerQueryIterator {
     private int iter = 0;
     private long oldAns = 0;
     private final ReasonerQueryImpl query;
+    private final boolean requiresFixpoint;
     private final Set<Answer> answers = new HashSet<>();
 
     private final QueryCache<ReasonerAtomicQuery> cache;
@@ -49,14 +51,16 @@ class QueryAnswerIterator extends ReasonerQueryIterator {
 
     private static final Logger LOG = LoggerFactory.getLogger(ReasonerQueryImpl.class);
 
-    QueryAnswerIterator(ReasonerQueryImpl q){
+    QueryAnswerIterator(ReasonerQueryImpl q, boolean explanation){
         this.query = q;
-        this.cache = new QueryCache<>();
+        this.requiresFixpoint = q.selectAtoms().stream().anyMatch(Atom::requiresFixpoint);
+        this.cache = new QueryCache<>(q.graph().admin().reasonerCacheMaxAnswers(), q -> !q.getAtom().isRuleResolvable(), explanation);
         this.answerIterator = query.iterator(new QueryAnswer(), new HashSet<>(), cache);
     }
 
     /**
-     * check whether answers available, if answers not fully computed compute more answers
+     * check whether answers available, if answers not fully computed compute more answers,
+     * queries which do not depend on recursive rules are fully answered by the first iteration
      * @return true if answers available
      */
     @Override
@@ -65,14 +69,17 @@ class QueryAnswerIterator extends ReasonerQueryIterator {
 
         //iter finished
         long dAns = answers.size() - oldAns;
-        if (dAns != 0 || iter == 0) {
+        if (requiresFixpoint && (dAns != 0 || iter == 0)) {
             LOG.debug("iter: " + iter + " answers: " + answers.size() + " dAns = " + dAns);
             iter++;
             answerIterator = query.iterator(new QueryAnswer(), new HashSet<>(), cache);
             oldAns = answers.size();
             return answerIterator.hasNext();
         }
-        else return false;
+        else {
+            LOG.debug("cached answers: " + cache.answerCount() + " evictions: " + cache.evictionCount());
+            return false;
+        }
     }
 
     /**
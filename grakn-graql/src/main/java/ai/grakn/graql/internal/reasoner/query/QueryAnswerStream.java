@@ -28,15 +28,21 @@ import ai.grakn.graql.internal.reasoner.atom.predicate.IdPredicate;
 import ai.grakn.graql.internal.reasoner.atom.predicate.NeqPredicate;
 import ai.grakn.graql.internal.reasoner.iterator.LazyAnswerIterator;
 import ai.grakn.graql.internal.reasoner.iterator.LazyIterator;
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Sets;
 import javafx.util.Pair;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.BiFunction;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
@@ -142,11 +148,6 @@ public class QueryAnswerStream {
         return inverseMap.containsKey(key)? inverseMap.get(key) : new HashSet<>();
     }
 
-    private static Set<Answer> findMatchingAnswers(Answer answer, Map<Pair<Var, Concept>, Set<Answer>> inverseMap, Var joinVar){
-        Pair<Var, Concept> key = new Pair<>(joinVar, answer.get(joinVar));
-        return inverseMap.containsKey(key)? inverseMap.get(key) : new HashSet<>();
-    }
-
     /**
      * lazy stream join
      * @param stream left stream operand
@@ -181,30 +182,36 @@ public class QueryAnswerStream {
     }
 
     /**
-     * lazy stream join with fast lookup from inverse answer map
+     * lazy hash join on the shared variables of two streams
+     * the build side is collected into a hash table keyed on the values of the join variables when the joined stream
+     * is first consumed, the probe side is then streamed through the table
      * @param stream left stream operand
      * @param stream2 right stream operand
-     * @param stream2InverseMap inverse map of right operand from cache
      * @param joinVars intersection on variables of two streams
+     * @param buildLeft true if the left operand should be collected into the hash table, it should be the smaller one
      * @return joined stream
      */
-    static Stream<Answer> joinWithInverse(Stream<Answer> stream,
-                                          Stream<Answer> stream2,
-                                          Map<Pair<Var, Concept>, Set<Answer>> stream2InverseMap,
-                                          ImmutableSet<Var> joinVars) {
-        if (joinVars.isEmpty()){
-            LazyAnswerIterator l2 = new LazyAnswerIterator(stream2);
-            return stream.flatMap(a1 -> l2.stream().map(a -> a.merge(a1)));
-        }
-        return stream.flatMap(a1 -> {
-            Iterator<Var> vit = joinVars.iterator();
-            Set<Answer> matchAnswers = findMatchingAnswers(a1, stream2InverseMap, vit.next());
-            while(vit.hasNext()){
-                matchAnswers = Sets.intersection(matchAnswers, findMatchingAnswers(a1, stream2InverseMap, vit.next()));
-            }
-            return matchAnswers.stream().map(a -> a.merge(a1));
+    public static Stream<Answer> hashJoin(Stream<Answer> stream, Stream<Answer> stream2, ImmutableSet<Var> joinVars, boolean buildLeft) {
+        Stream<Answer> buildStream = buildLeft? stream : stream2;
+        Stream<Answer> probeStream = buildLeft? stream2 : stream;
+        Supplier<Map<List<Concept>, List<Answer>>> hashTable = Suppliers.memoize(() ->
+                buildStream.distinct().collect(Collectors.groupingBy(a -> joinKey(a, joinVars))));
+
+        return probeStream.flatMap(probe -> {
+            List<Answer> matches = hashTable.get().getOrDefault(joinKey(probe, joinVars), Collections.emptyList());
+            return buildLeft?
+                    matches.stream().map(probe::merge) :
+                    matches.stream().map(a -> a.merge(probe));
         });
     }
+
+    private static List<Concept> joinKey(Answer answer, ImmutableSet<Var> joinVars){
+        List<Concept> key = new ArrayList<>(joinVars.size());
+        for (Var var : joinVars) {
+            key.add(answer.get(var));
+        }
+        return key;
+    }
 }
 
 
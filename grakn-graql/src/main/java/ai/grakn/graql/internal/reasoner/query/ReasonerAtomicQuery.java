@@ -20,6 +20,8 @@ package ai.grakn.graql.internal.reasoner.query;
 
 import ai.grakn.GraknGraph;
 import ai.grakn.concept.Concept;
+import ai.grakn.concept.ConceptId;
+import ai.grakn.concept.OntologyConcept;
 import ai.grakn.concept.RelationType;
 import ai.grakn.exception.GraqlQueryException;
 import ai.grakn.concept.Type;
@@ -53,6 +55,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashSet;
@@ -129,6 +132,15 @@ public class ReasonerAtomicQuery extends ReasonerQueryImpl {
         return atom;
     }
 
+    /**
+     * @return estimated number of answers to this query based on the graph statistics, used when choosing how to join
+     * answers, {@link Long#MAX_VALUE} if nothing is known
+     */
+    long estimatedAnswerCount(){
+        if (!getAtom().getPartialSubstitutions().isEmpty()) return 1;
+        return getAtom().estimatedInstanceCount().orElse(Long.MAX_VALUE);
+    }
+
 
     @Override
     public boolean addAtomic(Atomic at) {
@@ -203,33 +215,57 @@ public class ReasonerAtomicQuery extends ReasonerQueryImpl {
 
     Pair<Stream<Answer>, Unifier> lookupWithUnifier(Cache<ReasonerAtomicQuery, ?> cache) {
         boolean queryVisited = cache.contains(this);
-        return queryVisited ? cache.getAnswerStreamWithUnifier(this) : new Pair<>(DBlookup(), new UnifierImpl());
+        return queryVisited ? cache.getAnswerStreamWithUnifier(this) : new Pair<>(DBlookup(cache.isExplanationTracked()), new UnifierImpl());
     }
 
-    private Stream<Answer> DBlookup() {
-        return getMatchQuery().admin().stream()
-                .map(QueryAnswer::new)
-                .map(a -> a.explain(new LookupExplanation(this)));
+    private Stream<Answer> DBlookup(boolean explanation) {
+        Stream<Answer> answers = getMatchQuery().admin().stream().map(QueryAnswer::new);
+        return explanation? answers.map(a -> a.explain(new LookupExplanation(this))) : answers;
     }
 
     /**
      * resolve the query by performing a db lookup with subsequent cache update
      */
     private Stream<Answer> DBlookup(Cache<ReasonerAtomicQuery, ?> cache) {
-        return cache.record(this, DBlookup());
+        return cache.record(this, DBlookup(cache.isExplanationTracked()));
     }
 
     /**
      * execute insert on the query and return inserted answers
      */
     private Stream<Answer> insert() {
-        return Graql.insert(getPattern().getVars()).withGraph(graph()).stream();
+        return insert(getPattern().getVars());
     }
 
-    public Stream<Answer> materialise(Answer answer) {
+    private Stream<Answer> insert(Collection<VarPatternAdmin> vars) {
+        return Graql.insert(vars).withGraph(graph()).stream();
+    }
+
+    /**
+     * materialise an answer to this query, inferred relations are marked with the rule and the concepts they were inferred from
+     * @param answer answer to be materialised
+     * @param ruleId id of the rule which inferred the answer
+     * @param support concepts of the rule body answer the answer was inferred from
+     * @return inserted answers
+     */
+    public Stream<Answer> materialise(Answer answer, ConceptId ruleId, Collection<Concept> support) {
         ReasonerAtomicQuery queryToMaterialise = new ReasonerAtomicQuery(this);
         queryToMaterialise.addSubstitution(answer);
-        return queryToMaterialise.insert()
+        if (!getAtom().isRelation()) {
+            return queryToMaterialise.insert()
+                    .map(ans -> ans.setExplanation(answer.getExplanation()));
+        }
+
+        //the relation var needs to be user defined for the inserted relation to be returned
+        Var relationVar = getAtom().getVarName();
+        Set<VarPatternAdmin> vars = queryToMaterialise.getPattern().getVars().stream()
+                .map(var -> var.getVarName().equals(relationVar)? var.setVarName(relationVar.asUserDefined()) : var)
+                .collect(Collectors.toSet());
+        return insert(vars)
+                .map(ans -> {
+                    graph().admin().markAsInferred(ans.get(relationVar).asThing(), ruleId, support);
+                    return relationVar.isUserDefinedName()? ans : ans.filterVars(Sets.difference(ans.keySet(), Collections.singleton(relationVar)));
+                })
                 .map(ans -> ans.setExplanation(answer.getExplanation()));
     }
 
@@ -289,11 +325,15 @@ public class ReasonerAtomicQuery extends ReasonerQueryImpl {
         Set<Var> varsToRetain = rule.hasDisconnectedHead()? ruleBody.getVarNames() : ruleHead.getVarNames();
 
         subGoals.add(this);
-        Stream<Answer> answers = ruleBody
+        //carry the concepts of the full body answers so materialised answers record what they were inferred from
+        Set<Answer> derived = new HashSet<>();
+        Stream<Pair<Answer, Set<Concept>>> derivations = ruleBody
                 .computeJoin(subGoals, cache, dCache, differentialJoin)
-                .map(a -> a.filterVars(varsToRetain))
-                .distinct()
-                .map(ans -> ans.explain(new RuleExplanation(this, rule)));
+                .map(a -> new Pair<>(a.filterVars(varsToRetain), a.concepts()))
+                .filter(derivation -> derived.add(derivation.getKey()));
+        if (cache.isExplanationTracked()) {
+            derivations = derivations.map(derivation -> new Pair<>(derivation.getKey().explain(new RuleExplanation(this, rule)), derivation.getValue()));
+        }
 
         //materialise
         if (!cache.contains(ruleHead)) dCache.record(ruleHead, ruleHead.lookup(cache));
@@ -301,10 +341,10 @@ public class ReasonerAtomicQuery extends ReasonerQueryImpl {
         Map<Pair<Var, Concept>, Set<Answer>> known = cache.getInverseAnswerMap(ruleHead);
         Map<Pair<Var, Concept>, Set<Answer>> dknown = dCache.getInverseAnswerMap(ruleHead);
 
-        answers = answers
-                .filter(a -> knownFilterWithInverse(a, known))
-                .filter(a -> knownFilterWithInverse(a, dknown))
-                .flatMap(ruleHead::materialise);
+        Stream<Answer> answers = derivations
+                .filter(derivation -> knownFilterWithInverse(derivation.getKey(), known))
+                .filter(derivation -> knownFilterWithInverse(derivation.getKey(), dknown))
+                .flatMap(derivation -> ruleHead.materialise(derivation.getKey(), rule.getRuleId(), derivation.getValue()));
 
         answers = dCache.record(ruleHead, answers);
 
@@ -332,7 +372,8 @@ public class ReasonerAtomicQuery extends ReasonerQueryImpl {
                                        Cache<ReasonerAtomicQuery, ?> cache,
                                        Cache<ReasonerAtomicQuery, ?> dCache,
                                        boolean differentialJoin){
-        boolean queryAdmissible = !subGoals.contains(this);
+        //queries which do not depend on recursive rules cannot loop and are resolved on every visit
+        boolean queryAdmissible = !subGoals.contains(this) || !getAtom().requiresFixpoint();
 
         LOG.trace("AQ: " + this);
 
@@ -406,7 +447,8 @@ public class ReasonerAtomicQuery extends ReasonerQueryImpl {
                                             ruleUnifier,
                                             permutationUnifier));
                 })
-                .sorted(Comparator.comparing(rt -> -rt.getRule().resolutionPriority()))
+                .sorted(Comparator.<RuleTuple>comparingInt(rt -> rt.getRule().getStratum())
+                        .thenComparing(rt -> -rt.getRule().resolutionPriority()))
                 .iterator();
     }
 
@@ -423,6 +465,7 @@ public class ReasonerAtomicQuery extends ReasonerQueryImpl {
 
         private int iter = 0;
         private long answers = 0;
+        private final boolean requiresFixpoint = query().getAtom().requiresFixpoint();
         private final Set<ReasonerAtomicQuery> subGoals = new HashSet<>();
 
         private final LazyQueryCache<ReasonerAtomicQuery> cache;
@@ -453,7 +496,8 @@ public class ReasonerAtomicQuery extends ReasonerQueryImpl {
         }
 
         /**
-         * check whether answers available, if answers not fully computed compute more answers
+         * check whether answers available, if answers not fully computed compute more answers,
+         * atoms which do not depend on recursive rules are fully answered by the first iteration
          * @return true if answers available
          */
         @Override
@@ -462,6 +506,7 @@ public class ReasonerAtomicQuery extends ReasonerQueryImpl {
                 //iter finished
             else {
                 updateCache();
+                if (!requiresFixpoint) return false;
                 long dAns = differentialAnswerSize();
                 if (dAns != 0 || iter == 0) {
                     LOG.debug("Atom: " + query().getAtom() + " iter: " + iter + " answers: " + answers + " dAns = " + dAns);
@@ -473,9 +518,7 @@ public class ReasonerAtomicQuery extends ReasonerQueryImpl {
         }
 
         private void updateCache(){
-            dCache.remove(cache);
-            cache.add(dCache);
-            cache.reload();
+            cache.mergeDifferential(dCache);
         }
 
         /**
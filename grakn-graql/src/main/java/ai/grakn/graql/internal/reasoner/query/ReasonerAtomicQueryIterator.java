@@ -18,6 +18,7 @@
 
 package ai.grakn.graql.internal.reasoner.query;
 
+import ai.grakn.concept.Concept;
 import ai.grakn.graql.Var;
 import ai.grakn.graql.admin.Answer;
 import ai.grakn.graql.admin.Unifier;
@@ -35,6 +36,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Set;
 import java.util.stream.Stream;
@@ -75,15 +77,17 @@ class ReasonerAtomicQueryIterator extends ReasonerQueryIterator {
         LOG.trace("AQ: " + query);
 
         Pair<Stream<Answer>, Unifier> streamUnifierPair = query.lookupWithUnifier(cache);
-        this.queryIterator = streamUnifierPair.getKey()
-                .map(a -> a.explain(a.getExplanation().setQuery(query)))
-                .iterator();
+        Stream<Answer> lookupStream = streamUnifierPair.getKey();
+        if (cache.isExplanationTracked()) lookupStream = lookupStream.map(a -> a.explain(a.getExplanation().setQuery(query)));
+        this.queryIterator = lookupStream.iterator();
         this.cacheUnifier = streamUnifierPair.getValue().inverse();
 
         //if this already has full substitution and exists in the db then do not resolve further
         //NB: the queryIterator check is purely because we may want to ask for an explanation
         boolean hasFullSubstitution = query.hasFullSubstitution();
-        if(subGoals.contains(query)
+        //queries which do not depend on recursive rules cannot loop and are resolved on every visit
+        boolean visited = subGoals.contains(query) && query.getAtom().requiresFixpoint();
+        if(visited
                 || (hasFullSubstitution && queryIterator.hasNext() ) ){
             this.ruleIterator = Collections.emptyIterator();
         }
@@ -115,33 +119,42 @@ class ReasonerAtomicQueryIterator extends ReasonerQueryIterator {
         Unifier combinedUnifier = ruleUnifier.combine(permutationUnifier);
 
         Iterable<Answer> baseIterable = () -> rule.getBody().iterator(partialSubPrime, subGoals, cache);
-        Stream<Answer> baseStream = StreamSupport
-                .stream(baseIterable.spliterator(), false)
-                .map(a -> a.filterVars(varsToRetain));
+        Stream<Answer> bodyStream = StreamSupport.stream(baseIterable.spliterator(), false);
 
         Stream<Answer> ruleStream = rule.requiresMaterialisation(query.getAtom())?
-                getMaterialisedRuleStream(baseStream, sub, rule, combinedUnifier) :
-                getRuleStream(baseStream, sub, rule, combinedUnifier);
+                getMaterialisedRuleStream(bodyStream, varsToRetain, sub, rule, combinedUnifier) :
+                getRuleStream(bodyStream.map(a -> a.filterVars(varsToRetain)), sub, rule, combinedUnifier);
 
         return ruleStream.iterator();
     }
 
     private Stream<Answer> getRuleStream(Stream<Answer> baseStream, Answer sub, InferenceRule rule, Unifier unifier){
         Set<Var> queryVars = query.getVarNames();
-        return baseStream
+        Stream<Answer> ruleStream = baseStream
                 .map(a -> a.unify(unifier))
                 .filter(a -> !a.isEmpty())
                 .map(a -> a.merge(sub))
-                .map(a -> a.filterVars(queryVars))
-                .map(a -> a.explain(new RuleExplanation(query, rule)));
+                .map(a -> a.filterVars(queryVars));
+        return explain(ruleStream, rule);
     }
 
-    private Stream<Answer> getMaterialisedRuleStream(Stream<Answer> baseStream, Answer sub, InferenceRule rule, Unifier unifier){
+    private Stream<Answer> explain(Stream<Answer> ruleStream, InferenceRule rule){
+        if (!cache.isExplanationTracked()) return ruleStream;
+        return ruleStream.map(a -> a.explain(new RuleExplanation(query, rule)));
+    }
+
+    private Stream<Answer> getMaterialisedRuleStream(Stream<Answer> bodyStream, Set<Var> varsToRetain, Answer sub,
+                                                     InferenceRule rule, Unifier unifier){
         ReasonerAtomicQuery ruleHead = rule.getHead();
         Set<Var> queryVars = query.getVarNames().size() < ruleHead.getVarNames().size()? unifier.keySet() : ruleHead.getVarNames();
-        baseStream = baseStream
-                .distinct()
-                .map(a -> {
+        Set<Answer> derived = new HashSet<>();
+        Stream<Answer> baseStream = bodyStream
+                //carry the concepts of the full body answer so the materialised answer records what it was inferred from
+                .map(a -> new Pair<>(a.filterVars(varsToRetain), a.concepts()))
+                .filter(derivation -> derived.add(derivation.getKey()))
+                .map(derivation -> {
+                    Answer a = derivation.getKey();
+                    Set<Concept> bodyConcepts = derivation.getValue();
                     boolean queryEquivalentToHead = query.isEquivalent(ruleHead);
 
                     //check if the specific answer to ruleHead already in cache/db
@@ -158,7 +171,7 @@ class ReasonerAtomicQueryIterator extends ReasonerQueryIterator {
                     //ensure no duplicates created - only materialise answer if it doesn't exist in the db
                     if (headAnswer.isEmpty()
                         && queryAnswer.isEmpty()) {
-                        Answer materialisedSub = ruleHead.materialise(a).findFirst().orElse(null);
+                        Answer materialisedSub = ruleHead.materialise(a, rule.getRuleId(), bodyConcepts).findFirst().orElse(null);
                         if (!queryEquivalentToHead) cache.recordAnswer(ruleHead, materialisedSub);
                         return materialisedSub
                                 .filterVars(queryVars)
@@ -167,10 +180,9 @@ class ReasonerAtomicQueryIterator extends ReasonerQueryIterator {
                         return headAnswer.isEmpty()? queryAnswer : headAnswer;
                     }
                 });
-        return baseStream
+        return explain(baseStream
                 .filter(a -> !a.isEmpty())
-                .map(a -> a.merge(sub))
-                .map(a -> a.explain(new RuleExplanation(query, rule)));
+                .map(a -> a.merge(sub)), rule);
     }
 
     @Override
@@ -35,6 +35,7 @@ import ai.grakn.graql.internal.pattern.Patterns;
 import ai.grakn.graql.internal.query.QueryAnswer;
 import ai.grakn.graql.internal.reasoner.atom.Atom;
 import ai.grakn.graql.internal.reasoner.atom.AtomicFactory;
+import ai.grakn.graql.internal.reasoner.atom.ResolutionStrategy;
 import ai.grakn.graql.internal.reasoner.atom.binary.BinaryBase;
 import ai.grakn.graql.internal.reasoner.atom.binary.TypeAtom;
 import ai.grakn.graql.internal.reasoner.atom.predicate.IdPredicate;
@@ -54,6 +55,7 @@ import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
@@ -65,9 +67,10 @@ import java.util.TreeSet;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
-import static ai.grakn.graql.internal.reasoner.query.QueryAnswerStream.join;
-import static ai.grakn.graql.internal.reasoner.query.QueryAnswerStream.joinWithInverse;
+import static ai.grakn.graql.internal.reasoner.query.QueryAnswerStream.hashJoin;
 import static ai.grakn.graql.internal.reasoner.query.QueryAnswerStream.nonEqualsFilter;
 
 /**
@@ -81,9 +84,13 @@ import static ai.grakn.graql.internal.reasoner.query.QueryAnswerStream.nonEquals
  */
 public class ReasonerQueryImpl implements ReasonerQuery {
 
+    private static final Logger LOG = LoggerFactory.getLogger(ReasonerQueryImpl.class);
+
     private final GraknGraph graph;
     private final Set<Atomic> atomSet = new HashSet<>();
     private int priority = Integer.MAX_VALUE;
+    private List<Atom> atomOrder = null;
+    private Map<Atomic, Double> atomOrderCosts = null;
 
     ReasonerQueryImpl(Conjunction<VarPatternAdmin> pattern, GraknGraph graph) {
         this.graph = graph;
@@ -208,24 +215,57 @@ public class ReasonerQueryImpl implements ReasonerQuery {
     public Set<Atomic> getAtoms() { return atomSet;}
 
     /**
-     * compute the resolution plan - list of atomic queries ordered by their resolution priority
-     * @return list of prioritised atomic queries
+     * order the atoms of this query greedily by their estimated cost, each time choosing the cheapest atom given
+     * the variables bound by the atoms chosen before it, the order is computed once until the atoms of the query change
+     * @return list of atoms ordered by their estimated cost
      */
-    LinkedList<ReasonerQueryImpl> getResolutionPlan(){
-        LinkedList<ReasonerQueryImpl> queries = new LinkedList<>();
+    public List<Atom> getAtomOrder(){
+        if (atomOrder == null) computeAtomOrder();
+        return atomOrder;
+    }
 
-        LinkedList<Atom> atoms = selectAtoms().stream()
-                .sorted(Comparator.comparing(at -> -at.baseResolutionPriority()))
-                .collect(Collectors.toCollection(LinkedList::new));
+    @Override
+    public Map<Atomic, Double> explainAtomOrder(){
+        if (atomOrder == null) computeAtomOrder();
+        return atomOrderCosts;
+    }
 
-        Atom top = atoms.getFirst();
-        Set<Atom> nonResolvableAtoms = new HashSet<>();
-        Set<Var> subbedVars = getIdPredicates().stream().map(IdPredicate::getVarName).collect(Collectors.toSet());
+    private void computeAtomOrder(){
+        Map<Atomic, Double> orderCosts = new LinkedHashMap<>();
+        List<Atom> order = new ArrayList<>();
+        Set<Atom> atoms = new HashSet<>(selectAtoms());
+        Set<Var> boundVars = getIdPredicates().stream().map(IdPredicate::getVarName).collect(Collectors.toSet());
         while (!atoms.isEmpty()) {
-
-            subbedVars.addAll(top.getVarNames());
+            Map<Atom, Double> costs = new HashMap<>();
+            atoms.forEach(at -> {
+                double cost = at.estimatedCost(boundVars);
+                //penalise cartesian products with the atoms chosen so far
+                if (!order.isEmpty() && Sets.intersection(at.getVarNames(), boundVars).isEmpty()) {
+                    cost *= ResolutionStrategy.DISCONNECTED_ATOM_COST;
+                }
+                costs.put(at, cost);
+            });
+            Atom top = atoms.stream()
+                    .min(Comparator.<Atom, Double>comparing(costs::get).thenComparing(at -> -at.baseResolutionPriority()))
+                    .orElse(null);
+            order.add(top);
+            orderCosts.put(top, costs.get(top));
             atoms.remove(top);
+            boundVars.addAll(top.getVarNames());
+        }
+        if (LOG.isDebugEnabled()) LOG.debug("Atom order for " + this + ": " + orderCosts);
+        atomOrder = Collections.unmodifiableList(order);
+        atomOrderCosts = Collections.unmodifiableMap(orderCosts);
+    }
 
+    /**
+     * compute the resolution plan - list of atomic queries ordered by their estimated cost
+     * @return list of prioritised atomic queries
+     */
+    LinkedList<ReasonerQueryImpl> getResolutionPlan(){
+        LinkedList<ReasonerQueryImpl> queries = new LinkedList<>();
+        Set<Atom> nonResolvableAtoms = new LinkedHashSet<>();
+        for (Atom top : getAtomOrder()) {
             if (top.isRuleResolvable()) {
                 if (!nonResolvableAtoms.isEmpty()){
                     queries.add(ReasonerQueries.create(nonResolvableAtoms, graph()));
@@ -234,23 +274,9 @@ public class ReasonerQueryImpl implements ReasonerQuery {
                 queries.add(new ReasonerAtomicQuery(top));
             } else {
                 nonResolvableAtoms.add(top);
-                if (atoms.isEmpty()) queries.add(ReasonerQueries.create(nonResolvableAtoms, graph()));
-            }
-
-            //look at neighbours up to two hops away
-            top = top.getNeighbours().filter(atoms::contains)
-                    .flatMap(at -> Stream.concat(Stream.of(at), at.getNeighbours().filter(atoms::contains)))
-                    .sorted(Comparator.comparing(at -> -at.computePriority(subbedVars)))
-                    .findFirst().orElse(null);
-
-            //top is disconnected atom
-            if (top == null) {
-                top = atoms.stream()
-                        .sorted(Comparator.comparing(at -> -at.computePriority(subbedVars)))
-                        .findFirst().orElse(null);
             }
         }
-
+        if (!nonResolvableAtoms.isEmpty()) queries.add(ReasonerQueries.create(nonResolvableAtoms, graph()));
         return queries;
     }
 
@@ -367,6 +393,7 @@ public class ReasonerQueryImpl implements ReasonerQuery {
      */
     public boolean addAtomic(Atomic atom) {
         if (atomSet.add(atom)) {
+            atomOrder = null;
             atom.setParentQuery(this);
             return true;
         } else return false;
@@ -377,7 +404,10 @@ public class ReasonerQueryImpl implements ReasonerQuery {
      * @return true if the atom set contained the specified atom
      */
     public boolean removeAtomic(Atomic atom) {
-        return atomSet.remove(atom);
+        if (atomSet.remove(atom)) {
+            atomOrder = null;
+            return true;
+        } else return false;
     }
 
     /**
@@ -491,7 +521,7 @@ public class ReasonerQueryImpl implements ReasonerQuery {
                 .filter(e -> varNames.contains(e.getKey()))
                 .map(e -> new IdPredicate(e.getKey(), e.getValue(), this))
                 .collect(Collectors.toSet());
-        atomSet.addAll(predicates);
+        if (atomSet.addAll(predicates)) atomOrder = null;
 
         return this;
     }
@@ -503,17 +533,20 @@ public class ReasonerQueryImpl implements ReasonerQuery {
     private Stream<Answer> fullJoin(Set<ReasonerAtomicQuery> subGoals,
                                     Cache<ReasonerAtomicQuery, ?> cache,
                                     Cache<ReasonerAtomicQuery, ?> dCache){
-        List<ReasonerAtomicQuery> queries = selectAtoms().stream().map(ReasonerAtomicQuery::new).collect(Collectors.toList());
+        List<ReasonerAtomicQuery> queries = getAtomOrder().stream().map(ReasonerAtomicQuery::new).collect(Collectors.toList());
         Iterator<ReasonerAtomicQuery> qit = queries.iterator();
         ReasonerAtomicQuery childAtomicQuery = qit.next();
         Stream<Answer> join = childAtomicQuery.answerStream(subGoals, cache, dCache, false);
         Set<Var> joinedVars = childAtomicQuery.getVarNames();
+        long joinedEstimate = childAtomicQuery.estimatedAnswerCount();
         while(qit.hasNext()){
             childAtomicQuery = qit.next();
             Set<Var> joinVars = Sets.intersection(joinedVars, childAtomicQuery.getVarNames());
             Stream<Answer> localSubs = childAtomicQuery.answerStream(subGoals, cache, dCache, false);
-            join = join(join, localSubs, ImmutableSet.copyOf(joinVars));
+            long childEstimate = childAtomicQuery.estimatedAnswerCount();
+            join = join(join, localSubs, ImmutableSet.copyOf(joinVars), joinedEstimate, childEstimate);
             joinedVars.addAll(childAtomicQuery.getVarNames());
+            joinedEstimate = Math.min(joinedEstimate, childEstimate);
         }
         return join;
     }
@@ -531,15 +564,21 @@ public class ReasonerQueryImpl implements ReasonerQuery {
         for(ReasonerAtomicQuery qi : queriesToJoin){
             Stream<Answer> subs = qi.answerStream(subGoals, cache, dCache, true);
             Set<Var> joinedVars = qi.getVarNames();
+            //only the new answers of qi are joined, these are the answers in the differential cache
+            long joinedEstimate = dCache.answerSize(Collections.singleton(qi));
             for(ReasonerAtomicQuery qj : queries){
                 if ( qj != qi ){
                     Set<Var> joinVars = Sets.intersection(joinedVars, qj.getVarNames());
-                    subs = joinWithInverse(
+                    //snapshot of the answers known so far, the cache is updated while the join is consumed
+                    List<Answer> cachedAnswers = cache.getAnswerStream(qj).collect(Collectors.toList());
+                    subs = join(
                             subs,
-                            cache.getAnswerStream(qj),
-                            cache.getInverseAnswerMap(qj, joinVars),
-                            ImmutableSet.copyOf(joinVars));
+                            cachedAnswers.stream(),
+                            ImmutableSet.copyOf(joinVars),
+                            joinedEstimate,
+                            cachedAnswers.size());
                     joinedVars.addAll(qj.getVarNames());
+                    joinedEstimate = Math.min(joinedEstimate, cachedAnswers.size());
                 }
             }
             join = Stream.concat(join, subs);
@@ -547,6 +586,23 @@ public class ReasonerQueryImpl implements ReasonerQuery {
         return join;
     }
 
+    /**
+     * join two answer streams choosing the join operator based on the estimated sizes of the operands
+     * a hash join is used when the operands share variables, the smaller operand being collected into the hash table,
+     * otherwise a nested loop join computes the cartesian product
+     * @param stream left stream operand
+     * @param stream2 right stream operand
+     * @param joinVars intersection on variables of two streams
+     * @param estimate estimated size of the left operand
+     * @param estimate2 estimated size of the right operand
+     * @return joined stream
+     */
+    private static Stream<Answer> join(Stream<Answer> stream, Stream<Answer> stream2, ImmutableSet<Var> joinVars,
+                                       long estimate, long estimate2){
+        if (joinVars.isEmpty()) return QueryAnswerStream.join(stream, stream2, joinVars);
+        return hashJoin(stream, stream2, joinVars, estimate < estimate2);
+    }
+
     Stream<Answer> computeJoin(Set<ReasonerAtomicQuery> subGoals,
                                Cache<ReasonerAtomicQuery, ?> cache,
                                Cache<ReasonerAtomicQuery, ?> dCache,
@@ -564,10 +620,15 @@ public class ReasonerQueryImpl implements ReasonerQuery {
 
     @Override
     public Stream<Answer> resolve(boolean materialise) {
+        return resolve(materialise, false);
+    }
+
+    @Override
+    public Stream<Answer> resolve(boolean materialise, boolean explanation) {
         if (materialise) {
             return resolveAndMaterialise(new LazyQueryCache<>(), new LazyQueryCache<>());
         } else {
-            return new QueryAnswerIterator(this).hasStream();
+            return new QueryAnswerIterator(this, explanation).hasStream();
         }
     }
 
@@ -580,17 +641,20 @@ public class ReasonerQueryImpl implements ReasonerQuery {
         Set<NeqPredicate> neqPredicates = getNeqPredicates();
         neqPredicates.forEach(this::removeAtomic);
 
-        Iterator<Atom> atIt = this.selectAtoms().iterator();
+        Iterator<Atom> atIt = getAtomOrder().iterator();
         ReasonerAtomicQuery atomicQuery = new ReasonerAtomicQuery(atIt.next());
         Stream<Answer> answerStream = atomicQuery.resolveAndMaterialise(cache, dCache);
         Set<Var> joinedVars = atomicQuery.getVarNames();
+        long joinedEstimate = atomicQuery.estimatedAnswerCount();
 
         while (atIt.hasNext()) {
             atomicQuery = new ReasonerAtomicQuery(atIt.next());
             Stream<Answer> subAnswerStream = atomicQuery.resolveAndMaterialise(cache, dCache);
             Set<Var> joinVars = Sets.intersection(joinedVars, atomicQuery.getVarNames());
-            answerStream = join(answerStream, subAnswerStream, ImmutableSet.copyOf(joinVars));
+            long subEstimate = atomicQuery.estimatedAnswerCount();
+            answerStream = join(answerStream, subAnswerStream, ImmutableSet.copyOf(joinVars), joinedEstimate, subEstimate);
             joinedVars.addAll(atomicQuery.getVarNames());
+            joinedEstimate = Math.min(joinedEstimate, subEstimate);
         }
 
 
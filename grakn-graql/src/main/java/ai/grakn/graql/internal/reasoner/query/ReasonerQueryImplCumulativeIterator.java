@@ -68,7 +68,7 @@ class ReasonerQueryImplCumulativeIterator extends ReasonerQueryIterator{
 
         if (atomicQueryIterator.hasNext() && !nextList.isEmpty()) {
             Answer feederSub  = atomicQueryIterator.next();
-            queryIterator = new ReasonerQueryImplCumulativeIterator(feederSub.merge(partialSub, true), nextList, subGoals, cache);
+            queryIterator = new ReasonerQueryImplCumulativeIterator(feederSub.merge(partialSub, cache.isExplanationTracked()), nextList, subGoals, cache);
             return hasNext();
         }
         return false;
@@ -77,7 +77,7 @@ class ReasonerQueryImplCumulativeIterator extends ReasonerQueryIterator{
     @Override
     public Answer next() {
         Answer sub = queryIterator.next();
-        sub = sub.merge(partialSub, true);
+        sub = sub.merge(partialSub, cache.isExplanationTracked());
         return sub;
     }
 }
@@ -27,6 +27,7 @@ import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -64,9 +65,9 @@ class ReasonerQueryImplIterator extends ReasonerQueryIterator {
                                               Set<ReasonerAtomicQuery> subGoals,
                                               QueryCache<ReasonerAtomicQuery> cache){
         if (!query.isRuleResolvable()){
-            return query.getMatchQuery().stream()
-                    .map(at -> at.explain(new JoinExplanation(query, at)))
-                    .iterator();
+            Stream<Answer> answers = query.getMatchQuery().stream();
+            if (cache.isExplanationTracked()) answers = answers.map(at -> at.explain(new JoinExplanation(query, at)));
+            return answers.iterator();
         }
 
         LinkedList<ReasonerQueryImpl> queries = query.getResolutionPlan();
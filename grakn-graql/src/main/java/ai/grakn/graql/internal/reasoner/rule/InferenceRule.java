@@ -62,11 +62,15 @@ public class InferenceRule {
     private final ConceptId ruleId;
     private final ReasonerQueryImpl body;
     private final ReasonerAtomicQuery head;
+    private final int stratum;
+    private final boolean requiresFixpoint;
 
     private int priority = Integer.MAX_VALUE;
 
     public InferenceRule(Rule rule, GraknGraph graph){
         ruleId = rule.getId();
+        stratum = graph.admin().ruleCache().getStratum(rule);
+        requiresFixpoint = graph.admin().ruleCache().requiresFixpoint(rule);
         //TODO simplify once changes propagated to rule objects
         body = ReasonerQueries.create(conjunction(rule.getLHS().admin()), graph);
         head = ReasonerQueries.atomic(conjunction(rule.getRHS().admin()), graph);
@@ -79,6 +83,8 @@ public class InferenceRule {
 
     public InferenceRule(InferenceRule r){
         this.ruleId = r.getRuleId();
+        this.stratum = r.getStratum();
+        this.requiresFixpoint = r.requiresFixpoint();
         this.body = ReasonerQueries.create(r.getBody());
         this.head = ReasonerQueries.atomic(r.getHead());
     }
@@ -123,6 +129,16 @@ public class InferenceRule {
 
     public ConceptId getRuleId(){ return ruleId;}
 
+    /**
+     * @return stratum of the rule in the rule dependency graph, rules only depend on rules of the same or lower strata
+     */
+    public int getStratum(){ return stratum;}
+
+    /**
+     * @return true if the rule is recursive or depends on a recursive rule, so its answers need the iterative fixpoint
+     */
+    public boolean requiresFixpoint(){ return requiresFixpoint;}
+
     /**
      * @return true if head and body do not share any variables
      */
@@ -79,10 +79,10 @@ public class ReasonerUtils {
     /**
      *
      * @param graph to be checked against
-     * @return set of inference rule contained in the graph
+     * @return set of inference rule contained in the graph, as found in the rule cache of the session
      */
     public static Set<Rule> getRules(GraknGraph graph) {
-        return new HashSet<>(graph.admin().getMetaRuleInference().instances());
+        return new HashSet<>(graph.admin().ruleCache().getInferenceRules());
     }
 
     /**
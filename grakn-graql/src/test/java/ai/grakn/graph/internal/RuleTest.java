@@ -22,25 +22,42 @@ import ai.grakn.Grakn;
 import ai.grakn.GraknGraph;
 import ai.grakn.GraknSession;
 import ai.grakn.GraknTxType;
+import ai.grakn.concept.Concept;
+import ai.grakn.concept.ConceptId;
+import ai.grakn.concept.Entity;
 import ai.grakn.concept.EntityType;
+import ai.grakn.concept.Label;
+import ai.grakn.concept.Relation;
+import ai.grakn.concept.RelationType;
+import ai.grakn.concept.Role;
 import ai.grakn.concept.Rule;
 import ai.grakn.concept.RuleType;
 import ai.grakn.exception.GraphOperationException;
 import ai.grakn.exception.InvalidGraphException;
+import ai.grakn.graph.admin.RuleCache;
 import ai.grakn.graql.Pattern;
 import ai.grakn.util.ErrorMessage;
+import ai.grakn.util.Schema;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Ignore;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import java.util.Collection;
+
 import static ai.grakn.util.ErrorMessage.NULL_VALUE;
 import static ai.grakn.util.Schema.VertexProperty.RULE_LHS;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.hasSize;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 //NOTE: This test is inside the graql module due to the inability to have graql constructs inside the graph module
 public class RuleTest {
@@ -124,6 +141,209 @@ public class RuleTest {
         assertEquals(rule1, rule2);
     }
 
+    @Test
+    public void whenRulesAreCommitted_TheRuleCacheFindsThemInLaterTransactions() throws InvalidGraphException{
+        graknGraph.putEntityType("cached-type1");
+        graknGraph.putEntityType("cached-type2");
+        lhs = graknGraph.graql().parsePattern("$x isa cached-type1");
+        rhs = graknGraph.graql().parsePattern("$x isa cached-type2");
+        Rule rule = graknGraph.admin().getMetaRuleInference().putRule(lhs, rhs);
+        graknGraph.commit();
+
+        graknGraph = session.open(GraknTxType.WRITE);
+        RuleCache ruleCache = graknGraph.admin().ruleCache();
+        assertThat(ruleCache.getRulesOfConclusion(Label.of("cached-type2")), contains(rule));
+        assertThat(ruleCache.getRulesOfConclusion(Label.of("cached-type1")), empty());
+        assertThat(ruleCache.getInferenceRules(), hasItem(rule));
+        graknGraph.close();
+
+        graknGraph = session.open(GraknTxType.WRITE);
+        assertThat(graknGraph.admin().ruleCache().getRulesOfConclusion(Label.of("cached-type2")), contains(rule));
+    }
+
+    @Test
+    public void whenAddingARuleAfterTheRulesAreCached_TheRuleCacheIncludesTheNewRule() throws InvalidGraphException{
+        graknGraph.putEntityType("uncached-type1");
+        graknGraph.putEntityType("uncached-type2");
+        graknGraph.commit();
+
+        graknGraph = session.open(GraknTxType.WRITE);
+        assertThat(graknGraph.admin().ruleCache().getRulesOfConclusion(Label.of("uncached-type2")), empty());
+        lhs = graknGraph.graql().parsePattern("$x isa uncached-type1");
+        rhs = graknGraph.graql().parsePattern("$x isa uncached-type2");
+        Rule rule = graknGraph.admin().getMetaRuleInference().putRule(lhs, rhs);
+        assertThat(graknGraph.admin().ruleCache().getInferenceRules(), hasItem(rule));
+        graknGraph.commit();
+
+        graknGraph = session.open(GraknTxType.WRITE);
+        assertThat(graknGraph.admin().ruleCache().getRulesOfConclusion(Label.of("uncached-type2")), contains(rule));
+    }
+
+    @Test
+    public void whenRulesDependOnEachOther_TheRuleCacheKnowsTheirStrataAndWhichTypesAreRecursive() throws InvalidGraphException{
+        graknGraph.putEntityType("dependency-type1");
+        graknGraph.putEntityType("dependency-type2");
+        graknGraph.putEntityType("dependency-type3");
+        graknGraph.putEntityType("dependency-type4");
+        Rule rule1 = putRule("dependency-type1", "dependency-type2");
+        Rule rule2 = putRule("dependency-type2", "dependency-type3");
+        Rule rule3 = putRule("dependency-type3", "dependency-type4");
+        Rule rule4 = putRule("dependency-type4", "dependency-type3");
+        graknGraph.commit();
+
+        graknGraph = session.open(GraknTxType.WRITE);
+        RuleCache ruleCache = graknGraph.admin().ruleCache();
+        assertEquals(0, ruleCache.getStratum(graknGraph.getConcept(rule1.getId())));
+        assertEquals(1, ruleCache.getStratum(graknGraph.getConcept(rule2.getId())));
+        assertEquals(2, ruleCache.getStratum(graknGraph.getConcept(rule3.getId())));
+        assertEquals(2, ruleCache.getStratum(graknGraph.getConcept(rule4.getId())));
+        assertFalse(ruleCache.isRecursive(Label.of("dependency-type2")));
+        assertTrue(ruleCache.isRecursive(Label.of("dependency-type3")));
+        assertTrue(ruleCache.isRecursive(Label.of("dependency-type4")));
+    }
+
+    @Test
+    public void whenARuleDependsOnARecursiveRule_OnlyThatRuleAndTheRecursiveRulesRequireAFixpoint() throws InvalidGraphException{
+        graknGraph.putEntityType("fixpoint-type1");
+        graknGraph.putEntityType("fixpoint-type2");
+        graknGraph.putEntityType("fixpoint-type3");
+        graknGraph.putEntityType("fixpoint-type4");
+        Rule rule1 = putRule("fixpoint-type1", "fixpoint-type2");
+        Rule rule2 = putRule("fixpoint-type2", "fixpoint-type3");
+        Rule rule3 = putRule("fixpoint-type3", "fixpoint-type3");
+        Rule rule4 = putRule("fixpoint-type3", "fixpoint-type4");
+        graknGraph.commit();
+
+        graknGraph = session.open(GraknTxType.WRITE);
+        RuleCache ruleCache = graknGraph.admin().ruleCache();
+        assertFalse(ruleCache.requiresFixpoint(graknGraph.getConcept(rule1.getId())));
+        assertFalse(ruleCache.requiresFixpoint(graknGraph.getConcept(rule2.getId())));
+        assertTrue(ruleCache.requiresFixpoint(graknGraph.getConcept(rule3.getId())));
+        assertTrue(ruleCache.requiresFixpoint(graknGraph.getConcept(rule4.getId())));
+    }
+
+    @Test
+    public void whenRulesFormALongChain_TheRuleCacheComputesTheirStrata() throws InvalidGraphException{
+        int chainLength = 1000;
+        graknGraph.putEntityType("chain-type0");
+        Rule[] chain = new Rule[chainLength];
+        for (int i = 0; i < chainLength; i++) {
+            graknGraph.putEntityType("chain-type" + (i + 1));
+            chain[i] = putRule("chain-type" + i, "chain-type" + (i + 1));
+        }
+        graknGraph.commit();
+
+        graknGraph = session.open(GraknTxType.WRITE);
+        RuleCache ruleCache = graknGraph.admin().ruleCache();
+        for (int i = 0; i < chainLength; i++) {
+            assertEquals(i, ruleCache.getStratum(graknGraph.getConcept(chain[i].getId())));
+        }
+        assertFalse(ruleCache.isRecursive(Label.of("chain-type" + chainLength)));
+    }
+
+    @Test
+    public void whenARuleDependsOnATypeWhichCanNeverHaveInstances_TheRuleIsNotSatisfiable() throws InvalidGraphException{
+        graknGraph.putEntityType("abstract-type").setAbstract(true);
+        graknGraph.putEntityType("concrete-type1");
+        graknGraph.putEntityType("concrete-type2");
+        Rule unsatisfiableRule = putRule("abstract-type", "concrete-type1");
+        Rule satisfiableRule = putRule("concrete-type1", "concrete-type2");
+        graknGraph.commit();
+
+        graknGraph = session.open(GraknTxType.WRITE);
+        RuleCache ruleCache = graknGraph.admin().ruleCache();
+        assertFalse(ruleCache.isSatisfiable(graknGraph.getConcept(unsatisfiableRule.getId())));
+        assertTrue(ruleCache.isSatisfiable(graknGraph.getConcept(satisfiableRule.getId())));
+    }
+
+    private Rule putRule(String hypothesisType, String conclusionType){
+        Pattern hypothesis = graknGraph.graql().parsePattern("$x isa " + hypothesisType);
+        Pattern conclusion = graknGraph.graql().parsePattern("$x isa " + conclusionType);
+        return graknGraph.admin().getMetaRuleInference().putRule(hypothesis, conclusion);
+    }
+
+    @Test
+    public void whenReadingARuleInDifferentTransactions_ThePatternsAreOnlyParsedOnce() throws InvalidGraphException{
+        graknGraph.putEntityType("parsed-type1");
+        graknGraph.putEntityType("parsed-type2");
+        lhs = graknGraph.graql().parsePattern("$x isa parsed-type1");
+        rhs = graknGraph.graql().parsePattern("$x isa parsed-type2");
+        ConceptId ruleId = graknGraph.admin().getMetaRuleInference().putRule(lhs, rhs).getId();
+        graknGraph.commit();
+
+        graknGraph = session.open(GraknTxType.WRITE);
+        Pattern parsedLhs = graknGraph.<Rule>getConcept(ruleId).getLHS();
+        graknGraph.close();
+
+        graknGraph = session.open(GraknTxType.WRITE);
+        assertSame(parsedLhs, graknGraph.<Rule>getConcept(ruleId).getLHS());
+    }
+
+    @Test
+    public void whenDeletingDataARuleDependsOn_TheMaterialisedInferencesOfTheRuleAreDeleted() throws InvalidGraphException{
+        Role friend = graknGraph.putRole("friend");
+        Role acquaintance = graknGraph.putRole("acquaintance");
+        graknGraph.putRelationType("friendship").relates(friend);
+        RelationType knows = graknGraph.putRelationType("knows").relates(acquaintance);
+        EntityType person = graknGraph.putEntityType("person").plays(friend).plays(acquaintance);
+        lhs = graknGraph.graql().parsePattern("(friend: $x, friend: $y) isa friendship");
+        rhs = graknGraph.graql().parsePattern("(acquaintance: $x, acquaintance: $y) isa knows");
+        ConceptId ruleId = graknGraph.admin().getMetaRuleInference().putRule(lhs, rhs).getId();
+        graknGraph.getRelationType("friendship").addRelation()
+                .addRolePlayer(friend, person.addEntity())
+                .addRolePlayer(friend, person.addEntity());
+        graknGraph.commit();
+
+        graknGraph = session.open(GraknTxType.WRITE);
+        graknGraph.graql().infer(true).materialise(true).parse("match (acquaintance: $x, acquaintance: $y) isa knows;").execute();
+        graknGraph.commit();
+
+        graknGraph = session.open(GraknTxType.WRITE);
+        knows = graknGraph.getRelationType("knows");
+        assertThat(knows.instances(), hasSize(1));
+        RelationImpl inferred = (RelationImpl) knows.instances().iterator().next();
+        assertEquals(ruleId.getValue(), inferred.vertex().property(Schema.VertexProperty.INFERRED_BY));
+        graknGraph.getRelationType("friendship").instances().forEach(Concept::delete);
+        graknGraph.commit();
+
+        graknGraph = session.open(GraknTxType.WRITE);
+        assertThat(graknGraph.getRelationType("knows").instances(), empty());
+    }
+
+    @Test
+    public void whenDeletingDataARuleDependsOn_OnlyTheInferencesSupportedByTheDeletedDataAreDeleted() throws InvalidGraphException{
+        Role friend = graknGraph.putRole("supported-friend");
+        Role acquaintance = graknGraph.putRole("supported-acquaintance");
+        RelationType friendship = graknGraph.putRelationType("supported-friendship").relates(friend);
+        graknGraph.putRelationType("supported-knows").relates(acquaintance);
+        EntityType person = graknGraph.putEntityType("supported-person").plays(friend).plays(acquaintance);
+        lhs = graknGraph.graql().parsePattern("(supported-friend: $x, supported-friend: $y) isa supported-friendship");
+        rhs = graknGraph.graql().parsePattern("(supported-acquaintance: $x, supported-acquaintance: $y) isa supported-knows");
+        graknGraph.admin().getMetaRuleInference().putRule(lhs, rhs);
+        ConceptId deletedFriendship = friendship.addRelation()
+                .addRolePlayer(friend, person.addEntity())
+                .addRolePlayer(friend, person.addEntity()).getId();
+        Entity keptFriend = person.addEntity();
+        friendship.addRelation()
+                .addRolePlayer(friend, keptFriend)
+                .addRolePlayer(friend, person.addEntity());
+        graknGraph.commit();
+
+        graknGraph = session.open(GraknTxType.WRITE);
+        graknGraph.graql().infer(true).materialise(true).parse("match (supported-acquaintance: $x, supported-acquaintance: $y) isa supported-knows;").execute();
+        graknGraph.commit();
+
+        graknGraph = session.open(GraknTxType.WRITE);
+        assertThat(graknGraph.getRelationType("supported-knows").instances(), hasSize(2));
+        graknGraph.getConcept(deletedFriendship).delete();
+        graknGraph.commit();
+
+        graknGraph = session.open(GraknTxType.WRITE);
+        Collection<Relation> knows = graknGraph.getRelationType("supported-knows").instances();
+        assertThat(knows, hasSize(1));
+        assertThat(knows.iterator().next().rolePlayers(), hasItem(keptFriend));
+    }
+
     @Ignore //This is ignored because we currently have no way to determine if patterns with different variables name are equivalent
     @Test
     public void whenAddingDuplicateRulesOfTheSameTypeWithDifferentPatternVariables_ReturnTheSameRule(){
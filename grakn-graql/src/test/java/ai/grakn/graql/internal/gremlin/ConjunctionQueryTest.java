@@ -22,9 +22,13 @@ package ai.grakn.graql.internal.gremlin;
 import ai.grakn.GraknGraph;
 import ai.grakn.concept.ConceptId;
 import ai.grakn.concept.Label;
+import ai.grakn.concept.ResourceType;
 import ai.grakn.concept.Type;
+import ai.grakn.graph.admin.GraknAdmin;
+import ai.grakn.graph.admin.GraphStatistics;
 import ai.grakn.graql.Graql;
 import ai.grakn.graql.Pattern;
+import ai.grakn.graql.ValuePredicate;
 import ai.grakn.graql.Var;
 import ai.grakn.graql.VarPattern;
 import ai.grakn.graql.admin.Conjunction;
@@ -36,6 +40,8 @@ import org.hamcrest.Matcher;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.Optional;
+
 import static ai.grakn.graql.Graql.and;
 import static ai.grakn.graql.Graql.eq;
 import static ai.grakn.graql.Graql.gt;
@@ -64,6 +70,11 @@ public class ConjunctionQueryTest {
     public void setUp() {
         graph = mock(GraknGraph.class);
 
+        // Statistics are not known, so the planner falls back to its default estimates
+        GraknAdmin admin = mock(GraknAdmin.class);
+        when(graph.admin()).thenReturn(admin);
+        when(admin.statistics()).thenReturn(mock(GraphStatistics.class));
+
         Type resourceTypeWithoutSubTypesMock = mock(Type.class);
         doReturn(ImmutableList.of(resourceTypeWithoutSubTypesMock)).when(resourceTypeWithoutSubTypesMock).subs();
 
@@ -149,6 +160,29 @@ public class ConjunctionQueryTest {
         assertThat(x.isa(resourceTypeWithoutSubTypes).val(eq(y)), not(usesResourceIndex(x, y)));
     }
 
+    @Test
+    public void whenGraphHasARangeIndexAndVarHasARangePredicate_UseRangeIndex() {
+        when(graph.admin().isValueRangeIndexed(ResourceType.DataType.LONG)).thenReturn(true);
+        assertThat(x.val(gt(10)), usesRangeIndex(x, gt(10)));
+    }
+
+    @Test
+    public void whenGraphDoesNotHaveARangeIndexForTheDataTypeOfTheRangePredicate_DoNotUseRangeIndex() {
+        when(graph.admin().isValueRangeIndexed(ResourceType.DataType.LONG)).thenReturn(true);
+        assertThat(x.val(gt("abc")), not(usesRangeIndex(x, gt("abc"))));
+    }
+
+    @Test
+    public void whenGraphDoesNotHaveARangeIndex_DoNotUseRangeIndex() {
+        assertThat(x.val(gt(10)), not(usesRangeIndex(x, gt(10))));
+    }
+
+    @Test
+    public void whenVarHasASubstringPredicate_DoNotUseRangeIndex() {
+        when(graph.admin().isValueRangeIndexed(ResourceType.DataType.STRING)).thenReturn(true);
+        assertThat(x.val(Graql.contains(literalValue)), not(usesRangeIndex(x, Graql.contains(literalValue))));
+    }
+
     private Matcher<Pattern> usesResourceIndex() {
         return usesResourceIndex(x, literalValue);
     }
@@ -161,4 +195,13 @@ public class ConjunctionQueryTest {
             return new ConjunctionQuery(conjunction, graph).getEquivalentFragmentSets();
         });
     }
-}
\ No newline at end of file
+
+    private Matcher<Pattern> usesRangeIndex(Var varName, ValuePredicate predicate) {
+        Fragment rangeIndexFragment = Fragments.rangeIndexedValue(varName, predicate.admin(), Optional.empty());
+
+        return feature(hasItem(contains(rangeIndexFragment)), "fragment sets", pattern -> {
+            Conjunction<VarPatternAdmin> conjunction = pattern.admin().getDisjunctiveNormalForm().getPatterns().iterator().next();
+            return new ConjunctionQuery(conjunction, graph).getEquivalentFragmentSets();
+        });
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.graql.internal.gremlin;
+
+import ai.grakn.concept.ConceptId;
+import ai.grakn.concept.Label;
+import ai.grakn.graql.Graql;
+import ai.grakn.graql.Var;
+import ai.grakn.graql.internal.gremlin.fragment.Fragment;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static ai.grakn.graql.internal.gremlin.sets.EquivalentFragmentSets.id;
+import static ai.grakn.graql.internal.gremlin.sets.EquivalentFragmentSets.isa;
+import static ai.grakn.graql.internal.gremlin.sets.EquivalentFragmentSets.label;
+import static ai.grakn.graql.internal.gremlin.sets.EquivalentFragmentSets.neq;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+
+public class ConjunctionShapeTest {
+
+    private static final Var x = Graql.var("x");
+    private static final Var y = Graql.var("y");
+    private static final Var z = Graql.var("z");
+    private static final Var a = Graql.var("a");
+    private static final Var b = Graql.var("b");
+    private static final Var c = Graql.var("c");
+
+    private static final Label person = Label.of("person");
+    private static final Label movie = Label.of("movie");
+
+    @Test
+    public void whenConjunctionsOnlyDifferByVarNamesAndIds_TheyHaveTheSameShape() {
+        ConjunctionShape shape = ConjunctionShape.of(personWithId(x, y, "123"));
+        ConjunctionShape otherShape = ConjunctionShape.of(personWithId(a, b, "456"));
+
+        assertEquals(shape.description(), otherShape.description());
+    }
+
+    @Test
+    public void whenConjunctionsDifferByLabels_TheyHaveDifferentShapes() {
+        ConjunctionShape personShape = ConjunctionShape.of(ImmutableSet.of(isa(x, y), label(y, person)));
+        ConjunctionShape movieShape = ConjunctionShape.of(ImmutableSet.of(isa(x, y), label(y, movie)));
+
+        assertNotEquals(personShape.description(), movieShape.description());
+    }
+
+    @Test
+    public void whenConjunctionsDifferByStructure_TheyHaveDifferentShapes() {
+        ConjunctionShape shape = ConjunctionShape.of(ImmutableSet.of(isa(x, z), isa(y, z), neq(x, y)));
+        ConjunctionShape otherShape = ConjunctionShape.of(ImmutableSet.of(isa(x, z), isa(y, z), neq(x, z)));
+
+        assertNotEquals(shape.description(), otherShape.description());
+    }
+
+    @Test
+    public void whenUsingAPlanFromAConjunctionOfTheSameShape_ReturnTheCorrespondingFragments() {
+        Set<EquivalentFragmentSet> fragmentSets = personWithId(x, y, "123");
+        Set<EquivalentFragmentSet> otherFragmentSets = personWithId(a, b, "456");
+
+        ConjunctionShape shape = ConjunctionShape.of(fragmentSets);
+        ConjunctionShape otherShape = ConjunctionShape.of(otherFragmentSets);
+
+        List<Fragment> plan = ImmutableList.of(
+                fragment(fragmentSets, "[id]"), fragment(fragmentSets, "-[isa]->"), fragment(fragmentSets, "[label")
+        );
+
+        List<Fragment> expected = ImmutableList.of(
+                fragment(otherFragmentSets, "[id]"),
+                fragment(otherFragmentSets, "-[isa]->"),
+                fragment(otherFragmentSets, "[label")
+        );
+
+        assertEquals(Optional.of(expected), otherShape.fragments(shape.describePlan(plan)));
+    }
+
+    @Test
+    public void whenUsingAPlanFromAConjunctionOfADifferentShape_ReturnNothing() {
+        Set<EquivalentFragmentSet> fragmentSets = personWithId(x, y, "123");
+        ConjunctionShape shape = ConjunctionShape.of(fragmentSets);
+        ConjunctionShape otherShape = ConjunctionShape.of(ImmutableSet.of(isa(a, b), label(b, movie)));
+
+        List<Fragment> plan = ImmutableList.of(fragment(fragmentSets, "[label"), fragment(fragmentSets, "<-[isa]-"));
+
+        assertFalse(otherShape.fragments(shape.describePlan(plan)).isPresent());
+    }
+
+    private static Set<EquivalentFragmentSet> personWithId(Var instance, Var type, String conceptId) {
+        return ImmutableSet.of(id(instance, ConceptId.of(conceptId)), isa(instance, type), label(type, person));
+    }
+
+    private static Fragment fragment(Set<EquivalentFragmentSet> fragmentSets, String shapePrefix) {
+        return fragmentSets.stream()
+                .flatMap(EquivalentFragmentSet::stream)
+                .filter(fragment -> fragment.getShape().startsWith(shapePrefix))
+                .findAny()
+                .get();
+    }
+}
@@ -18,10 +18,18 @@
 
 package ai.grakn.graql.internal.gremlin;
 
+import ai.grakn.Grakn;
 import ai.grakn.GraknGraph;
+import ai.grakn.GraknSession;
+import ai.grakn.GraknTxType;
 import ai.grakn.concept.ConceptId;
+import ai.grakn.concept.Entity;
+import ai.grakn.concept.EntityType;
 import ai.grakn.concept.Label;
 import ai.grakn.concept.Role;
+import ai.grakn.graph.admin.GraknAdmin;
+import ai.grakn.graph.admin.GraphStatistics;
+import ai.grakn.graph.admin.QueryPlanCache;
 import ai.grakn.graql.Graql;
 import ai.grakn.concept.RelationType;
 import ai.grakn.graql.Pattern;
@@ -45,6 +53,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.UUID;
 import java.util.stream.Stream;
 
 import static ai.grakn.graql.Graql.and;
@@ -93,6 +102,12 @@ public class GraqlTraversalTest {
     public static void setUp() {
         graph = mock(GraknGraph.class);
 
+        // Statistics are not known, so the planner falls back to its default estimates
+        GraknAdmin admin = mock(GraknAdmin.class);
+        when(graph.admin()).thenReturn(admin);
+        when(admin.statistics()).thenReturn(mock(GraphStatistics.class));
+        when(admin.queryPlanCache()).thenReturn(mock(QueryPlanCache.class));
+
         // We have to mock out the `subTypes` call because the shortcut edge optimisation checks it
 
         Label wifeLabel = Label.of("wife");
@@ -135,6 +150,47 @@ public class GraqlTraversalTest {
         assertFaster(connectedDoubleIsa, disconnectedDoubleIsa);
     }
 
+    @Test
+    public void testComplexityIsaOfSmallTypeVsIsaOfLargeType() {
+        GraqlTraversal smallTypeTraversal = traversal(yId, inIsa(y, x, Optional.of(10L)));
+        GraqlTraversal largeTypeTraversal = traversal(yId, inIsa(y, x, Optional.of(40_000_000L)));
+        assertFaster(smallTypeTraversal, largeTypeTraversal);
+    }
+
+    @Test
+    public void whenATypeHasFewerInstances_ThePlanNavigatesToItsInstancesFirst() {
+        GraknSession session = Grakn.session(Grakn.IN_MEMORY, "a" + UUID.randomUUID().toString().replaceAll("-", ""));
+
+        try (GraknGraph tx = session.open(GraknTxType.WRITE)) {
+            Role r1 = tx.putRole("r1");
+            Role r2 = tx.putRole("r2");
+            RelationType link = tx.putRelationType("link").relates(r1).relates(r2);
+            EntityType small = tx.putEntityType("small").plays(r1).plays(r2);
+            EntityType big = tx.putEntityType("big").plays(r1).plays(r2);
+
+            for (int i = 0; i < 300; i++) {
+                Entity instance = big.addEntity();
+                if (i < 3) link.addRelation().addRolePlayer(r1, small.addEntity()).addRolePlayer(r2, instance);
+            }
+            tx.commit();
+        }
+
+        try (GraknGraph tx = session.open(GraknTxType.READ)) {
+            assertEquals(Optional.of(3L), tx.admin().statistics().instanceCount(Label.of("small")));
+            assertEquals(Optional.of(300L), tx.admin().statistics().instanceCount(Label.of("big")));
+
+            // The small type plays either role, so the plan is driven by the counts rather than by the pattern
+            Pattern smallFirst = and(var("x").isa("small"), var("y").isa("big"), var().rel("r1", "x").rel("r2", "y"));
+            Pattern smallSecond = and(var("x").isa("big"), var("y").isa("small"), var().rel("r1", "x").rel("r2", "y"));
+
+            Label expected = Label.of("small");
+            assertEquals(Optional.of(expected), GreedyTraversalPlan.createTraversal(smallFirst.admin(), tx).getShardedType());
+            assertEquals(Optional.of(expected), GreedyTraversalPlan.createTraversal(smallSecond.admin(), tx).getShardedType());
+        } finally {
+            session.close();
+        }
+    }
+
     @Test
     public void testGloballyOptimalIsFasterThanLocallyOptimal() {
         GraqlTraversal locallyOptimalSpecificInstance = traversal(yId, yTypeOfX, xId);
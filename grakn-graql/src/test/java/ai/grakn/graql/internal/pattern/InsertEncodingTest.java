@@ -0,0 +1,148 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.graql.internal.pattern;
+
+import ai.grakn.concept.ConceptId;
+import ai.grakn.graql.Graql;
+import ai.grakn.graql.InsertQuery;
+import ai.grakn.graql.QueryBuilder;
+import ai.grakn.graql.admin.VarPatternAdmin;
+import ai.grakn.graql.internal.pattern.property.ValueProperty;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import static ai.grakn.graql.Graql.insert;
+import static ai.grakn.graql.Graql.label;
+import static ai.grakn.graql.Graql.match;
+import static ai.grakn.graql.Graql.var;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class InsertEncodingTest {
+
+    private static final Logger LOG = LoggerFactory.getLogger(InsertEncodingTest.class);
+
+    @Test
+    public void whenEncodingAndDecodingInsertQueries_TheVarsAreUnchanged() {
+        List<InsertQuery> queries = ImmutableList.of(
+                insert(var("x").isa("person").has("name", "Alice").has("age", 27L)),
+                insert(var().id(ConceptId.of("123")).has("height", 1.8).has("alive", true)),
+                insert(var().isa("movie").has("release-date", LocalDateTime.of(1000, 11, 12, 13, 14, 15, 123_456))),
+                insert(var().rel("husband", "x").rel(var("y")).isa("marriage"), var("x").id("1"), var("y").id("2")),
+                insert(var("x").label("person").isa(label("entity")))
+        );
+
+        List<Collection<VarPatternAdmin>> decoded = InsertEncoding.decode(InsertEncoding.encode(queries));
+
+        assertEquals(queries.size(), decoded.size());
+        for (int i = 0; i < queries.size(); i++) {
+            assertEquals(ImmutableSet.copyOf(queries.get(i).admin().getVars()), ImmutableSet.copyOf(decoded.get(i)));
+        }
+    }
+
+    @Test
+    public void whenEncodingNumbers_TheyHaveTheSameTypesAsWhenParsed() {
+        InsertQuery query = insert(var().has("age", 27).has("height", 1.8f));
+        InsertQuery parsed = Graql.parse(query.toString());
+
+        Collection<VarPatternAdmin> decoded = InsertEncoding.decode(InsertEncoding.encode(ImmutableList.of(query))).get(0);
+
+        assertEquals(values(parsed.admin().getVars()), values(decoded));
+    }
+
+    @Test
+    public void whenAnInsertQueryOnlyInsertsData_ItIsEncodable() {
+        assertTrue(InsertEncoding.isEncodable(insert(var().isa("person").has("name", "Bob"))));
+    }
+
+    @Test
+    public void whenAnInsertQueryHasAMatch_ItIsNotEncodable() {
+        assertFalse(InsertEncoding.isEncodable(match(var("x").isa("person")).insert(var("x").has("name", "Bob"))));
+    }
+
+    @Test
+    public void whenAnInsertQueryDefinesOntology_ItIsNotEncodable() {
+        assertFalse(InsertEncoding.isEncodable(insert(label("person").sub("entity").plays("husband"))));
+    }
+
+    @Test
+    public void whenAQueryIsNotAnInsertQuery_ItIsNotEncodable() {
+        assertFalse(InsertEncoding.isEncodable(match(var("x").isa("person")).delete("x")));
+    }
+
+    /**
+     * Compares the cost of reading inserts from their encoding against parsing them, as the engine does for queries
+     * sent by the loader.
+     */
+    @Test
+    public void benchmarkDecodingAgainstParsing() {
+        List<InsertQuery> queries = ImmutableList.copyOf(generateInserts(2_000));
+        List<String> printed = queries.stream().map(InsertQuery::toString).collect(toList());
+        String encoded = InsertEncoding.encode(queries);
+        QueryBuilder builder = Graql.withoutGraph().infer(false);
+
+        long parseTime = 0;
+        long decodeTime = 0;
+        for (int i = 0; i < 5; i++) {
+            long start = System.nanoTime();
+            List<InsertQuery> parsed = printed.stream().map(builder::<InsertQuery>parse).collect(toList());
+            parseTime += System.nanoTime() - start;
+
+            start = System.nanoTime();
+            List<Collection<VarPatternAdmin>> decoded = InsertEncoding.decode(encoded);
+            decodeTime += System.nanoTime() - start;
+
+            assertEquals(parsed.size(), decoded.size());
+        }
+
+        LOG.info("Parsing {} inserts took {}ms, decoding took {}ms, encoded size {} bytes, printed size {} chars",
+                queries.size(), parseTime / 5_000_000, decodeTime / 5_000_000,
+                encoded.length(), printed.stream().mapToInt(String::length).sum());
+    }
+
+    private static Set<Object> values(Collection<VarPatternAdmin> vars) {
+        return vars.stream()
+                .flatMap(var -> var.getInnerVars().stream())
+                .flatMap(var -> var.getProperties(ValueProperty.class))
+                .map(property -> property.getPredicate().equalsValue().get())
+                .collect(toSet());
+    }
+
+    private static List<InsertQuery> generateInserts(int numInserts) {
+        ImmutableList.Builder<InsertQuery> inserts = ImmutableList.builder();
+        for (int i = 0; i < numInserts; i++) {
+            inserts.add(insert(
+                    var("p" + i).isa("person").has("name", "person " + i).has("age", (long) i),
+                    var().rel("employee", var("p" + i)).rel("employer", var().id(ConceptId.of(Integer.toString(i % 10)))).isa("employment")
+            ));
+        }
+        return inserts.build();
+    }
+}
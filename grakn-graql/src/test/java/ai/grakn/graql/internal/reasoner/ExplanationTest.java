@@ -69,7 +69,7 @@ public class ExplanationTest {
     public static void onStartup() throws Exception {
         assumeTrue(GraknTestSetup.usingTinker());
         GraknGraph graph = geoGraph.graph();
-        iqb = graph.graql().infer(true).materialise(false);
+        iqb = graph.graql().infer(true).materialise(false).explain(true);
         polibuda = getConcept(graph, "name", "Warsaw-Polytechnics");
         uw = getConcept(graph, "name", "University-of-Warsaw");
         warsaw = getConcept(graph, "name", "Warsaw");
@@ -206,7 +206,7 @@ public class ExplanationTest {
     @Test
     public void testExplainingQueryContainingContradiction2(){
         GraknGraph expGraph = explanationGraph.graph();
-        QueryBuilder eiqb = expGraph.graql().infer(true);
+        QueryBuilder eiqb = expGraph.graql().infer(true).explain(true);
 
         Concept a1 = getConcept(expGraph, "name", "a1");
         Concept a2 = getConcept(expGraph, "name", "a2");
@@ -223,7 +223,7 @@ public class ExplanationTest {
     @Test
     public void testExplainingConjunctions(){
         GraknGraph expGraph = explanationGraph.graph();
-        QueryBuilder eiqb = expGraph.graql().infer(true);
+        QueryBuilder eiqb = expGraph.graql().infer(true).explain(true);
 
         String queryString = "match " +
                 "(role1: $x, role2: $w) isa inferredRelation;" +
@@ -30,6 +30,7 @@ import ai.grakn.graql.admin.VarPatternAdmin;
 import ai.grakn.graql.internal.pattern.Patterns;
 import ai.grakn.graql.internal.reasoner.utils.ReasonerUtils;
 import ai.grakn.graql.internal.reasoner.cache.LazyQueryCache;
+import ai.grakn.graql.internal.reasoner.cache.QueryCache;
 import ai.grakn.graql.internal.reasoner.explanation.RuleExplanation;
 import ai.grakn.graql.internal.reasoner.query.QueryAnswerStream;
 import ai.grakn.graql.internal.reasoner.query.QueryAnswers;
@@ -54,6 +55,7 @@ import static ai.grakn.graql.internal.reasoner.query.QueryAnswerStream.join;
 import static java.util.stream.Collectors.toSet;
 import static junit.framework.TestCase.assertTrue;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assume.assumeTrue;
 
 public class LazyTest {
@@ -159,6 +161,33 @@ public class LazyTest {
         assertEquals(collect.size(), 40);
     }
 
+    @Test
+    public void testHashJoin(){
+        GraknGraph graph = geoGraph.graph();
+        String patternString = "{(geo-entity: $x, entity-location: $y) isa is-located-in;}";
+        String patternString2 = "{(geo-entity: $y, entity-location: $z) isa is-located-in;}";
+
+        ReasonerAtomicQuery query = ReasonerQueries.atomic(conjunction(patternString, graph), graph);
+        ReasonerAtomicQuery query2 = ReasonerQueries.atomic(conjunction(patternString2, graph), graph);
+        ImmutableSet<Var> joinVars = ImmutableSet.copyOf(Sets.intersection(query.getVarNames(), query2.getVarNames()));
+
+        Set<Answer> nestedLoopJoin = join(
+                query.getMatchQuery().admin().stream(),
+                query2.getMatchQuery().admin().stream(),
+                joinVars).collect(toSet());
+        Set<Answer> hashJoinBuildingLeft = QueryAnswerStream.hashJoin(
+                query.getMatchQuery().admin().stream(),
+                query2.getMatchQuery().admin().stream(),
+                joinVars, true).collect(toSet());
+        Set<Answer> hashJoinBuildingRight = QueryAnswerStream.hashJoin(
+                query.getMatchQuery().admin().stream(),
+                query2.getMatchQuery().admin().stream(),
+                joinVars, false).collect(toSet());
+
+        assertEquals(nestedLoopJoin, hashJoinBuildingLeft);
+        assertEquals(nestedLoopJoin, hashJoinBuildingRight);
+    }
+
     @Test
     public void testKnownFilter(){
         GraknGraph graph = geoGraph.graph();
@@ -172,6 +201,64 @@ public class LazyTest {
         assertEquals(count, 0);
     }
 
+    @Test
+    public void testMergeDifferential(){
+        GraknGraph graph = geoGraph.graph();
+        String patternString = "{(geo-entity: $x, entity-location: $y) isa is-located-in;}";
+        String patternString2 = "{(geo-entity: $y, entity-location: $z) isa is-located-in;}";
+
+        ReasonerAtomicQuery query = ReasonerQueries.atomic(conjunction(patternString, graph), graph);
+        ReasonerAtomicQuery query2 = ReasonerQueries.atomic(conjunction(patternString2, graph), graph);
+        Set<Answer> answers = query.getMatchQuery().admin().stream().collect(toSet());
+
+        LazyQueryCache<ReasonerAtomicQuery> cache = new LazyQueryCache<>();
+        LazyQueryCache<ReasonerAtomicQuery> dCache = new LazyQueryCache<>();
+        dCache.record(query, answers.stream());
+        cache.mergeDifferential(dCache);
+
+        assertEquals(answers, cache.getAnswerStream(query).collect(toSet()));
+        assertEquals(answers.size(), dCache.answerSize(Sets.newHashSet(query)));
+
+        //the inverse answer maps kept by the answer tables are the same as the ones built from the cached answers
+        LazyQueryCache<ReasonerAtomicQuery> plainCache = new LazyQueryCache<>();
+        plainCache.record(query, answers.stream());
+        assertEquals(plainCache.getInverseAnswerMap(query), cache.getInverseAnswerMap(query));
+        assertEquals(plainCache.getInverseAnswerMap(query2), cache.getInverseAnswerMap(query2));
+
+        //answers already known are not part of the new differential
+        dCache.record(query2, cache.getAnswerStream(query2));
+        cache.mergeDifferential(dCache);
+
+        assertEquals(answers, cache.getAnswerStream(query).collect(toSet()));
+        assertEquals(0, dCache.answerSize(Sets.newHashSet(query)));
+    }
+
+    @Test
+    public void testBoundedQueryCache(){
+        GraknGraph graph = geoGraph.graph();
+        String patternString = "{(geo-entity: $x, entity-location: $y) isa is-located-in;}";
+        String patternString2 = "{$x isa city;}";
+
+        ReasonerAtomicQuery query = ReasonerQueries.atomic(conjunction(patternString, graph), graph);
+        ReasonerAtomicQuery query2 = ReasonerQueries.atomic(conjunction(patternString2, graph), graph);
+        Set<Answer> answers = query.getMatchQuery().admin().stream().collect(toSet());
+        Set<Answer> answers2 = query2.getMatchQuery().admin().stream().collect(toSet());
+
+        QueryCache<ReasonerAtomicQuery> cache = new QueryCache<>(answers.size(), q -> true);
+        cache.record(query, answers.stream());
+        assertEquals(answers.size(), cache.answerCount());
+
+        cache.record(query2, answers2.stream());
+        assertFalse(cache.contains(query));
+        assertTrue(cache.contains(query2));
+        assertEquals(1, cache.evictionCount());
+        assertEquals(answers2.size(), cache.answerCount());
+
+        //evicted queries are recomputed rather than cached again
+        assertEquals(answers, cache.record(query, answers.stream()).collect(toSet()));
+        assertFalse(cache.contains(query));
+    }
+
     @Test
     public void testLazy()  {
         final int N = 20;
@@ -24,9 +24,11 @@ import ai.grakn.test.graphs.AdmissionsGraph;
 import ai.grakn.test.graphs.GeoGraph;
 import ai.grakn.graql.Graql;
 import ai.grakn.graql.MatchQuery;
+import ai.grakn.graql.admin.Atomic;
 import ai.grakn.graql.admin.Conjunction;
 import ai.grakn.graql.admin.VarPatternAdmin;
 import ai.grakn.graql.internal.pattern.Patterns;
+import ai.grakn.graql.internal.reasoner.atom.Atom;
 import ai.grakn.graql.internal.reasoner.query.ReasonerQueries;
 import ai.grakn.graql.internal.reasoner.query.ReasonerQueryImpl;
 import ai.grakn.test.GraphContext;
@@ -38,6 +40,10 @@ import org.junit.BeforeClass;
 import org.junit.ClassRule;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import static java.util.stream.Collectors.toSet;
@@ -237,6 +243,34 @@ public class QueryTest {
         assertEquals(query, query2);
     }
 
+    @Test //the atom with a bound variable is cheaper and should be resolved first
+    public void testAtomOrder_boundAtomFirst(){
+        GraknGraph graph = geoGraph.graph();
+        Concept poland = getConcept(graph, "name", "Poland");
+        String patternString = "{(geo-entity: $x, entity-location: $y) isa is-located-in;" +
+                "(geo-entity: $y, entity-location: $z) isa is-located-in;" +
+                "$z id '" + poland.getId().getValue() + "';}";
+        ReasonerQueryImpl query = ReasonerQueries.create(conjunction(patternString, graph), graph);
+        List<Atom> order = query.getAtomOrder();
+        assertEquals(2, order.size());
+        assertTrue(order.get(0).getVarNames().contains(Graql.var("z")));
+    }
+
+    @Test //the explanation lists the atoms in resolution order together with the costs they were chosen with
+    public void testAtomOrder_explanationMatchesOrder(){
+        GraknGraph graph = geoGraph.graph();
+        Concept poland = getConcept(graph, "name", "Poland");
+        String patternString = "{(geo-entity: $x, entity-location: $y) isa is-located-in;" +
+                "(geo-entity: $y, entity-location: $z) isa is-located-in;" +
+                "$z id '" + poland.getId().getValue() + "';}";
+        ReasonerQueryImpl query = ReasonerQueries.create(conjunction(patternString, graph), graph);
+        Map<Atomic, Double> explanation = query.explainAtomOrder();
+        assertEquals(query.getAtomOrder(), new ArrayList<>(explanation.keySet()));
+        Atom boundAtom = query.getAtomOrder().get(0);
+        Atom freeAtom = query.getAtomOrder().get(1);
+        assertTrue(explanation.get(boundAtom) < freeAtom.estimatedCost(new HashSet<>()));
+    }
+
     private Conjunction<VarPatternAdmin> conjunction(String patternString, GraknGraph graph){
         Set<VarPatternAdmin> vars = graph.graql().parsePattern(patternString).admin()
                 .getDisjunctiveNormalForm().getPatterns()
@@ -0,0 +1,115 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+
+package ai.grakn.util;
+
+import ai.grakn.Grakn;
+import ai.grakn.GraknGraph;
+import ai.grakn.GraknSession;
+import ai.grakn.GraknTxType;
+import ai.grakn.concept.ConceptId;
+import ai.grakn.concept.EntityType;
+import ai.grakn.graql.MatchQuery;
+import ai.grakn.graql.admin.Answer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static ai.grakn.graql.Graql.match;
+import static ai.grakn.graql.Graql.or;
+import static ai.grakn.graql.Graql.var;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+//NOTE: This test is inside the graql module due to the inability to have graql constructs inside the graph module
+public class ParallelShardScanTest {
+    private GraknSession session;
+    private ExecutorService pool;
+    private Set<ConceptId> expected;
+
+    @Before
+    public void shardAType(){
+        session = Grakn.session(Grakn.IN_MEMORY, "a" + UUID.randomUUID().toString().replaceAll("-", ""));
+        pool = Executors.newSingleThreadExecutor();
+        expected = new HashSet<>();
+
+        try(GraknGraph graph = session.open(GraknTxType.WRITE)) {
+            EntityType person = graph.putEntityType("person");
+            EntityType man = graph.putEntityType("man").sup(person);
+            for (int i = 0; i < 3; i++) {
+                expected.add(person.addEntity().getId());
+                expected.add(man.addEntity().getId());
+                graph.admin().shard(person.getId());
+            }
+            expected.add(person.addEntity().getId());
+            graph.commit();
+        }
+    }
+
+    @After
+    public void closeSession(){
+        pool.shutdown();
+        session.close();
+    }
+
+    @Test
+    public void whenScanningAQueryStartingFromAShardedType_EachShardIsReadSeparatelyAndEveryAnswerIsFound(){
+        MatchQuery query = match(var("x").isa("person"));
+
+        try(GraknGraph graph = session.open(GraknTxType.READ)) {
+            Optional<Set<ConceptId>> shards = query.admin().getShards(graph);
+            assertTrue(shards.isPresent());
+            assertEquals(5, shards.get().size());
+
+            Set<ConceptId> answers = new HashSet<>();
+            for (ConceptId shard : shards.get()) {
+                query.admin().streamShard(graph, shard).forEach(answer -> assertTrue(answers.add(answer.get("x").getId())));
+            }
+            assertEquals(expected, answers);
+        }
+
+        assertEquals(expected, scan(query));
+    }
+
+    @Test
+    public void whenScanningAQueryNotStartingFromAType_TheWholeQueryIsRead(){
+        MatchQuery query = match(or(var("x").isa("person"), var("x").isa("man")));
+
+        try(GraknGraph graph = session.open(GraknTxType.READ)) {
+            assertFalse(query.admin().getShards(graph).isPresent());
+        }
+
+        assertEquals(expected, scan(query));
+    }
+
+    private Set<ConceptId> scan(MatchQuery query){
+        Set<ConceptId> scanned = ConcurrentHashMap.newKeySet();
+        new ParallelShardScan(session, pool).scan(query, (Answer answer) -> scanned.add(answer.get("x").getId()));
+        return scanned;
+    }
+}
@@ -34,6 +34,7 @@ import ai.grakn.engine.factory.EngineGraknGraphFactory;
 import ai.grakn.engine.postprocessing.PostProcessingTask;
 import ai.grakn.engine.postprocessing.UpdatingInstanceCountTask;
 import ai.grakn.engine.tasks.TaskManager;
+import ai.grakn.engine.tasks.connection.RedisConnection;
 import ai.grakn.exception.InvalidGraphException;
 import ai.grakn.test.SparkContext;
 import ai.grakn.test.GraknTestSetup;
@@ -61,6 +62,7 @@ import static mjson.Json.array;
 import static mjson.Json.object;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -72,13 +74,14 @@ public class CommitLogControllerTest {
 
     private static final String TEST_KEYSPACE = "test";
 
-    private static TaskManager manager = mock(TaskManager.class);
+    // Batched submissions are delegated to addTask so the verifications below see every task
+    private static TaskManager manager = mock(TaskManager.class, CALLS_REAL_METHODS);
 
     @ClassRule
     public static SparkContext ctx = SparkContext.withControllers((spark, config) -> {
         GraknTestSetup.startCassandraIfNeeded();
         EngineGraknGraphFactory factory = EngineGraknGraphFactory.create(config.getProperties());
-        new CommitLogController(spark, config.getProperty(GraknEngineConfig.DEFAULT_KEYSPACE_PROPERTY), 100, manager);
+        new CommitLogController(spark, config.getProperty(GraknEngineConfig.DEFAULT_KEYSPACE_PROPERTY), 100, manager, mock(RedisConnection.class));
         new SystemController(factory, spark);
     });
 
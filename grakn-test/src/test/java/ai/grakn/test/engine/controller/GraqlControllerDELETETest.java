@@ -72,6 +72,7 @@ public class GraqlControllerDELETETest {
 
         when(mockQueryBuilder.materialise(anyBoolean())).thenReturn(mockQueryBuilder);
         when(mockQueryBuilder.infer(anyBoolean())).thenReturn(mockQueryBuilder);
+        when(mockQueryBuilder.explain(anyBoolean())).thenReturn(mockQueryBuilder);
         when(mockQueryBuilder.parse(any()))
                 .thenAnswer(invocation -> graphContext.graph().graql().parse(invocation.getArgument(0)));
 
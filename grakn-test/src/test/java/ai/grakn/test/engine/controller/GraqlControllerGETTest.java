@@ -41,7 +41,9 @@ import org.junit.FixMethodOrder;
 import org.junit.Test;
 import org.junit.runners.MethodSorters;
 
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 
 import static ai.grakn.graql.internal.hal.HALBuilder.renderHALArrayData;
 import static ai.grakn.graql.internal.hal.HALUtils.BASETYPE_PROPERTY;
@@ -53,6 +55,7 @@ import static ai.grakn.util.REST.Request.Graql.INFER;
 import static ai.grakn.util.REST.Request.Graql.LIMIT_EMBEDDED;
 import static ai.grakn.util.REST.Request.Graql.MATERIALISE;
 import static ai.grakn.util.REST.Request.Graql.QUERY;
+import static ai.grakn.util.REST.Request.Graql.STREAM;
 import static ai.grakn.util.REST.Request.KEYSPACE;
 import static ai.grakn.util.REST.Response.ContentType.APPLICATION_HAL;
 import static ai.grakn.util.REST.Response.ContentType.APPLICATION_JSON_GRAQL;
@@ -60,9 +63,11 @@ import static ai.grakn.util.REST.Response.ContentType.APPLICATION_TEXT;
 import static ai.grakn.util.REST.Response.EXCEPTION;
 import static ai.grakn.util.REST.Response.Graql.ORIGINAL_QUERY;
 import static ai.grakn.util.REST.Response.Graql.RESPONSE;
+import static java.util.stream.Collectors.toList;
 import static junit.framework.TestCase.assertTrue;
 import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.isEmptyString;
@@ -106,6 +111,7 @@ public class GraqlControllerGETTest {
 
         when(mockQueryBuilder.materialise(anyBoolean())).thenReturn(mockQueryBuilder);
         when(mockQueryBuilder.infer(anyBoolean())).thenReturn(mockQueryBuilder);
+        when(mockQueryBuilder.explain(anyBoolean())).thenReturn(mockQueryBuilder);
         when(mockQueryBuilder.parse(any()))
                 .thenAnswer(invocation -> graphContext.graph().graql().parse(invocation.getArgument(0)));
 
@@ -525,6 +531,38 @@ public class GraqlControllerGETTest {
         assertThat(jsonResponse(response), equalTo(Json.array()));
     }
 
+    @Test
+    public void GETGraqlMatchStreamedWithTextType_ResponseContainsOneLinePerAnswer() {
+        String query = "match $x isa movie;";
+        Response response = sendGETStreamed(query, APPLICATION_TEXT);
+
+        List<String> expectedLines = graphContext.graph().graql().parse(query)
+                .resultsString(Printers.graql(false)).collect(toList());
+
+        assertThat(response.statusCode(), equalTo(200));
+        assertThat(Arrays.asList(response.asString().split("\n")), containsInAnyOrder(expectedLines.toArray()));
+    }
+
+    @Test
+    public void GETGraqlMatchStreamedWithGraqlJsonType_EachLineIsAJsonAnswer() {
+        Response response = sendGETStreamed("match $x isa movie;", APPLICATION_JSON_GRAQL);
+
+        String[] lines = response.asString().split("\n");
+
+        assertThat(response.statusCode(), equalTo(200));
+        assertThat(lines.length, greaterThan(0));
+        for (String line : lines) {
+            assertTrue(Json.read(line).has("x"));
+        }
+    }
+
+    @Test
+    public void GETGraqlMatchStreamedWithHALType_ResponseStatusIs406() {
+        Response response = sendGETStreamed("match $x isa movie;", APPLICATION_HAL);
+
+        assertThat(response.statusCode(), equalTo(406));
+    }
+
     private Response sendGET(String acceptType) {
         return sendGET("match $x isa movie;", acceptType, false, false, -1);
     }
@@ -545,6 +583,17 @@ public class GraqlControllerGETTest {
                 .get(REST.WebPath.Graph.GRAQL);
     }
 
+    private Response sendGETStreamed(String match, String acceptType) {
+        return RestAssured.with()
+                .queryParam(KEYSPACE, mockGraph.getKeyspace())
+                .queryParam(QUERY, match)
+                .queryParam(INFER, false)
+                .queryParam(MATERIALISE, false)
+                .queryParam(STREAM, true)
+                .accept(acceptType)
+                .get(REST.WebPath.Graph.GRAQL);
+    }
+
     protected static String exception(Response response) {
         return response.getBody().as(Json.class, jsonMapper).at(EXCEPTION).asString();
     }
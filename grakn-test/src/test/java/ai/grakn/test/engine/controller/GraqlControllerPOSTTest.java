@@ -73,6 +73,7 @@ public class GraqlControllerPOSTTest {
 
         when(mockQueryBuilder.materialise(anyBoolean())).thenReturn(mockQueryBuilder);
         when(mockQueryBuilder.infer(anyBoolean())).thenReturn(mockQueryBuilder);
+        when(mockQueryBuilder.explain(anyBoolean())).thenReturn(mockQueryBuilder);
         when(mockQueryBuilder.parse(any()))
                 .thenAnswer(invocation -> graphContext.graph().graql().parse(invocation.getArgument(0)));
 
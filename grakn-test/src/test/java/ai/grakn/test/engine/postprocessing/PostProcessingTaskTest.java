@@ -78,7 +78,7 @@ public class PostProcessingTaskTest {
     public void whenPPTaskCalledWithCastingsToPP_PostProcessingPerformCastingsFixCalled(){
         PostProcessingTask task = new PostProcessingTask();
 
-        task.initialize(mockConsumer, mockConfiguration, mockTaskSubmitter, engine.config(), null, engine.server().factory());
+        task.initialize(mockConsumer, mockConfiguration, mockTaskSubmitter, engine.config(), engine.redis(), engine.server().factory());
         task.start();
 
         verify(mockConfiguration, times(2)).json();
@@ -88,7 +88,7 @@ public class PostProcessingTaskTest {
     public void whenPPTaskCalledWithResourcesToPP_PostProcessingPerformResourcesFixCalled(){
         PostProcessingTask task = new PostProcessingTask();
 
-        task.initialize(mockConsumer, mockConfiguration, mockTaskSubmitter, engine.config(), null, engine.server().factory());
+        task.initialize(mockConsumer, mockConfiguration, mockTaskSubmitter, engine.config(), engine.redis(), engine.server().factory());
         task.start();
 
         verify(mockConfiguration, times(2)).json();
@@ -99,8 +99,8 @@ public class PostProcessingTaskTest {
         // Add a bunch of jobs to the cache
         PostProcessingTask task1 = new PostProcessingTask();
         PostProcessingTask task2 = new PostProcessingTask();
-        task1.initialize(mockConsumer, mockConfiguration, mockTaskSubmitter, engine.config(), null, engine.server().factory());
-        task2.initialize(mockConsumer, mockConfiguration, mockTaskSubmitter, engine.config(), null, engine.server().factory());
+        task1.initialize(mockConsumer, mockConfiguration, mockTaskSubmitter, engine.config(), engine.redis(), engine.server().factory());
+        task2.initialize(mockConsumer, mockConfiguration, mockTaskSubmitter, engine.config(), engine.redis(), engine.server().factory());
 
         Thread pp1 = new Thread(task1::start);
         Thread pp2 = new Thread(task2::start);
@@ -17,6 +17,7 @@ import mjson.Json;
 import org.junit.ClassRule;
 import org.junit.Test;
 
+import java.util.Optional;
 import java.util.UUID;
 
 import static ai.grakn.engine.TaskStatus.COMPLETED;
@@ -104,6 +105,12 @@ public class UpdatingThingCountTaskTest {
 
         checkShardCount(keyspace, et1, 2);
         checkShardCount(keyspace, et2, 1);
+
+        //Counts are only written to the graph when sharding, otherwise the instances of the current shard are counted
+        try(GraknGraph graknGraph = Grakn.session(engine.uri(), keyspace).open(GraknTxType.READ)){
+            assertEquals(Optional.of(100_001L), graknGraph.admin().statistics().instanceCount(et1.getLabel()));
+            assertEquals(Optional.of(0L), graknGraph.admin().statistics().instanceCount(et2.getLabel()));
+        }
     }
     private void checkShardCount(String keyspace, Concept concept, int expectedValue){
         try(GraknGraph graknGraph = Grakn.session(engine.uri(), keyspace).open(GraknTxType.WRITE)){
@@ -21,11 +21,18 @@ package ai.grakn.test.engine.tasks.connection;
 import ai.grakn.concept.ConceptId;
 import ai.grakn.engine.tasks.connection.RedisConnection;
 import ai.grakn.test.EngineContext;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
 import org.junit.BeforeClass;
 import org.junit.ClassRule;
 import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
@@ -33,6 +40,7 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 /**
  * <p>
@@ -43,6 +51,8 @@ import static org.junit.Assert.assertEquals;
  */
 public class RedisConnectionTest {
 
+    private static final Logger LOG = LoggerFactory.getLogger(RedisConnectionTest.class);
+
     @ClassRule
     public static final EngineContext engine = EngineContext.startInMemoryServer();
     private static RedisConnection redis;
@@ -91,4 +101,100 @@ public class RedisConnectionTest {
         assertEquals(0, redis.getCount(RedisConnection.getKeyNumInstances(keyspace1, ciri)));
         assertEquals(1, redis.getCount(RedisConnection.getKeyNumInstances(keyspace2, ciri)));
     }
+
+    @Test
+    public void whenAddingPostProcessingJobsOnTheSameIndex_TheyAreMergedIntoOneJob(){
+        String keyspace = "pp";
+        ConceptId roach = ConceptId.of("Roach");
+        ConceptId ciri = ConceptId.of("Ciri");
+
+        redis.addPostProcessingJobs(keyspace, ImmutableMap.of("index", ImmutableSet.of(roach)));
+        redis.addPostProcessingJobs(keyspace, ImmutableMap.of("index", ImmutableSet.of(ciri)));
+        assertEquals(1, redis.getPostProcessingBacklog(keyspace));
+
+        Map<String, Set<ConceptId>> jobs = redis.takePostProcessingJobs(keyspace, 10);
+        assertEquals(ImmutableMap.of("index", ImmutableSet.of(roach, ciri)), jobs);
+        assertEquals(0, redis.getPostProcessingBacklog(keyspace));
+    }
+
+    @Test
+    public void whenTakingPostProcessingJobs_NoMoreThanTheRequestedNumberAreTaken(){
+        String keyspace = "pp-batch";
+        redis.addPostProcessingJobs(keyspace, ImmutableMap.of(
+                "index1", ImmutableSet.of(ConceptId.of("1")),
+                "index2", ImmutableSet.of(ConceptId.of("2")),
+                "index3", ImmutableSet.of(ConceptId.of("3"))
+        ));
+
+        assertEquals(2, redis.takePostProcessingJobs(keyspace, 2).size());
+        assertEquals(1, redis.takePostProcessingJobs(keyspace, 2).size());
+        assertTrue(redis.takePostProcessingJobs(keyspace, 2).isEmpty());
+    }
+
+    @Test
+    public void whenAdjustingManyCountsAtOnce_EachCountIsAdjusted(){
+        String key1 = RedisConnection.getKeyNumInstances("batch", ConceptId.of("Roach"));
+        String key2 = RedisConnection.getKeyNumInstances("batch", ConceptId.of("Ciri"));
+
+        redis.adjustCounts(ImmutableMap.of(key1, 3L, key2, -2L));
+        redis.adjustCounts(ImmutableMap.of(key1, 4L));
+
+        assertEquals(ImmutableMap.of(key1, 7L, key2, -2L), redis.getCounts(ImmutableList.of(key1, key2)));
+    }
+
+    @Test
+    public void whenAdjustingCountsAboveTheThreshold_ReportThoseConceptsForSharding(){
+        String keyspace = "threshold";
+        ConceptId roach = ConceptId.of("Roach");
+        ConceptId ciri = ConceptId.of("Ciri");
+        ConceptId geralt = ConceptId.of("Geralt");
+
+        // Ciri already has two shards, so can hold twice as many instances
+        redis.adjustCount(RedisConnection.getKeyNumShards(keyspace, ciri), 2);
+
+        Set<ConceptId> toShard = redis.adjustCountsAndCheckThreshold(
+                keyspace, ImmutableMap.of(roach, 11L, ciri, 11L, geralt, 5L), 10);
+
+        assertEquals(ImmutableSet.of(roach), toShard);
+        assertEquals(11, redis.getCount(RedisConnection.getKeyNumInstances(keyspace, ciri)));
+        assertEquals(5, redis.getCount(RedisConnection.getKeyNumInstances(keyspace, geralt)));
+    }
+
+    /**
+     * Compares updating the counts of a commit log one concept at a time against updating them all in one round trip
+     */
+    @Test
+    public void benchmarkAdjustingCountsOneByOneAgainstAllAtOnce(){
+        int numConcepts = 200;
+        int numCommitLogs = 50;
+        long threshold = 10_000;
+
+        Map<ConceptId, Long> counts = new HashMap<>();
+        for (int i = 0; i < numConcepts; i++) {
+            counts.put(ConceptId.of("concept-" + i), 1L);
+        }
+
+        long start = System.nanoTime();
+        for (int log = 0; log < numCommitLogs; log++) {
+            counts.forEach((conceptId, count) -> {
+                long numShards = Math.max(1, redis.getCount(RedisConnection.getKeyNumShards("one-by-one", conceptId)));
+                long numInstances = redis.adjustCount(RedisConnection.getKeyNumInstances("one-by-one", conceptId), count);
+                assertTrue(numInstances <= threshold * numShards);
+            });
+        }
+        long oneByOne = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (int log = 0; log < numCommitLogs; log++) {
+            assertTrue(redis.adjustCountsAndCheckThreshold("all-at-once", counts, threshold).isEmpty());
+        }
+        long allAtOnce = System.nanoTime() - start;
+
+        LOG.info("Updating {} counts for {} commit logs took {}ms one by one and {}ms all at once",
+                numConcepts, numCommitLogs, oneByOne / 1_000_000, allAtOnce / 1_000_000);
+
+        counts.keySet().forEach(conceptId -> assertEquals(
+                redis.getCount(RedisConnection.getKeyNumInstances("one-by-one", conceptId)),
+                redis.getCount(RedisConnection.getKeyNumInstances("all-at-once", conceptId))));
+    }
 }
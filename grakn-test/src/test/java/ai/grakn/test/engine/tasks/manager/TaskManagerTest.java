@@ -23,6 +23,7 @@ import ai.grakn.engine.tasks.TaskCheckpoint;
 import ai.grakn.engine.tasks.TaskManager;
 import ai.grakn.engine.tasks.TaskSchedule;
 import ai.grakn.engine.tasks.TaskState;
+import ai.grakn.engine.tasks.TaskSubmission;
 import ai.grakn.engine.tasks.mock.EndlessExecutionMockTask;
 import ai.grakn.engine.tasks.mock.MockBackgroundTask;
 import ai.grakn.engine.tasks.mock.ShortExecutionMockTask;
@@ -113,6 +114,18 @@ public class TaskManagerTest {
         );
     }
 
+    @Property(trials=10)
+    public void afterSubmittingTogether_AllNonFailingTasksAreRecordedAsCompleted(List<TaskState> tasks, TaskManager manager) {
+        // Schedule tasks in a single batch
+        manager.addTasks(tasks.stream().map(task -> TaskSubmission.of(task, configuration(task))).collect(toList()));
+
+        waitForDoneStatus(manager.storage(), tasks);
+
+        completableTasks(tasks).forEach(task ->
+                assertThat("Task " + task + " should have completed.", manager.storage().getState(task).status(), is(COMPLETED))
+        );
+    }
+
     @Property(trials=10)
     public void afterRunning_AllFailingTasksAreRecordedAsFailed(List<TaskState> tasks, TaskManager manager) {
         // Schedule tasks
@@ -96,7 +96,7 @@ public class HALBuilderTest {
     }
 
     private Json getHALRepresentation(GraknGraph graph, String queryString) {
-        Query<?> query = graph.graql().materialise(false).infer(true).parse(queryString);
+        Query<?> query = graph.graql().materialise(false).infer(true).explain(true).parse(queryString);
         return renderHALArrayData((MatchQuery) query, 0, 5);
     }
 
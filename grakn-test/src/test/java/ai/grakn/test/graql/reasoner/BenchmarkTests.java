@@ -20,22 +20,30 @@ package ai.grakn.test.graql.reasoner;
 
 import ai.grakn.GraknGraph;
 import ai.grakn.concept.Concept;
+import ai.grakn.concept.EntityType;
 import ai.grakn.test.graphs.DiagonalGraph;
 import ai.grakn.test.graphs.MatrixGraphII;
 import ai.grakn.test.graphs.TransitivityChainGraph;
 import ai.grakn.test.graphs.TransitivityMatrixGraph;
+import ai.grakn.graql.Graql;
 import ai.grakn.graql.MatchQuery;
 import ai.grakn.graql.QueryBuilder;
+import ai.grakn.graql.Var;
 import ai.grakn.graql.admin.Answer;
 import ai.grakn.graql.admin.Conjunction;
 import ai.grakn.graql.admin.PatternAdmin;
+import ai.grakn.graql.admin.Unifier;
 import ai.grakn.graql.admin.VarPatternAdmin;
 import ai.grakn.graql.internal.pattern.Patterns;
+import ai.grakn.graql.internal.query.QueryAnswer;
+import ai.grakn.graql.internal.reasoner.UnifierImpl;
 import ai.grakn.test.GraphContext;
+import com.google.common.collect.ImmutableMap;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 
@@ -305,6 +313,70 @@ public class BenchmarkTests {
         System.out.println("limit " + limit + " results = " + results.size() + " answerTime: " + answerTime);
     }
 
+    /**
+     * throughput of the answer operations the reasoner performs for every intermediate answer:
+     * unifying answers with rule heads and merging answers when joining
+     */
+    @Test
+    public void testAnswerUnifyAndMerge(){
+        final int N = 1000000;
+
+        GraknGraph graph = graphContext.graph();
+        EntityType node = graph.putEntityType("node");
+        List<Concept> concepts = new ArrayList<>();
+        for (int i = 0; i < 10; i++) concepts.add(node.addEntity());
+
+        Var x = Graql.var("x"), y = Graql.var("y"), z = Graql.var("z");
+        Unifier unifier = new UnifierImpl(ImmutableMap.of(x, Graql.var("a"), y, Graql.var("b")));
+        List<Answer> answers = new ArrayList<>();
+        for (int i = 0; i < concepts.size(); i++) {
+            answers.add(new QueryAnswer(ImmutableMap.of(
+                    x, concepts.get(i),
+                    y, concepts.get((i + 1) % concepts.size()))));
+        }
+        Answer other = new QueryAnswer(ImmutableMap.of(z, concepts.get(0)));
+
+        long startTime = System.currentTimeMillis();
+        long size = 0;
+        for (int i = 0; i < N; i++) {
+            size += answers.get(i % answers.size()).unify(unifier).size();
+        }
+        System.out.println("unify: " + N + " answers in " + (System.currentTimeMillis() - startTime) + " ms");
+        assertEquals(2L * N, size);
+
+        startTime = System.currentTimeMillis();
+        size = 0;
+        for (int i = 0; i < N; i++) {
+            size += answers.get(i % answers.size()).merge(other).size();
+        }
+        System.out.println("merge: " + N + " answers in " + (System.currentTimeMillis() - startTime) + " ms");
+        assertEquals(3L * N, size);
+    }
+
+    /**
+     * Compares the throughput of an inferred query with and without tracking the explanations of the answers.
+     * Uses the 2-rule transitive matrix of {@link #testTransitiveMatrixLinear()}.
+     */
+    @Test
+    public void testExplanationOverhead(){
+        final int N = 10;
+
+        graphContext.load(MatrixGraphII.get(N, N));
+        GraknGraph graph = graphContext.graph();
+        String queryString = "match (P-from: $x, P-to: $y) isa P;";
+
+        QueryBuilder iqb = graph.graql().infer(true).materialise(false);
+        long startTime = System.currentTimeMillis();
+        List<Answer> answers = iqb.explain(false).<MatchQuery>parse(queryString).execute();
+        System.out.println("without explanations: " + answers.size() + " results in " + (System.currentTimeMillis() - startTime) + " ms");
+
+        startTime = System.currentTimeMillis();
+        List<Answer> explainedAnswers = iqb.explain(true).<MatchQuery>parse(queryString).execute();
+        System.out.println("with explanations: " + explainedAnswers.size() + " results in " + (System.currentTimeMillis() - startTime) + " ms");
+
+        assertEquals(answers.stream().collect(toSet()), explainedAnswers.stream().collect(toSet()));
+    }
+
     private Conjunction<VarPatternAdmin> conjunction(Conjunction<PatternAdmin> pattern){
         return Patterns.conjunction(pattern.admin().getVars());
     }